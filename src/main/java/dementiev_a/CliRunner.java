@@ -1,6 +1,9 @@
 package dementiev_a;
 
 import dementiev_a.command.*;
+import dementiev_a.exception.BatchSaveException;
+import dementiev_a.exception.CelebrationIdsLoadException;
+import dementiev_a.exception.LogWriteException;
 import dementiev_a.io.IO;
 
 import java.util.*;
@@ -9,9 +12,12 @@ public class CliRunner implements Runner {
     private static final List<Command> commandsList = List.of(
             new GetAllEventsCommand(),
             new AddEventCommand(),
+            new ImportEventsCommand(),
             new GetEventCelebrationsCommand(),
             new AddCelebrationCommand(),
             new GetEventsByDateCommand(),
+            new GetEventsOnThisDayCommand(),
+            new SearchCommand(),
             new EditEventCommand(),
             new EditCelebrationCommand(),
             new DeleteEventCommand(),
@@ -36,7 +42,11 @@ public class CliRunner implements Runner {
             if (command == null) {
                 continue;
             }
-            commandsMap.get(command).execute();
+            try {
+                commandsMap.get(command).execute();
+            } catch (BatchSaveException | CelebrationIdsLoadException | LogWriteException e) {
+                IO.printError(e.getMessage());
+            }
             IO.printEmptyLine();
         }
     }
@@ -1,7 +1,32 @@
 package dementiev_a;
 
+import dementiev_a.data.Backend;
+import dementiev_a.data.log.FsyncPolicy;
+import dementiev_a.data.log.RecordLog;
+import dementiev_a.data.manager.DatabaseManager;
+import dementiev_a.data.manager.PostgresManager;
+import dementiev_a.data.repository.CelebrationLogRepository;
+import dementiev_a.data.repository.EventLogRepository;
+import dementiev_a.data.repository.WriteBehindBuffer;
+
+import java.nio.file.Path;
+
 public class Main {
     public static void main(String[] args) {
+        WriteBehindBuffer.setEnabled(Boolean.getBoolean("memorableDates.writeBehind"));
+        Backend.setCurrent(createBackend(PostgresManager.lazy()));
         new CliRunner().run();
     }
-}
\ No newline at end of file
+
+    static Backend createBackend(DatabaseManager databaseManager) {
+        String logDirectory = System.getProperty("memorableDates.logDirectory");
+        if (logDirectory == null) {
+            return Backend.database(databaseManager);
+        }
+        RecordLog.setDefaultDirectory(Path.of(logDirectory));
+        RecordLog.setDefaultFsyncPolicy(FsyncPolicy.valueOf(
+                System.getProperty("memorableDates.logFsync", FsyncPolicy.GROUP_COMMIT.name())
+        ));
+        return Backend.log(EventLogRepository.getInstance(), CelebrationLogRepository.getInstance());
+    }
+}
@@ -14,8 +14,8 @@ public class DeleteEventCommand implements Command {
     public void execute() {
         try {
             long eventId = Long.parseLong(IO.readLine("Input event ID:"));
-            EventService.getInstance().deleteEventById(eventId);
-            IO.print("Event was successfully deleted");
+            int deletedCelebrationsCount = EventService.getInstance().deleteEventById(eventId);
+            IO.print("Event and its %d celebrations were successfully deleted".formatted(deletedCelebrationsCount));
         } catch (NumberFormatException e) {
             IO.printError("Wrong ID format");
         } catch (NoEntityException e) {
@@ -1,6 +1,6 @@
 package dementiev_a.command;
 
-import dementiev_a.data.model.Event;
+import dementiev_a.data.model.EventSummary;
 import dementiev_a.io.IO;
 import dementiev_a.service.EventService;
 import dementiev_a.utils.DateUtils;
@@ -8,6 +8,8 @@ import dementiev_a.utils.DateUtils;
 import java.util.List;
 
 public class GetAllEventsCommand implements Command {
+    private static final int PAGE_SIZE = 20;
+    private static final String SHOW_MORE_INPUT = "+";
 
     @Override
     public String getName() {
@@ -16,18 +18,29 @@ public class GetAllEventsCommand implements Command {
 
     @Override
     public void execute() {
-        List<Event> events = EventService.getInstance().getAllEvents();
-        if (events.isEmpty()) {
-            IO.print("No events found");
-            return;
+        Long lastEventId = null;
+        while (true) {
+            List<EventSummary> events = EventService.getInstance().getEventSummariesPage(lastEventId, PAGE_SIZE);
+            if (events.isEmpty() && lastEventId == null) {
+                IO.print("No events found");
+            }
+            events.forEach(event -> {
+                IO.print("%d. %s (%s) - %s".formatted(
+                        event.getId(),
+                        event.getName(),
+                        DateUtils.formatter.format(event.getDate()),
+                        event.getDescription()
+                ));
+            });
+            if (events.size() < PAGE_SIZE) {
+                return;
+            }
+            lastEventId = events.get(events.size() - 1).getId();
+            String input = IO.readLine("Input \"%s\" to show more events or anything else to stop:"
+                    .formatted(SHOW_MORE_INPUT));
+            if (!input.equals(SHOW_MORE_INPUT)) {
+                return;
+            }
         }
-        events.forEach(event -> {
-            IO.print("%d. %s (%s) - %s".formatted(
-                    event.getId(),
-                    event.getName(),
-                    DateUtils.formatter.format(event.getDate()),
-                    event.getDescription()
-            ));
-        });
     }
 }
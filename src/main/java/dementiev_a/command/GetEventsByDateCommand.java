@@ -1,9 +1,9 @@
 package dementiev_a.command;
 
+import dementiev_a.data.model.EventSummary;
 import dementiev_a.io.IO;
 import dementiev_a.service.EventService;
 import dementiev_a.utils.DateUtils;
-import dementiev_a.data.model.Event;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
@@ -20,7 +20,7 @@ public class GetEventsByDateCommand implements Command {
         String input = IO.readLine("Input date (in format of 12.05.2007):");
         try {
             LocalDate date = LocalDate.parse(input, DateUtils.formatter);
-            List<Event> events = EventService.getInstance().getEventsByDate(date);
+            List<EventSummary> events = EventService.getInstance().getEventSummariesByDate(date);
             if (events.isEmpty()) {
                 IO.print("No events on this date");
                 return;
@@ -0,0 +1,41 @@
+package dementiev_a.command;
+
+import dementiev_a.data.model.EventSummary;
+import dementiev_a.io.IO;
+import dementiev_a.service.EventService;
+import dementiev_a.utils.DateUtils;
+
+import java.time.MonthDay;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+public class GetEventsOnThisDayCommand implements Command {
+    @Override
+    public String getName() {
+        return "Get events on this day in all years";
+    }
+
+    @Override
+    public void execute() {
+        String input = IO.readLine("Input day and month (in format of 12.05):");
+        try {
+            MonthDay monthDay = MonthDay.parse(input, DateUtils.monthDayFormatter);
+            List<EventSummary> events = EventService.getInstance().getEventSummariesByMonthDay(monthDay);
+            if (events.isEmpty()) {
+                IO.print("No events on this day");
+                return;
+            }
+            IO.print("Events on " + monthDay.format(DateUtils.monthDayFormatter) + ":");
+            events.forEach(event -> {
+                IO.print("%d. %s (%s) - %s".formatted(
+                        event.getId(),
+                        event.getName(),
+                        DateUtils.formatter.format(event.getDate()),
+                        event.getDescription()
+                ));
+            });
+        } catch (DateTimeParseException e) {
+            IO.printError("Wrong date format");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package dementiev_a.command;
+
+import dementiev_a.data.importer.ImportFileReader;
+import dementiev_a.data.importer.ImportResult;
+import dementiev_a.exception.IdAllocationException;
+import dementiev_a.exception.ImportException;
+import dementiev_a.exception.ImportFormatException;
+import dementiev_a.io.IO;
+import dementiev_a.service.EventService;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+public class ImportEventsCommand implements Command {
+    @Override
+    public String getName() {
+        return "Import events and celebrations from CSV file";
+    }
+
+    @Override
+    public void execute() {
+        IO.print("Every line of the file must be one of:");
+        IO.print(ImportFileReader.EVENT_RECORD + ",<title>,<description>,<date in format of 12.05.2007>");
+        IO.print(ImportFileReader.CELEBRATION_RECORD + ",<title>,<description>,<date in format of 12.05.2007>,<place>");
+        IO.print("Celebrations belong to the closest event above them");
+        try {
+            Path path = Path.of(IO.readLine("Input path to the file:"));
+            ImportResult result = EventService.getInstance().importEvents(path);
+            IO.print("Imported %d events and %d celebrations".formatted(
+                    result.getEventsCount(),
+                    result.getCelebrationsCount()
+            ));
+        } catch (InvalidPathException e) {
+            IO.printError("Wrong path format");
+        } catch (ImportFormatException | ImportException | IdAllocationException e) {
+            IO.printError(e.getMessage());
+        } catch (IOException e) {
+            IO.printError("Error while reading the file");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dementiev_a.command;
+
+import dementiev_a.data.model.SearchResult;
+import dementiev_a.data.model.SearchResultType;
+import dementiev_a.io.IO;
+import dementiev_a.service.SearchService;
+import dementiev_a.utils.DateUtils;
+
+import java.util.List;
+
+public class SearchCommand implements Command {
+    private static final int RESULTS_LIMIT = 20;
+
+    @Override
+    public String getName() {
+        return "Search events and celebrations";
+    }
+
+    @Override
+    public void execute() {
+        String query = IO.readLine("Input search query:");
+        if (query.isBlank()) {
+            IO.printError("Search query should not be empty");
+            return;
+        }
+        List<SearchResult> results = SearchService.getInstance().search(query, RESULTS_LIMIT);
+        if (results.isEmpty()) {
+            IO.print("Nothing found for \"" + query + "\"");
+            return;
+        }
+        results.forEach(result -> {
+            IO.print("%s %d. %s (%s) - %s".formatted(
+                    result.getType() == SearchResultType.EVENT ? "Event" : "Celebration",
+                    result.getId(),
+                    result.getName(),
+                    DateUtils.formatter.format(result.getDate()),
+                    result.getDescription()
+            ));
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package dementiev_a.data;
+
+import dementiev_a.data.importer.Importer;
+import dementiev_a.data.importer.PostgresCopyImporter;
+import dementiev_a.data.importer.RepositoryImporter;
+import dementiev_a.data.manager.DatabaseManager;
+import dementiev_a.data.manager.PostgresManager;
+import dementiev_a.data.repository.*;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class Backend {
+    private static Backend current;
+
+    private final Storage storage;
+    private final Importer importer;
+    private final SearchRepository searchRepository;
+
+    public static synchronized Backend getCurrent() {
+        if (current == null) {
+            current = database(PostgresManager.lazy());
+        }
+        return current;
+    }
+
+    public static synchronized void setCurrent(Backend backend) {
+        current = backend;
+    }
+
+    public static Backend database(DatabaseManager databaseManager) {
+        DatabaseStorage databaseStorage = new DatabaseStorage(databaseManager);
+        Storage storage = WriteBehindBuffer.isEnabled()
+                ? WriteBehindStorage.createDrainedOnShutdown(databaseStorage)
+                : databaseStorage;
+        return new Backend(
+                new CachingStorage(storage),
+                new PostgresCopyImporter(databaseManager),
+                new DatabaseSearchRepository(databaseManager)
+        );
+    }
+
+    public static Backend log(EventLogRepository eventRepository, CelebrationLogRepository celebrationRepository) {
+        InMemorySearchRepository searchRepository = InMemorySearchRepository.getInstance();
+        searchRepository.rebuild(eventRepository, celebrationRepository);
+        Storage storage = new RepositoryStorage(
+                new IndexingEventRepository(eventRepository, searchRepository),
+                new IndexingCelebrationRepository(celebrationRepository, searchRepository)
+        );
+        return new Backend(
+                storage,
+                new RepositoryImporter(storage.getEventRepository(), storage.getCelebrationRepository()),
+                searchRepository
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package dementiev_a.data.importer;
+
+import dementiev_a.data.sequence.Sequence;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+class IdBlockAllocator implements LongSupplier {
+    private final Sequence sequence;
+    private long[] blockStarts = new long[16];
+    private int blocksCount;
+    private long nextId;
+    private int remaining;
+
+    IdBlockAllocator(Sequence sequence) {
+        this.sequence = sequence;
+    }
+
+    @Override
+    public long getAsLong() {
+        if (remaining == 0) {
+            nextId = sequence.nextBlock();
+            remaining = sequence.getBlockSize();
+            if (blocksCount == blockStarts.length) {
+                blockStarts = Arrays.copyOf(blockStarts, blocksCount * 2);
+            }
+            blockStarts[blocksCount++] = nextId;
+        }
+        remaining--;
+        return nextId++;
+    }
+
+    LongSupplier replay() {
+        long[] starts = Arrays.copyOf(blockStarts, blocksCount);
+        int blockSize = sequence.getBlockSize();
+        return new LongSupplier() {
+            private int block = -1;
+            private long nextId;
+            private int remaining;
+
+            @Override
+            public long getAsLong() {
+                if (remaining == 0) {
+                    nextId = starts[++block];
+                    remaining = blockSize;
+                }
+                remaining--;
+                return nextId++;
+            }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package dementiev_a.data.importer;
+
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import dementiev_a.exception.ImportFormatException;
+import dementiev_a.utils.DateUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImportFileReader {
+    public static final String EVENT_RECORD = "event";
+    public static final String CELEBRATION_RECORD = "celebration";
+
+    public interface Visitor {
+        void visitEvent(Event event) throws IOException;
+        void visitCelebration(Celebration celebration) throws IOException;
+    }
+
+    public static void read(Path path, Visitor visitor) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            boolean hasEvent = false;
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = parseLine(line, lineNumber);
+                switch (fields.get(0)) {
+                    case EVENT_RECORD -> {
+                        checkFieldsCount(fields, 4, lineNumber);
+                        visitor.visitEvent(new Event(
+                                fields.get(1),
+                                fields.get(2),
+                                parseDate(fields.get(3), lineNumber)
+                        ));
+                        hasEvent = true;
+                    }
+                    case CELEBRATION_RECORD -> {
+                        checkFieldsCount(fields, 5, lineNumber);
+                        if (!hasEvent) {
+                            throw new ImportFormatException(lineNumber, "celebration goes before any event");
+                        }
+                        visitor.visitCelebration(new Celebration(
+                                0L,
+                                fields.get(1),
+                                fields.get(2),
+                                parseDate(fields.get(3), lineNumber),
+                                fields.get(4)
+                        ));
+                    }
+                    default -> throw new ImportFormatException(
+                            lineNumber, "unknown record type \"%s\"".formatted(fields.get(0))
+                    );
+                }
+            }
+        }
+    }
+
+    private static List<String> parseLine(String line, int lineNumber) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new ImportFormatException(lineNumber, "unclosed quotes");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static void checkFieldsCount(List<String> fields, int expected, int lineNumber) {
+        if (fields.size() != expected) {
+            throw new ImportFormatException(
+                    lineNumber, "expected %d fields but found %d".formatted(expected, fields.size())
+            );
+        }
+    }
+
+    private static LocalDate parseDate(String value, int lineNumber) {
+        try {
+            return LocalDate.parse(value, DateUtils.formatter);
+        } catch (DateTimeParseException e) {
+            throw new ImportFormatException(lineNumber, "wrong date format \"%s\"".formatted(value));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package dementiev_a.data.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportResult {
+    private final long eventsCount;
+    private final long celebrationsCount;
+}
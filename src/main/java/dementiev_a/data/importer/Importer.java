@@ -0,0 +1,8 @@
+package dementiev_a.data.importer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface Importer {
+    ImportResult importFrom(Path path) throws IOException;
+}
@@ -0,0 +1,159 @@
+package dementiev_a.data.importer;
+
+import dementiev_a.data.manager.DatabaseManager;
+import dementiev_a.data.manager.PostgresManager;
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import dementiev_a.data.sequence.DatabaseSequence;
+import dementiev_a.data.sequence.Sequence;
+import dementiev_a.exception.ImportException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+public class PostgresCopyImporter implements Importer {
+    @Getter(lazy = true)
+    private static final PostgresCopyImporter instance = new PostgresCopyImporter();
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final String COPY_EVENTS_SQL =
+            "COPY events (id, name, description, date) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_CELEBRATIONS_SQL =
+            "COPY celebrations (id, name, description, date, place) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_EVENTS_CELEBRATIONS_SQL =
+            "COPY events_celebrations (celebrationId, eventId) FROM STDIN WITH (FORMAT csv)";
+
+    private final DatabaseManager databaseManager;
+    private final Sequence eventSequence;
+    private final Sequence celebrationSequence;
+
+    private PostgresCopyImporter() {
+        this(PostgresManager.lazy());
+    }
+
+    public PostgresCopyImporter(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+        this.eventSequence = new DatabaseSequence(
+                databaseManager, PostgresManager.EVENTS_ID_SEQUENCE, PostgresManager.getIdBlockSize()
+        );
+        this.celebrationSequence = new DatabaseSequence(
+                databaseManager, PostgresManager.CELEBRATIONS_ID_SEQUENCE, PostgresManager.getIdBlockSize()
+        );
+    }
+
+    @Override
+    public ImportResult importFrom(Path path) throws IOException {
+        IdBlockAllocator eventIds = new IdBlockAllocator(eventSequence);
+        IdBlockAllocator celebrationIds = new IdBlockAllocator(celebrationSequence);
+        try (Connection connection = databaseManager.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                long eventsCount = copy(pgConnection, COPY_EVENTS_SQL, path,
+                        writer -> new EventsVisitor(writer, eventIds));
+                long celebrationsCount = copy(pgConnection, COPY_CELEBRATIONS_SQL, path,
+                        writer -> new CelebrationsVisitor(writer, celebrationIds));
+                copy(pgConnection, COPY_EVENTS_CELEBRATIONS_SQL, path,
+                        writer -> new EventsCelebrationsVisitor(writer, eventIds.replay(), celebrationIds.replay()));
+                connection.commit();
+                return new ImportResult(eventsCount, celebrationsCount);
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new ImportException("Error while importing data to database", e);
+        }
+    }
+
+    private long copy(PGConnection connection, String sql, Path path,
+                      Function<Writer, ImportFileReader.Visitor> visitorFactory) throws SQLException, IOException {
+        PGCopyOutputStream copyStream = new PGCopyOutputStream(connection, sql, COPY_BUFFER_SIZE);
+        try {
+            Writer writer = new OutputStreamWriter(copyStream, StandardCharsets.UTF_8);
+            ImportFileReader.read(path, visitorFactory.apply(writer));
+            writer.flush();
+            return copyStream.endCopy();
+        } finally {
+            if (copyStream.isActive()) {
+                copyStream.cancelCopy();
+            }
+        }
+    }
+
+    private static void writeRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] instanceof String value) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(String.valueOf(values[i]));
+            }
+        }
+        writer.write('\n');
+    }
+
+    @RequiredArgsConstructor
+    private static class EventsVisitor implements ImportFileReader.Visitor {
+        private final Writer writer;
+        private final LongSupplier eventIds;
+
+        @Override
+        public void visitEvent(Event event) throws IOException {
+            writeRow(writer, eventIds.getAsLong(), event.getName(), event.getDescription(), event.getDate());
+        }
+
+        @Override
+        public void visitCelebration(Celebration celebration) {
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class CelebrationsVisitor implements ImportFileReader.Visitor {
+        private final Writer writer;
+        private final LongSupplier celebrationIds;
+
+        @Override
+        public void visitEvent(Event event) {
+        }
+
+        @Override
+        public void visitCelebration(Celebration celebration) throws IOException {
+            writeRow(writer, celebrationIds.getAsLong(), celebration.getName(), celebration.getDescription(),
+                    celebration.getDate(), celebration.getPlace());
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class EventsCelebrationsVisitor implements ImportFileReader.Visitor {
+        private final Writer writer;
+        private final LongSupplier eventIds;
+        private final LongSupplier celebrationIds;
+        private long currentEventId;
+
+        @Override
+        public void visitEvent(Event event) {
+            currentEventId = eventIds.getAsLong();
+        }
+
+        @Override
+        public void visitCelebration(Celebration celebration) throws IOException {
+            writeRow(writer, celebrationIds.getAsLong(), currentEventId);
+        }
+    }
+}
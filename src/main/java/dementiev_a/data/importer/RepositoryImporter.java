@@ -0,0 +1,77 @@
+package dementiev_a.data.importer;
+
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import dementiev_a.data.repository.CelebrationRepository;
+import dementiev_a.data.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class RepositoryImporter implements Importer {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final EventRepository eventRepository;
+    private final CelebrationRepository celebrationRepository;
+
+    @Override
+    public ImportResult importFrom(Path path) throws IOException {
+        StagingVisitor staging = new StagingVisitor();
+        ImportFileReader.read(path, staging);
+        staging.apply();
+        return new ImportResult(staging.events.size(), staging.celebrations.size());
+    }
+
+    private class StagingVisitor implements ImportFileReader.Visitor {
+        private final List<Event> events = new ArrayList<>();
+        private final List<Celebration> celebrations = new ArrayList<>();
+        private final List<Event> celebrationsOwners = new ArrayList<>();
+        private final List<Integer> chunkCelebrationsEnds = new ArrayList<>();
+
+        @Override
+        public void visitEvent(Event event) {
+            if (!events.isEmpty() && events.size() % CHUNK_SIZE == 0) {
+                chunkCelebrationsEnds.add(celebrations.size());
+            }
+            events.add(event);
+        }
+
+        @Override
+        public void visitCelebration(Celebration celebration) {
+            celebrations.add(celebration);
+            celebrationsOwners.add(events.get(events.size() - 1));
+        }
+
+        private void apply() {
+            chunkCelebrationsEnds.add(celebrations.size());
+            int celebrationsStart = 0;
+            for (int chunk = 0; chunk < chunkCelebrationsEnds.size(); chunk++) {
+                int celebrationsEnd = chunkCelebrationsEnds.get(chunk);
+                applyChunk(
+                        events.subList(chunk * CHUNK_SIZE, Math.min(events.size(), (chunk + 1) * CHUNK_SIZE)),
+                        celebrations.subList(celebrationsStart, celebrationsEnd),
+                        celebrationsOwners.subList(celebrationsStart, celebrationsEnd)
+                );
+                celebrationsStart = celebrationsEnd;
+            }
+        }
+
+        private void applyChunk(List<Event> events, List<Celebration> celebrations, List<Event> celebrationsOwners) {
+            eventRepository.saveAll(events);
+            for (int i = 0; i < celebrations.size(); i++) {
+                celebrations.get(i).setEventId(celebrationsOwners.get(i).getId());
+            }
+            celebrationRepository.saveAll(celebrations);
+            for (int i = 0; i < celebrations.size(); i++) {
+                celebrationsOwners.get(i).addCelebrationId(celebrations.get(i).getId());
+            }
+            if (!celebrations.isEmpty()) {
+                eventRepository.saveAll(events);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package dementiev_a.data.log;
+
+import dementiev_a.data.model.Celebration;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CelebrationRecordCodec implements RecordCodec<Celebration> {
+    @Getter(lazy = true)
+    private static final CelebrationRecordCodec instance = new CelebrationRecordCodec();
+
+    @Override
+    public void write(Celebration entity, DataOutput out) throws IOException {
+        out.writeLong(entity.getId());
+        out.writeLong(entity.getEventId());
+        RecordCodec.writeNullableString(out, entity.getName());
+        RecordCodec.writeNullableString(out, entity.getDescription());
+        out.writeLong(entity.getDate().toEpochDay());
+        RecordCodec.writeNullableString(out, entity.getPlace());
+    }
+
+    @Override
+    public Celebration read(DataInput in) throws IOException {
+        long id = in.readLong();
+        long eventId = in.readLong();
+        String name = RecordCodec.readNullableString(in);
+        String description = RecordCodec.readNullableString(in);
+        LocalDate date = LocalDate.ofEpochDay(in.readLong());
+        String place = RecordCodec.readNullableString(in);
+        return new Celebration(id, eventId, name, description, date, place);
+    }
+}
@@ -0,0 +1,46 @@
+package dementiev_a.data.log;
+
+import dementiev_a.data.model.Event;
+import dementiev_a.utils.LongHashSet;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Set;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventRecordCodec implements RecordCodec<Event> {
+    @Getter(lazy = true)
+    private static final EventRecordCodec instance = new EventRecordCodec();
+
+    @Override
+    public void write(Event entity, DataOutput out) throws IOException {
+        out.writeLong(entity.getId());
+        RecordCodec.writeNullableString(out, entity.getName());
+        RecordCodec.writeNullableString(out, entity.getDescription());
+        out.writeLong(entity.getDate().toEpochDay());
+        Set<Long> celebrationIds = entity.getCelebrationIds();
+        out.writeInt(celebrationIds.size());
+        for (Long celebrationId : celebrationIds) {
+            out.writeLong(celebrationId);
+        }
+    }
+
+    @Override
+    public Event read(DataInput in) throws IOException {
+        long id = in.readLong();
+        String name = RecordCodec.readNullableString(in);
+        String description = RecordCodec.readNullableString(in);
+        LocalDate date = LocalDate.ofEpochDay(in.readLong());
+        int celebrationsCount = in.readInt();
+        Set<Long> celebrationIds = new LongHashSet();
+        for (int i = 0; i < celebrationsCount; i++) {
+            celebrationIds.add(in.readLong());
+        }
+        return new Event(id, name, description, date, celebrationIds);
+    }
+}
@@ -0,0 +1,7 @@
+package dementiev_a.data.log;
+
+public enum FsyncPolicy {
+    EVERY_WRITE,
+    GROUP_COMMIT,
+    INTERVAL
+}
@@ -0,0 +1,21 @@
+package dementiev_a.data.log;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public interface RecordCodec<M> {
+    void write(M entity, DataOutput out) throws IOException;
+    M read(DataInput in) throws IOException;
+
+    static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,340 @@
+package dementiev_a.data.log;
+
+import dementiev_a.data.model.Model;
+import dementiev_a.io.IO;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
+
+public class RecordLog<M extends Model<Long>> implements AutoCloseable {
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte CLEAR = 3;
+    private static final int SNAPSHOT_MAGIC = 0x4D44534E;
+    private static final int RECORD_OVERHEAD = Integer.BYTES + Byte.BYTES + Integer.BYTES;
+    private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+    private static final int SNAPSHOT_BUFFER_SIZE = 64 * 1024;
+    private static final String LOG_EXTENSION = ".log";
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    @Setter
+    private static Path defaultDirectory = Path.of("memorable-dates-data");
+    @Setter
+    private static FsyncPolicy defaultFsyncPolicy = FsyncPolicy.GROUP_COMMIT;
+    @Setter
+    private static Duration defaultSyncInterval = Duration.ofMillis(100);
+    @Setter
+    private static int defaultCompactionThreshold = 10_000;
+
+    private final Path directory;
+    private final Path logPath;
+    private final Path snapshotPath;
+    private final Path snapshotTempPath;
+    private final RecordCodec<M> codec;
+    @Getter
+    private final FsyncPolicy fsyncPolicy;
+    private final Duration syncInterval;
+    private final int compactionThreshold;
+    private final Object syncLock = new Object();
+    private ScheduledExecutorService syncer;
+    private FileChannel channel;
+    private long appendedRecords;
+    private long syncedRecords;
+    @Getter
+    private long recordsSinceSnapshot;
+    @Getter
+    private long maxId;
+    private boolean closed;
+
+    public RecordLog(Path directory, String name, RecordCodec<M> codec, FsyncPolicy fsyncPolicy,
+                     Duration syncInterval, int compactionThreshold) {
+        this.directory = directory;
+        this.logPath = directory.resolve(name + LOG_EXTENSION);
+        this.snapshotPath = directory.resolve(name + SNAPSHOT_EXTENSION);
+        this.snapshotTempPath = directory.resolve(name + SNAPSHOT_EXTENSION + TEMP_EXTENSION);
+        this.codec = codec;
+        this.fsyncPolicy = fsyncPolicy;
+        this.syncInterval = syncInterval;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public static <M extends Model<Long>> RecordLog<M> createDefault(String name, RecordCodec<M> codec) {
+        return new RecordLog<>(defaultDirectory, name, codec, defaultFsyncPolicy,
+                defaultSyncInterval, defaultCompactionThreshold);
+    }
+
+    public synchronized void open(Consumer<M> onPut, LongConsumer onDelete, Runnable onClear) throws IOException {
+        Files.createDirectories(directory);
+        Files.deleteIfExists(snapshotTempPath);
+        if (Files.exists(snapshotPath)) {
+            readSnapshot(onPut);
+        }
+        long validLength = replayLog(onPut, onDelete, onClear);
+        channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (channel.size() > validLength) {
+            channel.truncate(validLength);
+            channel.force(false);
+        }
+        channel.position(validLength);
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "record-log-syncer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long syncPeriod = Math.max(1, syncInterval.toMillis());
+            syncer.scheduleWithFixedDelay(this::syncQuietly, syncPeriod, syncPeriod, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public long appendPut(M entity) throws IOException {
+        return append(PUT, encode(entity), entity.getId(), 1);
+    }
+
+    public long appendPuts(Collection<M> entities) throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        long batchMaxId = 0;
+        for (M entity : entities) {
+            records.write(frame(PUT, encode(entity)));
+            batchMaxId = Math.max(batchMaxId, entity.getId());
+        }
+        return appendFramed(records.toByteArray(), batchMaxId, entities.size());
+    }
+
+    public long appendDelete(long id) throws IOException {
+        return append(DELETE, ByteBuffer.allocate(Long.BYTES).putLong(id).array(), 0, 1);
+    }
+
+    public long appendClear() throws IOException {
+        return append(CLEAR, new byte[0], 0, 1);
+    }
+
+    public synchronized boolean isCompactionDue() {
+        return recordsSinceSnapshot >= compactionThreshold;
+    }
+
+    public void sync(long position) throws IOException {
+        if (fsyncPolicy != FsyncPolicy.GROUP_COMMIT) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (syncedRecords >= position) {
+                return;
+            }
+            long target;
+            synchronized (this) {
+                target = appendedRecords;
+            }
+            channel.force(false);
+            syncedRecords = target;
+        }
+    }
+
+    public void compact(Collection<M> entities) throws IOException {
+        synchronized (syncLock) {
+            synchronized (this) {
+                writeSnapshot(entities);
+                Files.move(snapshotTempPath, snapshotPath,
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                syncDirectory();
+                channel.truncate(0);
+                channel.force(true);
+                recordsSinceSnapshot = 0;
+                syncedRecords = appendedRecords;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (syncer != null) {
+            syncer.shutdown();
+        }
+        synchronized (syncLock) {
+            synchronized (this) {
+                if (closed || channel == null) {
+                    return;
+                }
+                closed = true;
+                try {
+                    channel.force(true);
+                    channel.close();
+                } catch (IOException e) {
+                    IO.printError("Error while closing the log " + logPath);
+                }
+            }
+        }
+    }
+
+    private long append(byte type, byte[] payload, long id, int count) throws IOException {
+        return appendFramed(frame(type, payload), id, count);
+    }
+
+    private synchronized long appendFramed(byte[] records, long id, int count) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(records);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) {
+            channel.force(false);
+        }
+        maxId = Math.max(maxId, id);
+        appendedRecords += count;
+        recordsSinceSnapshot += count;
+        return appendedRecords;
+    }
+
+    private void syncQuietly() {
+        try {
+            synchronized (syncLock) {
+                long target;
+                synchronized (this) {
+                    if (closed) {
+                        return;
+                    }
+                    target = appendedRecords;
+                }
+                if (target > syncedRecords) {
+                    channel.force(false);
+                    syncedRecords = target;
+                }
+            }
+        } catch (IOException e) {
+            IO.printError("Error while syncing the log " + logPath);
+        }
+    }
+
+    private void readSnapshot(Consumer<M> onPut) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Unknown snapshot format in " + snapshotPath);
+            }
+            maxId = in.readLong();
+            long count = in.readLong();
+            for (long i = 0; i < count; i++) {
+                byte[] record = readRecord(in);
+                if (record == null || record[0] != PUT) {
+                    throw new IOException("Corrupted snapshot " + snapshotPath);
+                }
+                onPut.accept(decode(record));
+            }
+        }
+    }
+
+    private long replayLog(Consumer<M> onPut, LongConsumer onDelete, Runnable onClear) throws IOException {
+        if (!Files.exists(logPath)) {
+            return 0;
+        }
+        long validLength = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(logPath)))) {
+            byte[] record;
+            while ((record = readRecord(in)) != null) {
+                switch (record[0]) {
+                    case PUT -> {
+                        M entity = decode(record);
+                        maxId = Math.max(maxId, entity.getId());
+                        onPut.accept(entity);
+                    }
+                    case DELETE -> onDelete.accept(ByteBuffer.wrap(record, 1, Long.BYTES).getLong());
+                    case CLEAR -> onClear.run();
+                    default -> throw new IOException("Unknown record type in " + logPath);
+                }
+                validLength += RECORD_OVERHEAD + record.length - 1;
+                recordsSinceSnapshot++;
+            }
+        }
+        return validLength;
+    }
+
+    private void writeSnapshot(Collection<M> entities) throws IOException {
+        try (FileChannel snapshot = FileChannel.open(snapshotTempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteArrayOutputStream chunk = new ByteArrayOutputStream(SNAPSHOT_BUFFER_SIZE);
+            DataOutputStream header = new DataOutputStream(chunk);
+            header.writeInt(SNAPSHOT_MAGIC);
+            header.writeLong(maxId);
+            header.writeLong(entities.size());
+            for (M entity : entities) {
+                chunk.write(frame(PUT, encode(entity)));
+                if (chunk.size() >= SNAPSHOT_BUFFER_SIZE) {
+                    writeFully(snapshot, chunk.toByteArray());
+                    chunk.reset();
+                }
+            }
+            writeFully(snapshot, chunk.toByteArray());
+            snapshot.force(true);
+        }
+    }
+
+    private void syncDirectory() {
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private byte[] readRecord(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            if (length < 0 || length > MAX_RECORD_SIZE) {
+                return null;
+            }
+            byte[] record = new byte[Byte.BYTES + length];
+            in.readFully(record);
+            int checksum = in.readInt();
+            return checksum == checksum(record) ? record : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private byte[] encode(M entity) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        codec.write(entity, new DataOutputStream(payload));
+        return payload.toByteArray();
+    }
+
+    private M decode(byte[] record) throws IOException {
+        return codec.read(new DataInputStream(new ByteArrayInputStream(record, 1, record.length - 1)));
+    }
+
+    private static byte[] frame(byte type, byte[] payload) {
+        byte[] record = new byte[Byte.BYTES + payload.length];
+        record[0] = type;
+        System.arraycopy(payload, 0, record, 1, payload.length);
+        return ByteBuffer.allocate(RECORD_OVERHEAD + payload.length)
+                .putInt(payload.length)
+                .put(record)
+                .putInt(checksum(record))
+                .array();
+    }
+
+    private static int checksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
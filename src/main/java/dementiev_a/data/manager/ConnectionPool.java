@@ -0,0 +1,290 @@
+package dementiev_a.data.manager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class ConnectionPool implements AutoCloseable {
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final Set<String> SESSION_SETTERS = Set.of("setReadOnly", "setTransactionIsolation", "setSchema");
+
+    private final ConnectionFactory factory;
+    private final Duration borrowTimeout;
+    private final Duration validationInterval;
+    private final Duration idleTimeout;
+    private final int statementCacheSize;
+    private final Semaphore permits;
+    private final Deque<PooledConnection> idleConnections = new ArrayDeque<>();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    public ConnectionPool(ConnectionFactory factory, int maxSize, Duration borrowTimeout,
+                          Duration validationInterval, Duration idleTimeout, int statementCacheSize) {
+        this.factory = factory;
+        this.borrowTimeout = borrowTimeout;
+        this.validationInterval = validationInterval;
+        this.idleTimeout = idleTimeout;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionPeriod = Math.max(1, idleTimeout.toMillis() / 2);
+        evictor.scheduleAtFixedRate(this::evictIdleConnections, evictionPeriod, evictionPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(borrowTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        try {
+            return takeValidConnection().lend();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public synchronized int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        synchronized (this) {
+            idleConnections.forEach(PooledConnection::closePhysically);
+            idleConnections.clear();
+        }
+    }
+
+    private PooledConnection takeValidConnection() throws SQLException {
+        PooledConnection connection;
+        while ((connection = pollIdleConnection()) != null) {
+            if (connection.isValid()) {
+                return connection;
+            }
+            connection.closePhysically();
+        }
+        Connection physical = factory.create();
+        try {
+            return new PooledConnection(physical);
+        } catch (SQLException | RuntimeException e) {
+            closeQuietly(physical);
+            throw e;
+        }
+    }
+
+    private synchronized PooledConnection pollIdleConnection() {
+        return idleConnections.pollFirst();
+    }
+
+    private void giveBack(PooledConnection connection) {
+        try {
+            if (connection.resetState() && !closed) {
+                synchronized (this) {
+                    idleConnections.addFirst(connection);
+                }
+            } else {
+                connection.closePhysically();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void evictIdleConnections() {
+        long deadline = System.nanoTime() - idleTimeout.toNanos();
+        List<PooledConnection> evicted = new ArrayList<>();
+        synchronized (this) {
+            Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+            while (iterator.hasNext()) {
+                PooledConnection connection = iterator.next();
+                if (connection.lastReturnedAt - deadline < 0) {
+                    iterator.remove();
+                    evicted.add(connection);
+                }
+            }
+        }
+        evicted.forEach(PooledConnection::closePhysically);
+    }
+
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    private class PooledConnection {
+        private final Connection physical;
+        private final Map<String, PreparedStatement> statementCache;
+        private final boolean defaultReadOnly;
+        private final int defaultTransactionIsolation;
+        private final String defaultSchema;
+        private long lastReturnedAt = System.nanoTime();
+        private boolean sessionChanged;
+
+        private PooledConnection(Connection physical) throws SQLException {
+            this.physical = physical;
+            this.defaultReadOnly = physical.isReadOnly();
+            this.defaultTransactionIsolation = physical.getTransactionIsolation();
+            this.defaultSchema = physical.getSchema();
+            this.statementCache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() <= statementCacheSize) {
+                        return false;
+                    }
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+            };
+        }
+
+        private Connection lend() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new ConnectionHandler(this)
+            );
+        }
+
+        private PreparedStatement prepareCached(String sql) throws SQLException {
+            PreparedStatement statement = statementCache.get(sql);
+            if (statement == null || statement.isClosed()) {
+                statement = physical.prepareStatement(sql);
+                statementCache.put(sql, statement);
+            }
+            PreparedStatement cached = statement;
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close")) {
+                            cached.clearParameters();
+                            cached.clearBatch();
+                            return null;
+                        }
+                        return invoke(cached, method, args);
+                    }
+            );
+        }
+
+        private boolean isValid() {
+            if (System.nanoTime() - lastReturnedAt < validationInterval.toNanos()) {
+                return true;
+            }
+            try {
+                return physical.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private boolean resetState() {
+            try {
+                if (physical.isClosed()) {
+                    return false;
+                }
+                if (!physical.getAutoCommit()) {
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }
+                if (sessionChanged) {
+                    physical.setReadOnly(defaultReadOnly);
+                    physical.setTransactionIsolation(defaultTransactionIsolation);
+                    physical.setSchema(defaultSchema);
+                    sessionChanged = false;
+                }
+                lastReturnedAt = System.nanoTime();
+                return true;
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private void closePhysically() {
+            statementCache.values().forEach(ConnectionPool::closeQuietly);
+            statementCache.clear();
+            closeQuietly(physical);
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final PooledConnection connection;
+        private boolean returned;
+
+        private ConnectionHandler(PooledConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!returned) {
+                        returned = true;
+                        giveBack(connection);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return returned || connection.physical.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                    if (returned) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+                    if (SESSION_SETTERS.contains(method.getName())) {
+                        connection.sessionChanged = true;
+                    }
+                    if (method.getName().equals("prepareStatement") && args.length == 1) {
+                        return connection.prepareCached((String) args[0]);
+                    }
+                    return ConnectionPool.invoke(connection.physical, method, args);
+                }
+            }
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package dementiev_a.data.manager;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 
 public interface DatabaseManager {
-    Connection getConnection();
+    Connection getConnection() throws SQLException;
 }
@@ -0,0 +1,201 @@
+package dementiev_a.data.manager;
+
+import dementiev_a.exception.MigrationException;
+import lombok.AllArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.*;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class MigrationRunner {
+    private static final String MIGRATIONS_LIST_FILE = "migrations.list";
+    private static final String NO_TRANSACTION_MARKER = "-- no-transaction";
+    private static final Pattern MIGRATION_NAME_PATTERN = Pattern.compile("V(\\d+)__\\w+\\.sql");
+    private static final Pattern CONCURRENT_INDEX_PATTERN = Pattern.compile(
+            "CREATE\\s+(?:UNIQUE\\s+)?INDEX\\s+CONCURRENTLY\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?(\\w+)",
+            Pattern.CASE_INSENSITIVE
+    );
+    private static final String FIND_INVALID_INDEXES_SQL =
+            "SELECT pg_class.relname FROM pg_index JOIN pg_class ON pg_class.oid = pg_index.indexrelid " +
+                    "WHERE NOT pg_index.indisvalid " +
+                    "AND pg_class.oid IN (SELECT to_regclass(name) FROM unnest(?::text[]) AS name)";
+    private static final long MIGRATION_LOCK_KEY = 0x4D656D446174L;
+
+    private final String location;
+    private final String historyTable;
+
+    public MigrationRunner(String location, String historyTable) {
+        this.location = location;
+        this.historyTable = historyTable;
+    }
+
+    public int migrate(Connection connection) throws SQLException {
+        List<Migration> migrations = loadMigrations();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_advisory_lock(%d)".formatted(MIGRATION_LOCK_KEY));
+            try {
+                statement.execute(("CREATE TABLE IF NOT EXISTS %s (" +
+                        "version INTEGER PRIMARY KEY, " +
+                        "name VARCHAR(128) NOT NULL, " +
+                        "checksum CHAR(64) NOT NULL, " +
+                        "appliedAt TIMESTAMP NOT NULL DEFAULT now()" +
+                        ")").formatted(historyTable));
+                Map<Integer, String> appliedChecksums = findAppliedChecksums(statement);
+                int appliedCount = 0;
+                for (Migration migration : migrations) {
+                    String appliedChecksum = appliedChecksums.get(migration.version);
+                    if (appliedChecksum == null) {
+                        apply(connection, migration);
+                        appliedCount++;
+                    } else if (!appliedChecksum.equals(migration.checksum)) {
+                        throw new MigrationException(
+                                "Migration %s was changed after it had been applied".formatted(migration.name)
+                        );
+                    }
+                }
+                return appliedCount;
+            } finally {
+                statement.execute("SELECT pg_advisory_unlock(%d)".formatted(MIGRATION_LOCK_KEY));
+            }
+        }
+    }
+
+    private Map<Integer, String> findAppliedChecksums(Statement statement) throws SQLException {
+        Map<Integer, String> checksums = new HashMap<>();
+        try (ResultSet result = statement.executeQuery("SELECT version, checksum FROM " + historyTable)) {
+            while (result.next()) {
+                checksums.put(result.getInt("version"), result.getString("checksum"));
+            }
+        }
+        return checksums;
+    }
+
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        boolean transactional = !migration.script.startsWith(NO_TRANSACTION_MARKER);
+        connection.setAutoCommit(!transactional);
+        try (Statement statement = connection.createStatement();
+             PreparedStatement historyStatement = connection.prepareStatement(
+                     "INSERT INTO %s (version, name, checksum) VALUES (?, ?, ?)".formatted(historyTable)
+             )) {
+            if (transactional) {
+                statement.execute(migration.script);
+            } else {
+                List<String> indexNames = findConcurrentIndexNames(migration.script);
+                for (String indexName : findInvalidIndexes(connection, indexNames)) {
+                    statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+                }
+                for (String sql : migration.script.split(";\\s*(\\r?\\n|$)")) {
+                    if (!sql.isBlank()) {
+                        statement.execute(sql);
+                    }
+                }
+                List<String> invalidIndexes = findInvalidIndexes(connection, indexNames);
+                if (!invalidIndexes.isEmpty()) {
+                    throw new MigrationException("Migration %s left invalid indexes %s".formatted(
+                            migration.name, String.join(", ", invalidIndexes)
+                    ));
+                }
+            }
+            historyStatement.setInt(1, migration.version);
+            historyStatement.setString(2, migration.name);
+            historyStatement.setString(3, migration.checksum);
+            historyStatement.executeUpdate();
+            if (transactional) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            if (transactional) {
+                connection.rollback();
+            }
+            throw new MigrationException("Error while applying migration " + migration.name, e);
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static List<String> findConcurrentIndexNames(String script) {
+        List<String> indexNames = new ArrayList<>();
+        Matcher matcher = CONCURRENT_INDEX_PATTERN.matcher(script);
+        while (matcher.find()) {
+            indexNames.add(matcher.group(1));
+        }
+        return indexNames;
+    }
+
+    private static List<String> findInvalidIndexes(Connection connection, List<String> indexNames)
+            throws SQLException {
+        List<String> invalidIndexes = new ArrayList<>();
+        if (indexNames.isEmpty()) {
+            return invalidIndexes;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(FIND_INVALID_INDEXES_SQL)) {
+            statement.setArray(1, connection.createArrayOf("text", indexNames.toArray()));
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    invalidIndexes.add(result.getString(1));
+                }
+            }
+        }
+        return invalidIndexes;
+    }
+
+    private List<Migration> loadMigrations() {
+        List<Migration> migrations = new ArrayList<>();
+        for (String name : readResource(MIGRATIONS_LIST_FILE).split("\\R")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            Matcher matcher = MIGRATION_NAME_PATTERN.matcher(name.strip());
+            if (!matcher.matches()) {
+                throw new MigrationException("Wrong migration file name " + name);
+            }
+            String script = readResource(name.strip());
+            migrations.add(new Migration(Integer.parseInt(matcher.group(1)), name.strip(), script, checksum(script)));
+        }
+        migrations.sort(Comparator.comparingInt(migration -> migration.version));
+        return migrations;
+    }
+
+    private String readResource(String name) {
+        String path = location + "/" + name;
+        InputStream stream = MigrationRunner.class.getClassLoader().getResourceAsStream(path);
+        if (stream == null) {
+            throw new MigrationException("Migration resource " + path + " was not found");
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            StringBuilder content = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                content.append(line).append('\n');
+            }
+            return content.toString();
+        } catch (IOException e) {
+            throw new MigrationException("Error while reading migration resource " + path, e);
+        }
+    }
+
+    private static String checksum(String script) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(script.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Migration {
+        private final int version;
+        private final String name;
+        private final String script;
+        private final String checksum;
+    }
+}
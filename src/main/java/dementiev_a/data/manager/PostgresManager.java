@@ -1,5 +1,6 @@
 package dementiev_a.data.manager;
 
+import dementiev_a.exception.MigrationException;
 import dementiev_a.io.IO;
 import lombok.Getter;
 import lombok.Setter;
@@ -7,48 +8,56 @@ import lombok.Setter;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
 
 public class PostgresManager implements DatabaseManager {
     @Getter(lazy = true)
     private static final PostgresManager instance = new PostgresManager();
 
+    public static final String EVENTS_ID_SEQUENCE = "events_id_seq";
+    public static final String CELEBRATIONS_ID_SEQUENCE = "celebrations_id_seq";
+    private static final String MIGRATIONS_LOCATION = "db/migration";
+    private static final String MIGRATIONS_HISTORY_TABLE = "schema_migrations";
+
     @Setter
     private static String dbName = "memorable_dates";
+    @Getter
+    @Setter
+    private static int poolSize = 10;
+    @Getter
+    @Setter
+    private static int idBlockSize = 100;
 
-    private Connection connection;
+    private final ConnectionPool pool;
 
     private PostgresManager() {
-        try {
-            connection = DriverManager.getConnection(
-                    "jdbc:postgresql://localhost:5432/" + dbName, "postgres", "qwerty123"
-            );
-            connection.createStatement()
-                    .execute(
-                            "CREATE TABLE IF NOT EXISTS events (" +
-                                    "id INTEGER PRIMARY KEY, " +
-                                    "name VARCHAR(64), " +
-                                    "description VARCHAR(1024), " +
-                                    "date DATE" +
-                                    ");" +
-                                 "CREATE TABLE IF NOT EXISTS celebrations (" +
-                                    "id INTEGER PRIMARY KEY, " +
-                                    "name VARCHAR(64), " +
-                                    "description VARCHAR(1024), " +
-                                    "date DATE, " +
-                                    "place VARCHAR(64)" +
-                                    ");" +
-                                 "CREATE TABLE IF NOT EXISTS events_celebrations (" +
-                                    "celebrationId INTEGER PRIMARY KEY, " +
-                                    "eventId INTEGER" +
-                                    ");"
-                    );
+        String url = "jdbc:postgresql://localhost:5432/" + dbName + "?reWriteBatchedInserts=true";
+        pool = new ConnectionPool(
+                () -> DriverManager.getConnection(url, "postgres", "qwerty123"),
+                poolSize,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                64
+        );
+        try (Connection connection = pool.borrow(); Statement statement = connection.createStatement()) {
+            new MigrationRunner(MIGRATIONS_LOCATION, MIGRATIONS_HISTORY_TABLE).migrate(connection);
+            statement.execute("ALTER SEQUENCE %s INCREMENT BY %d".formatted(EVENTS_ID_SEQUENCE, idBlockSize));
+            statement.execute("ALTER SEQUENCE %s INCREMENT BY %d".formatted(CELEBRATIONS_ID_SEQUENCE, idBlockSize));
         } catch (SQLException e) {
-            IO.printError("Error while connecting to database and preparing tables");
+            IO.printError("Error while connecting to database and migrating its schema");
+        } catch (MigrationException e) {
+            IO.printError(e.getMessage());
         }
     }
 
+    public static DatabaseManager lazy() {
+        return () -> getInstance().getConnection();
+    }
+
     @Override
-    public Connection getConnection() {
-        return connection;
+    public Connection getConnection() throws SQLException {
+        return pool.borrow();
     }
 }
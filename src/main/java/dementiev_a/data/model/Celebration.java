@@ -1,14 +1,18 @@
 package dementiev_a.data.model;
 
 import lombok.Getter;
-import lombok.Setter;
 
 import java.time.LocalDate;
 import java.util.Objects;
 
 @Getter
-@Setter
 public class Celebration extends Model<Long> {
+    public static final String EVENT_ID = "eventId";
+    public static final String NAME = "name";
+    public static final String DESCRIPTION = "description";
+    public static final String DATE = "date";
+    public static final String PLACE = "place";
+
     private long eventId;
     private String name;
     private String description;
@@ -32,6 +36,38 @@ public class Celebration extends Model<Long> {
         this.place = place;
     }
 
+    public Celebration copy() {
+        Celebration copy = new Celebration(eventId, name, description, date, place);
+        copy.setId(getId());
+        copyTrackingTo(copy);
+        return copy;
+    }
+
+    public void setEventId(long eventId) {
+        markChanged(EVENT_ID, this.eventId, eventId);
+        this.eventId = eventId;
+    }
+
+    public void setName(String name) {
+        markChanged(NAME, this.name, name);
+        this.name = name;
+    }
+
+    public void setDescription(String description) {
+        markChanged(DESCRIPTION, this.description, description);
+        this.description = description;
+    }
+
+    public void setDate(LocalDate date) {
+        markChanged(DATE, this.date, date);
+        this.date = date;
+    }
+
+    public void setPlace(String place) {
+        markChanged(PLACE, this.place, place);
+        this.place = place;
+    }
+
     @Override
     public final boolean equals(Object o) {
         if (!(o instanceof Celebration that)) return false;
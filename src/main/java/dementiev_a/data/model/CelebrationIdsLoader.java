@@ -0,0 +1,8 @@
+package dementiev_a.data.model;
+
+import java.util.Set;
+
+@FunctionalInterface
+public interface CelebrationIdsLoader {
+    Set<Long> load(long eventId);
+}
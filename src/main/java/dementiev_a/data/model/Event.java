@@ -1,25 +1,35 @@
 package dementiev_a.data.model;
 
+import dementiev_a.utils.LongHashSet;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.time.LocalDate;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 
 @Getter
-@Setter
 public class Event extends Model<Long> {
+    public static final String NAME = "name";
+    public static final String DESCRIPTION = "description";
+    public static final String DATE = "date";
+
     private String name;
     private String description;
     private LocalDate date;
-    private Set<Long> celebrationIds = new HashSet<>();
+    private Set<Long> celebrationIds;
+    private Set<Long> addedCelebrationIds;
+    private Set<Long> removedCelebrationIds;
+    private boolean celebrationIdsReplaced;
+    @Getter(AccessLevel.NONE)
+    private CelebrationIdsLoader celebrationIdsLoader;
 
     public Event(String name, String description, LocalDate date) {
         this.name = name;
         this.description = description;
         this.date = date;
+        this.celebrationIds = new LongHashSet();
     }
 
     public Event(Long id, String name, String description, LocalDate date, Set<Long> celebrationIds) {
@@ -30,8 +40,95 @@ public class Event extends Model<Long> {
         this.celebrationIds = celebrationIds;
     }
 
+    public Event copy() {
+        Event copy = new Event(getId(), name, description, date,
+                celebrationIds == null ? null : new LongHashSet(celebrationIds));
+        copy.celebrationIdsLoader = celebrationIdsLoader;
+        copyTrackingTo(copy);
+        copy.addedCelebrationIds = addedCelebrationIds == null ? null : new LongHashSet(addedCelebrationIds);
+        copy.removedCelebrationIds = removedCelebrationIds == null ? null : new LongHashSet(removedCelebrationIds);
+        copy.celebrationIdsReplaced = celebrationIdsReplaced;
+        return copy;
+    }
+
+    public void setName(String name) {
+        markChanged(NAME, this.name, name);
+        this.name = name;
+    }
+
+    public void setDescription(String description) {
+        markChanged(DESCRIPTION, this.description, description);
+        this.description = description;
+    }
+
+    public void setDate(LocalDate date) {
+        markChanged(DATE, this.date, date);
+        this.date = date;
+    }
+
+    public Set<Long> getCelebrationIds() {
+        return Collections.unmodifiableSet(celebrationIds());
+    }
+
+    public boolean isCelebrationIdsLoaded() {
+        return celebrationIds != null;
+    }
+
+    public void setCelebrationIdsLoader(CelebrationIdsLoader celebrationIdsLoader) {
+        this.celebrationIds = null;
+        this.celebrationIdsLoader = celebrationIdsLoader;
+    }
+
+    public void setCelebrationIds(Set<Long> celebrationIds) {
+        this.celebrationIds = celebrationIds;
+        this.celebrationIdsLoader = null;
+        if (isPersisted()) {
+            celebrationIdsReplaced = true;
+            addedCelebrationIds = null;
+            removedCelebrationIds = null;
+        }
+    }
+
+    public Set<Long> getAddedCelebrationIds() {
+        return addedCelebrationIds == null ? Set.of() : Collections.unmodifiableSet(addedCelebrationIds);
+    }
+
+    public Set<Long> getRemovedCelebrationIds() {
+        return removedCelebrationIds == null ? Set.of() : Collections.unmodifiableSet(removedCelebrationIds);
+    }
+
     public void addCelebrationId(Long celebrationId) {
-        this.celebrationIds.add(celebrationId);
+        if (celebrationIds().add(celebrationId) && isPersisted() && !celebrationIdsReplaced
+                && !removeTracked(removedCelebrationIds, celebrationId)) {
+            if (addedCelebrationIds == null) {
+                addedCelebrationIds = new LongHashSet();
+            }
+            addedCelebrationIds.add(celebrationId);
+        }
+    }
+
+    public void removeCelebrationId(Long celebrationId) {
+        if (celebrationIds().remove(celebrationId) && isPersisted() && !celebrationIdsReplaced
+                && !removeTracked(addedCelebrationIds, celebrationId)) {
+            if (removedCelebrationIds == null) {
+                removedCelebrationIds = new LongHashSet();
+            }
+            removedCelebrationIds.add(celebrationId);
+        }
+    }
+
+    @Override
+    public boolean isDirty() {
+        return super.isDirty() || celebrationIdsReplaced
+                || !getAddedCelebrationIds().isEmpty() || !getRemovedCelebrationIds().isEmpty();
+    }
+
+    @Override
+    public void markPersisted() {
+        super.markPersisted();
+        addedCelebrationIds = null;
+        removedCelebrationIds = null;
+        celebrationIdsReplaced = false;
     }
 
     @Override
@@ -42,7 +139,7 @@ public class Event extends Model<Long> {
                 Objects.equals(name, event.name) &&
                 Objects.equals(description, event.description) &&
                 Objects.equals(date, event.date) &&
-                Objects.equals(celebrationIds, event.celebrationIds);
+                Objects.equals(celebrationIds(), event.celebrationIds());
     }
 
     @Override
@@ -51,7 +148,19 @@ public class Event extends Model<Long> {
         result = 31 * result + Objects.hashCode(name);
         result = 31 * result + Objects.hashCode(description);
         result = 31 * result + Objects.hashCode(date);
-        result = 31 * result + Objects.hashCode(celebrationIds);
+        result = 31 * result + Objects.hashCode(celebrationIds());
         return result;
     }
+
+    private static boolean removeTracked(Set<Long> trackedIds, Long celebrationId) {
+        return trackedIds != null && trackedIds.remove(celebrationId);
+    }
+
+    private Set<Long> celebrationIds() {
+        if (celebrationIds == null) {
+            celebrationIds = celebrationIdsLoader.load(getId());
+            celebrationIdsLoader = null;
+        }
+        return celebrationIds;
+    }
 }
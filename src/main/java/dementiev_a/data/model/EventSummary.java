@@ -0,0 +1,19 @@
+package dementiev_a.data.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class EventSummary {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final LocalDate date;
+
+    public EventSummary(Event event) {
+        this(event.getId(), event.getName(), event.getDescription(), event.getDate());
+    }
+}
@@ -1,10 +1,48 @@
 package dementiev_a.data.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
 @Getter
 @Setter
 public class Model<T> {
     private T id;
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Set<String> changedFields;
+
+    public Set<String> getChangedFields() {
+        return changedFields == null ? Set.of() : Collections.unmodifiableSet(changedFields);
+    }
+
+    public boolean isDirty() {
+        return changedFields != null && !changedFields.isEmpty();
+    }
+
+    public void markPersisted() {
+        persisted = true;
+        changedFields = null;
+    }
+
+    protected void markChanged(String field, Object oldValue, Object newValue) {
+        if (persisted && !Objects.equals(oldValue, newValue)) {
+            if (changedFields == null) {
+                changedFields = new HashSet<>();
+            }
+            changedFields.add(field);
+        }
+    }
+
+    protected void copyTrackingTo(Model<T> copy) {
+        copy.persisted = persisted;
+        copy.changedFields = changedFields == null ? null : new HashSet<>(changedFields);
+    }
 }
@@ -0,0 +1,25 @@
+package dementiev_a.data.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class SearchResult {
+    private final SearchResultType type;
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final LocalDate date;
+
+    public SearchResult(Event event) {
+        this(SearchResultType.EVENT, event.getId(), event.getName(), event.getDescription(), event.getDate());
+    }
+
+    public SearchResult(Celebration celebration) {
+        this(SearchResultType.CELEBRATION, celebration.getId(), celebration.getName(),
+                celebration.getDescription(), celebration.getDate());
+    }
+}
@@ -0,0 +1,6 @@
+package dementiev_a.data.model;
+
+public enum SearchResultType {
+    EVENT,
+    CELEBRATION
+}
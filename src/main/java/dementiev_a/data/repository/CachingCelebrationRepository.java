@@ -0,0 +1,173 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Celebration;
+import dementiev_a.utils.LongObjectHashMap;
+import dementiev_a.utils.LruCache;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class CachingCelebrationRepository implements CelebrationRepository {
+    private final CelebrationRepository delegate;
+    private final CachingEventRepository eventRepository;
+    @Getter
+    private final LruCache<Long, Celebration> entityCache;
+
+    public CachingCelebrationRepository(CelebrationRepository delegate, CachingEventRepository eventRepository,
+                                        int entityCapacity) {
+        this.delegate = delegate;
+        this.eventRepository = eventRepository;
+        this.entityCache = new LruCache<>(entityCapacity);
+    }
+
+    @Override
+    public Celebration findById(Long id) {
+        Celebration cached = entityCache.get(id);
+        if (cached != null) {
+            return cached.copy();
+        }
+        long generation = entityCache.getGeneration();
+        Celebration celebration = delegate.findById(id);
+        if (celebration != null) {
+            entityCache.put(id, celebration.copy(), generation);
+        }
+        return celebration;
+    }
+
+    @Override
+    public List<Celebration> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Celebration> findPage(Long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public void forEach(Consumer<Celebration> consumer) {
+        delegate.forEach(consumer);
+    }
+
+    @Override
+    public Long save(Celebration entity) {
+        Long previousId = entity.getId();
+        Long id = delegate.save(entity);
+        if (previousId != null) {
+            evict(List.of(previousId));
+        }
+        evictEvent(entity.getEventId());
+        return id;
+    }
+
+    @Override
+    public List<Long> saveAll(Collection<Celebration> entities) {
+        List<Long> previousIds = entities.stream()
+                .map(Celebration::getId)
+                .filter(Objects::nonNull)
+                .toList();
+        List<Long> ids = delegate.saveAll(entities);
+        evict(previousIds);
+        entities.forEach(entity -> evictEvent(entity.getEventId()));
+        return ids;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        List<Celebration> celebrations = findAllByIds(List.of(id));
+        delegate.deleteById(id);
+        evict(List.of(id));
+        celebrations.forEach(celebration -> evictEvent(celebration.getEventId()));
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        entityCache.clear();
+        if (eventRepository != null) {
+            eventRepository.evictAll();
+        }
+    }
+
+    @Override
+    public List<Celebration> findAllByIds(Collection<Long> ids) {
+        LongObjectHashMap<Celebration> found = new LongObjectHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            Celebration cached = entityCache.get(id);
+            if (cached == null) {
+                missingIds.add(id);
+            } else {
+                found.put(id, cached.copy());
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            long generation = entityCache.getGeneration();
+            for (Celebration celebration : delegate.findAllByIds(missingIds)) {
+                entityCache.put(celebration.getId(), celebration.copy(), generation);
+                found.put(celebration.getId(), celebration);
+            }
+        }
+        List<Celebration> result = new ArrayList<>(found.size());
+        for (Long id : ids) {
+            Celebration celebration = found.remove(id);
+            if (celebration != null) {
+                result.add(celebration);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void deleteAllByIds(Collection<Long> ids) {
+        List<Celebration> celebrations = findAllByIds(ids);
+        delegate.deleteAllByIds(ids);
+        evict(ids);
+        celebrations.forEach(celebration -> evictEvent(celebration.getEventId()));
+    }
+
+    @Override
+    public List<Celebration> findByMonthDay(MonthDay monthDay) {
+        return delegate.findByMonthDay(monthDay);
+    }
+
+    @Override
+    public List<Celebration> findByDateRange(LocalDate from, LocalDate to) {
+        return delegate.findByDateRange(from, to);
+    }
+
+    @Override
+    public List<Celebration> findUpcoming(LocalDate from, int limit) {
+        return delegate.findUpcoming(from, limit);
+    }
+
+    @Override
+    public List<Celebration> findByPlace(String place) {
+        return delegate.findByPlace(place);
+    }
+
+    public void evict(Collection<Long> ids) {
+        for (Long id : ids) {
+            Celebration evicted = entityCache.remove(id);
+            if (evicted != null) {
+                evictEvent(evicted.getEventId());
+            }
+        }
+    }
+
+    public void evictAll() {
+        entityCache.clear();
+    }
+
+    private void evictEvent(long eventId) {
+        if (eventRepository != null) {
+            eventRepository.evict(eventId);
+        }
+    }
+}
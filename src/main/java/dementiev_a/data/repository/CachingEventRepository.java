@@ -0,0 +1,198 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Event;
+import dementiev_a.data.model.EventSummary;
+import dementiev_a.utils.LongObjectHashMap;
+import dementiev_a.utils.LruCache;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.*;
+import java.util.function.Consumer;
+
+public class CachingEventRepository implements EventRepository {
+    private final EventRepository delegate;
+    @Getter
+    private final LruCache<Long, Event> entityCache;
+    @Getter
+    private final LruCache<LocalDate, List<Event>> dateCache;
+    private final LongObjectHashMap<LocalDate> cachedDateById = new LongObjectHashMap<>();
+
+    public CachingEventRepository(EventRepository delegate, int entityCapacity, int dateCapacity) {
+        this.delegate = delegate;
+        this.entityCache = new LruCache<>(entityCapacity);
+        this.dateCache = new LruCache<>(dateCapacity, (date, events) -> forgetDates(events));
+    }
+
+    @Override
+    public Event findById(Long id) {
+        Event cached = entityCache.get(id);
+        if (cached != null) {
+            return cached.copy();
+        }
+        long generation = entityCache.getGeneration();
+        Event event = delegate.findById(id);
+        if (event != null) {
+            entityCache.put(id, event.copy(), generation);
+        }
+        return event;
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Event> findPage(Long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public void forEach(Consumer<Event> consumer) {
+        delegate.forEach(consumer);
+    }
+
+    @Override
+    public Long save(Event entity) {
+        Long id = delegate.save(entity);
+        evict(entity);
+        return id;
+    }
+
+    @Override
+    public List<Long> saveAll(Collection<Event> entities) {
+        List<Long> ids = delegate.saveAll(entities);
+        entities.forEach(this::evict);
+        return ids;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        evict(id);
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        evictAll();
+    }
+
+    @Override
+    public Set<Long> findCelebrationsIdsByEventId(Long eventId) {
+        return findById(eventId).getCelebrationIds();
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findCelebrationsIdsByEventIds(Collection<Long> eventIds) {
+        Map<Long, Set<Long>> celebrationIds = new HashMap<>();
+        List<Long> missedIds = new ArrayList<>();
+        for (Long eventId : eventIds) {
+            Event cached = entityCache.get(eventId);
+            if (cached != null) {
+                celebrationIds.put(eventId, cached.copy().getCelebrationIds());
+            } else {
+                missedIds.add(eventId);
+            }
+        }
+        if (!missedIds.isEmpty()) {
+            celebrationIds.putAll(delegate.findCelebrationsIdsByEventIds(missedIds));
+        }
+        return celebrationIds;
+    }
+
+    @Override
+    public List<Event> findByDate(LocalDate date) {
+        List<Event> cached = dateCache.get(date);
+        if (cached != null) {
+            return cached.stream().map(Event::copy).toList();
+        }
+        long generation = dateCache.getGeneration();
+        List<Event> events = delegate.findByDate(date);
+        List<Event> copies = events.stream().map(Event::copy).toList();
+        synchronized (dateCache) {
+            if (dateCache.put(date, copies, generation)) {
+                copies.forEach(event -> cachedDateById.put(event.getId(), date));
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public List<Event> findByMonthDay(MonthDay monthDay) {
+        return delegate.findByMonthDay(monthDay);
+    }
+
+    @Override
+    public List<Event> findByDateRange(LocalDate from, LocalDate to) {
+        return delegate.findByDateRange(from, to);
+    }
+
+    @Override
+    public List<Event> findUpcoming(LocalDate from, int limit) {
+        return delegate.findUpcoming(from, limit);
+    }
+
+    @Override
+    public List<EventSummary> findSummaryPage(Long afterId, int limit) {
+        return delegate.findSummaryPage(afterId, limit);
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByDate(LocalDate date) {
+        List<Event> cached = dateCache.get(date);
+        if (cached != null) {
+            return cached.stream().map(EventSummary::new).toList();
+        }
+        return delegate.findSummariesByDate(date);
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByMonthDay(MonthDay monthDay) {
+        return delegate.findSummariesByMonthDay(monthDay);
+    }
+
+    @Override
+    public void addCelebrationId(Long eventId, Long celebrationId) {
+        delegate.addCelebrationId(eventId, celebrationId);
+        evict(eventId);
+    }
+
+    public void evict(Long id) {
+        entityCache.remove(id);
+        synchronized (dateCache) {
+            LocalDate date = cachedDateById.remove(id);
+            if (date != null) {
+                evictDate(date);
+            }
+        }
+    }
+
+    void evict(Event entity) {
+        evict(entity.getId());
+        evictDate(entity.getDate());
+    }
+
+    public void evictAll() {
+        entityCache.clear();
+        synchronized (dateCache) {
+            dateCache.clear();
+            cachedDateById.clear();
+        }
+    }
+
+    private void evictDate(LocalDate date) {
+        synchronized (dateCache) {
+            List<Event> events = dateCache.remove(date);
+            if (events != null) {
+                forgetDates(events);
+            }
+        }
+    }
+
+    private void forgetDates(List<Event> events) {
+        events.forEach(event -> cachedDateById.remove(event.getId()));
+    }
+}
@@ -0,0 +1,79 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.importer.ImportResult;
+import dementiev_a.data.importer.Importer;
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class CachingStorage implements Storage {
+    private static final int DEFAULT_EVENT_CAPACITY = 1024;
+    private static final int DEFAULT_DATE_CAPACITY = 128;
+    private static final int DEFAULT_CELEBRATION_CAPACITY = 4096;
+
+    private final Storage delegate;
+    @Getter
+    private final CachingEventRepository eventRepository;
+    @Getter
+    private final CachingCelebrationRepository celebrationRepository;
+
+    public CachingStorage(Storage delegate) {
+        this(delegate, DEFAULT_EVENT_CAPACITY, DEFAULT_DATE_CAPACITY, DEFAULT_CELEBRATION_CAPACITY);
+    }
+
+    public CachingStorage(Storage delegate, int eventCapacity, int dateCapacity, int celebrationCapacity) {
+        this.delegate = delegate;
+        this.eventRepository = new CachingEventRepository(delegate.getEventRepository(), eventCapacity, dateCapacity);
+        this.celebrationRepository = new CachingCelebrationRepository(
+                delegate.getCelebrationRepository(), eventRepository, celebrationCapacity
+        );
+    }
+
+    @Override
+    public Long addCelebration(Celebration celebration) {
+        Long celebrationId = delegate.addCelebration(celebration);
+        celebrationRepository.evict(List.of(celebrationId));
+        eventRepository.evict(celebration.getEventId());
+        return celebrationId;
+    }
+
+    @Override
+    public void saveAll(Collection<Event> events, Collection<Celebration> celebrations) {
+        List<Long> previousCelebrationIds = celebrations.stream()
+                .map(Celebration::getId)
+                .filter(Objects::nonNull)
+                .toList();
+        delegate.saveAll(events, celebrations);
+        events.forEach(eventRepository::evict);
+        celebrationRepository.evict(previousCelebrationIds);
+        celebrations.forEach(celebration -> eventRepository.evict(celebration.getEventId()));
+    }
+
+    @Override
+    public int deleteEventWithCelebrations(Long eventId) {
+        Set<Long> celebrationIds = eventRepository.findCelebrationsIdsByEventId(eventId);
+        int deletedCelebrations = delegate.deleteEventWithCelebrations(eventId);
+        celebrationRepository.evict(celebrationIds);
+        eventRepository.evict(eventId);
+        return deletedCelebrations;
+    }
+
+    @Override
+    public ImportResult importFrom(Importer importer, Path path) throws IOException {
+        ImportResult result = delegate.importFrom(importer, path);
+        evictAll();
+        return result;
+    }
+
+    public void evictAll() {
+        eventRepository.evictAll();
+        celebrationRepository.evictAll();
+    }
+}
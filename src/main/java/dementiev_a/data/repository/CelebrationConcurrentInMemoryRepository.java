@@ -0,0 +1,110 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.sequence.CelebrationSequence;
+import dementiev_a.exception.NoEntityException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CelebrationConcurrentInMemoryRepository implements CelebrationRepository {
+    @Getter(lazy = true)
+    private static final CelebrationConcurrentInMemoryRepository instance =
+            new CelebrationConcurrentInMemoryRepository();
+
+    private final StripedStorage<Celebration> storage = new StripedStorage<>(
+            Celebration::getDate,
+            Celebration::copy,
+            Celebration::getPlace,
+            Celebration::setPlace
+    );
+    private final CelebrationSequence celebrationSequence = CelebrationSequence.getInstance();
+
+    @Override
+    public Celebration findById(Long id) {
+        Celebration celebration = storage.find(id);
+        if (celebration == null) {
+            throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
+        }
+        return celebration;
+    }
+
+    @Override
+    public List<Celebration> findAll() {
+        return storage.findAll();
+    }
+
+    @Override
+    public List<Celebration> findPage(Long afterId, int limit) {
+        return storage.findPage(afterId == null ? Long.MIN_VALUE : afterId, limit);
+    }
+
+    @Override
+    public Long save(Celebration entity) {
+        if (entity.getId() == null) {
+            entity.setId(celebrationSequence.next());
+        }
+        storage.put(entity);
+        return entity.getId();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        remove(id);
+    }
+
+    @Override
+    public void deleteAll() {
+        storage.clear();
+    }
+
+    @Override
+    public List<Celebration> findAllByIds(Collection<Long> ids) {
+        List<Celebration> result = new ArrayList<>();
+        ids.forEach(id -> {
+            Celebration celebration = storage.find(id);
+            if (celebration != null) {
+                result.add(celebration);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void deleteAllByIds(Collection<Long> ids) {
+        ids.forEach(this::remove);
+    }
+
+    @Override
+    public List<Celebration> findByMonthDay(MonthDay monthDay) {
+        return storage.findByMonthDay(monthDay);
+    }
+
+    @Override
+    public List<Celebration> findByDateRange(LocalDate from, LocalDate to) {
+        return storage.findByDateRange(from, to);
+    }
+
+    @Override
+    public List<Celebration> findUpcoming(LocalDate from, int limit) {
+        return storage.findUpcoming(from, limit);
+    }
+
+    @Override
+    public List<Celebration> findByPlace(String place) {
+        return storage.findByPlace(place);
+    }
+
+    private void remove(long id) {
+        if (!storage.remove(id)) {
+            throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
+        }
+    }
+}
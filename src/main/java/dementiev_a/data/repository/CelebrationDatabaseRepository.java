@@ -1,74 +1,165 @@
 package dementiev_a.data.repository;
 
+import dementiev_a.data.manager.DatabaseManager;
 import dementiev_a.data.manager.PostgresManager;
 import dementiev_a.data.model.Celebration;
-import dementiev_a.data.sequence.CelebrationSequence;
+import dementiev_a.data.sequence.DatabaseSequence;
+import dementiev_a.data.sequence.Sequence;
+import dementiev_a.exception.BatchSaveException;
 import dementiev_a.exception.NoEntityException;
 import dementiev_a.io.IO;
 import lombok.Getter;
 
 import java.sql.*;
 import java.sql.Date;
+import java.time.LocalDate;
+import java.time.MonthDay;
 import java.util.*;
+import java.util.function.Consumer;
 
 public class CelebrationDatabaseRepository implements CelebrationRepository {
     @Getter(lazy = true)
     private static final CelebrationDatabaseRepository instance = new CelebrationDatabaseRepository();
 
-    private final CelebrationSequence sequence = CelebrationSequence.getInstance();
-    private Statement statement;
-    private PreparedStatement saveCelebrationStatement;
-    private PreparedStatement saveEventCelebrationStatement;
-    private PreparedStatement findCelebrationByIdStatement;
-    private PreparedStatement deleteCelebrationByIdStatement;
-    private PreparedStatement deleteEventCelebrationByIdStatement;
+    private static final String SAVE_CELEBRATION_SQL =
+            "INSERT INTO celebrations (id, name, description, date, place) VALUES (?, ?, ?, ?, ?) " +
+                    "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, " +
+                    "description = EXCLUDED.description, date = EXCLUDED.date, place = EXCLUDED.place";
+    private static final String SAVE_EVENT_CELEBRATION_SQL =
+            "INSERT INTO events_celebrations (celebrationId, eventId) VALUES (?, ?) " +
+                    "ON CONFLICT (celebrationId) DO UPDATE SET eventId = EXCLUDED.eventId";
+    private static final String FIND_CELEBRATION_BY_ID_SQL =
+            "SELECT * FROM celebrations LEFT JOIN events_celebrations " +
+                    "ON celebrations.id = events_celebrations.celebrationId WHERE id = ?";
+    private static final String FIND_CELEBRATIONS_BY_MONTH_DAY_SQL =
+            "SELECT * FROM celebrations LEFT JOIN events_celebrations " +
+                    "ON celebrations.id = events_celebrations.celebrationId " +
+                    "WHERE EXTRACT(MONTH FROM date) = ? AND EXTRACT(DAY FROM date) = ?";
+    private static final String FIND_CELEBRATIONS_BY_DATE_RANGE_SQL =
+            "SELECT * FROM celebrations LEFT JOIN events_celebrations " +
+                    "ON celebrations.id = events_celebrations.celebrationId " +
+                    "WHERE date BETWEEN ? AND ? ORDER BY date, id";
+    private static final String FIND_UPCOMING_CELEBRATIONS_SQL =
+            "SELECT * FROM celebrations LEFT JOIN events_celebrations " +
+                    "ON celebrations.id = events_celebrations.celebrationId " +
+                    "WHERE date >= ? ORDER BY date, id LIMIT ?";
+    private static final String FIND_CELEBRATIONS_BY_PLACE_SQL =
+            "SELECT * FROM celebrations LEFT JOIN events_celebrations " +
+                    "ON celebrations.id = events_celebrations.celebrationId WHERE place = ? ORDER BY id";
+    private static final String FIND_ALL_CELEBRATIONS_SQL =
+            "SELECT * FROM celebrations LEFT JOIN events_celebrations " +
+                    "ON celebrations.id = events_celebrations.celebrationId ORDER BY id";
+    private static final String FIND_CELEBRATIONS_PAGE_SQL =
+            "SELECT * FROM celebrations LEFT JOIN events_celebrations " +
+                    "ON celebrations.id = events_celebrations.celebrationId WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String FIND_CELEBRATIONS_BY_IDS_SQL =
+            "SELECT * FROM celebrations LEFT JOIN events_celebrations " +
+                    "ON celebrations.id = events_celebrations.celebrationId WHERE id = ANY(?) ORDER BY id";
+    private static final String DELETE_CELEBRATIONS_BY_IDS_SQL =
+            "DELETE FROM celebrations WHERE id = ANY(?)";
+    private static final String DELETE_EVENT_CELEBRATIONS_BY_IDS_SQL =
+            "DELETE FROM events_celebrations WHERE celebrationId = ANY(?)";
+    private static final String UPDATE_CELEBRATION_SQL_FORMAT =
+            "UPDATE celebrations SET %s WHERE id = ?";
+    private static final String DELETE_CELEBRATION_BY_ID_SQL =
+            "DELETE FROM celebrations WHERE id = ?";
+    private static final String DELETE_EVENT_CELEBRATION_BY_ID_SQL =
+            "DELETE FROM events_celebrations WHERE celebrationId = ?";
+
+    private static final int STREAMING_FETCH_SIZE = 500;
+    private static final int IDS_CHUNK_SIZE = 10_000;
+    private static final List<String> UPDATABLE_FIELDS =
+            List.of(Celebration.NAME, Celebration.DESCRIPTION, Celebration.DATE, Celebration.PLACE);
+
+    private final DatabaseManager databaseManager;
+    @Getter
+    private final Sequence sequence;
 
     private CelebrationDatabaseRepository() {
-        Connection connection = PostgresManager.getInstance().getConnection();
-        try {
-            statement = connection.createStatement();
-            try (ResultSet result = statement.executeQuery("SELECT MAX(id) FROM celebrations")) {
-                if (result.next()) {
-                    long maxId = result.getLong(1);
-                    sequence.setValue(maxId + 1);
+        this(PostgresManager.lazy());
+    }
+
+    CelebrationDatabaseRepository(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+        this.sequence = new DatabaseSequence(
+                databaseManager, PostgresManager.CELEBRATIONS_ID_SEQUENCE, PostgresManager.getIdBlockSize()
+        );
+    }
+
+    @Override
+    public List<Celebration> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_CELEBRATIONS_BY_IDS_SQL)) {
+            List<Celebration> celebrations = new ArrayList<>();
+            for (Long[] chunk : chunkIds(ids)) {
+                statement.setArray(1, connection.createArrayOf("bigint", chunk));
+                try (ResultSet result = statement.executeQuery()) {
+                    visitCelebrations(result, celebrations::add);
                 }
             }
-            saveCelebrationStatement = connection.prepareStatement(
-                    "INSERT INTO celebrations (id, name, description, date, place) VALUES (?, ?, ?, ?, ?) " +
-                            "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, " +
-                            "description = EXCLUDED.description, date = EXCLUDED.date, place = EXCLUDED.place"
-            );
-            saveEventCelebrationStatement = connection.prepareStatement(
-                    "INSERT INTO events_celebrations (celebrationId, eventId) VALUES (?, ?) " +
-                            "ON CONFLICT (celebrationId) DO UPDATE SET eventId = EXCLUDED.eventId"
-            );
-            findCelebrationByIdStatement = connection.prepareStatement(
-                    "SELECT * FROM celebrations LEFT JOIN events_celebrations " +
-                            "ON celebrations.id = events_celebrations.celebrationId WHERE id = ?"
-            );
-            deleteCelebrationByIdStatement = connection.prepareStatement(
-                    "DELETE FROM celebrations WHERE id = ?"
-            );
-            deleteEventCelebrationByIdStatement = connection.prepareStatement(
-                    "DELETE FROM events_celebrations WHERE celebrationId = ?"
-            );
+            return celebrations;
         } catch (SQLException e) {
-            IO.printError("Error while preparing database statements");
+            IO.printError("Error while retrieving the celebrations from database");
+            return List.of();
         }
     }
 
     @Override
-    public List<Celebration> findAllByIds(Collection<Long> ids) {
-        String dividedIds = String.join(",", ids.stream().map(String::valueOf).toArray(String[]::new));
-        if (dividedIds.isEmpty()) {
+    public void deleteAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement deleteCelebrationsStatement =
+                     connection.prepareStatement(DELETE_CELEBRATIONS_BY_IDS_SQL);
+             PreparedStatement deleteEventCelebrationsStatement =
+                     connection.prepareStatement(DELETE_EVENT_CELEBRATIONS_BY_IDS_SQL)) {
+            connection.setAutoCommit(false);
+            try {
+                for (Long[] chunk : chunkIds(ids)) {
+                    Array idsArray = connection.createArrayOf("bigint", chunk);
+                    deleteCelebrationsStatement.setArray(1, idsArray);
+                    deleteCelebrationsStatement.executeUpdate();
+                    deleteEventCelebrationsStatement.setArray(1, idsArray);
+                    deleteEventCelebrationsStatement.executeUpdate();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while deleting the celebrations from database");
+        }
+    }
+
+    @Override
+    public List<Celebration> findByMonthDay(MonthDay monthDay) {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_CELEBRATIONS_BY_MONTH_DAY_SQL)) {
+            statement.setInt(1, monthDay.getMonthValue());
+            statement.setInt(2, monthDay.getDayOfMonth());
+            try (ResultSet result = statement.executeQuery()) {
+                return extractCelebrations(result);
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving the celebrations from database");
             return List.of();
         }
-        try (ResultSet result = statement.executeQuery(
-                ("SELECT * FROM celebrations LEFT JOIN events_celebrations " +
-                        "ON celebrations.id = events_celebrations.celebrationId WHERE id IN (%s)")
-                        .formatted(dividedIds)
-        )) {
-            return extractCelebrations(result);
+    }
+
+    @Override
+    public List<Celebration> findByDateRange(LocalDate from, LocalDate to) {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_CELEBRATIONS_BY_DATE_RANGE_SQL)) {
+            statement.setDate(1, Date.valueOf(from));
+            statement.setDate(2, Date.valueOf(to));
+            try (ResultSet result = statement.executeQuery()) {
+                return extractCelebrations(result);
+            }
         } catch (SQLException e) {
             IO.printError("Error while retrieving the celebrations from database");
             return List.of();
@@ -76,21 +167,46 @@ public class CelebrationDatabaseRepository implements CelebrationRepository {
     }
 
     @Override
-    public void deleteAllByIds(Collection<Long> ids) {
-        String dividedIds = String.join(",", ids.stream().map(String::valueOf).toArray(String[]::new));
-        try {
-            statement.executeUpdate("DELETE FROM celebrations WHERE id IN (%s)".formatted(dividedIds));
-            statement.executeUpdate("DELETE FROM events_celebrations WHERE celebrationId IN (%s)".formatted(dividedIds));
+    public List<Celebration> findUpcoming(LocalDate from, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_UPCOMING_CELEBRATIONS_SQL)) {
+            statement.setDate(1, Date.valueOf(from));
+            statement.setInt(2, limit);
+            try (ResultSet result = statement.executeQuery()) {
+                return extractCelebrations(result);
+            }
         } catch (SQLException e) {
-            IO.printError("Error while deleting the celebrations from database");
+            IO.printError("Error while retrieving the celebrations from database");
+            return List.of();
+        }
+    }
+
+    @Override
+    public List<Celebration> findByPlace(String place) {
+        if (place == null) {
+            return List.of();
+        }
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_CELEBRATIONS_BY_PLACE_SQL)) {
+            statement.setString(1, place);
+            try (ResultSet result = statement.executeQuery()) {
+                return extractCelebrations(result);
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving the celebrations from database");
+            return List.of();
         }
     }
 
     @Override
     public Celebration findById(Long id) {
-        try {
-            findCelebrationByIdStatement.setLong(1, id);
-            try (ResultSet result = findCelebrationByIdStatement.executeQuery()) {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_CELEBRATION_BY_ID_SQL)) {
+            statement.setLong(1, id);
+            try (ResultSet result = statement.executeQuery()) {
                 List<Celebration> celebrations = extractCelebrations(result);
                 if (celebrations.isEmpty()) {
                     throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
@@ -105,10 +221,9 @@ public class CelebrationDatabaseRepository implements CelebrationRepository {
 
     @Override
     public List<Celebration> findAll() {
-        try (ResultSet result = statement.executeQuery(
-                "SELECT * FROM celebrations LEFT JOIN events_celebrations " +
-                        "ON celebrations.id = events_celebrations.celebrationId"
-        )) {
+        try (Connection connection = databaseManager.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(FIND_ALL_CELEBRATIONS_SQL)) {
             return extractCelebrations(result);
         } catch (SQLException e) {
             IO.printError("Error while retrieving celebrations from database");
@@ -116,37 +231,101 @@ public class CelebrationDatabaseRepository implements CelebrationRepository {
         }
     }
 
+    @Override
+    public List<Celebration> findPage(Long afterId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_CELEBRATIONS_PAGE_SQL)) {
+            statement.setLong(1, afterId == null ? Long.MIN_VALUE : afterId);
+            statement.setInt(2, limit);
+            try (ResultSet result = statement.executeQuery()) {
+                return extractCelebrations(result);
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving celebrations from database");
+            return List.of();
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<Celebration> action) {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_ALL_CELEBRATIONS_SQL)) {
+            connection.setAutoCommit(false);
+            statement.setFetchSize(STREAMING_FETCH_SIZE);
+            try (ResultSet result = statement.executeQuery()) {
+                visitCelebrations(result, action);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving celebrations from database");
+        }
+    }
+
     @Override
     public Long save(Celebration entity) {
         if (entity.getId() == null) {
             entity.setId(sequence.next());
         }
-        try {
-            saveCelebrationStatement.setLong(1, entity.getId());
-            saveCelebrationStatement.setString(2, entity.getName());
-            saveCelebrationStatement.setString(3, entity.getDescription());
-            saveCelebrationStatement.setDate(4, Date.valueOf(entity.getDate()));
-            saveCelebrationStatement.setString(5, entity.getPlace());
-            saveCelebrationStatement.executeUpdate();
-            saveEventCelebrationStatement.setLong(1, entity.getId());
-            saveEventCelebrationStatement.setLong(2, entity.getEventId());
-            saveEventCelebrationStatement.executeUpdate();
+        try (Connection connection = databaseManager.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                if (!entity.isPersisted() || !saveChanges(connection, entity)) {
+                    saveWhole(connection, entity);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+            entity.markPersisted();
         } catch (SQLException e) {
             IO.printError("Error while saving the celebration to database");
         }
         return entity.getId();
     }
 
+    @Override
+    public List<Long> saveAll(Collection<Celebration> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        entities.stream()
+                .filter(entity -> entity.getId() == null)
+                .forEach(entity -> entity.setId(sequence.next()));
+        try (Connection connection = databaseManager.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                saveAll(connection, entities);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+            entities.forEach(Celebration::markPersisted);
+        } catch (SQLException e) {
+            throw new BatchSaveException(e);
+        }
+        return entities.stream()
+                .map(Celebration::getId)
+                .toList();
+    }
+
     @Override
     public void deleteById(Long id) {
-        try {
-            deleteCelebrationByIdStatement.setLong(1, id);
-            int affectedRows = deleteCelebrationByIdStatement.executeUpdate();
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement deleteCelebrationStatement = connection.prepareStatement(DELETE_CELEBRATION_BY_ID_SQL);
+             PreparedStatement deleteEventCelebrationStatement =
+                     connection.prepareStatement(DELETE_EVENT_CELEBRATION_BY_ID_SQL)) {
+            deleteCelebrationStatement.setLong(1, id);
+            int affectedRows = deleteCelebrationStatement.executeUpdate();
             if (affectedRows == 0) {
                 throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
             }
-            deleteEventCelebrationByIdStatement.setLong(1, id);
-            deleteEventCelebrationByIdStatement.executeUpdate();
+            deleteEventCelebrationStatement.setLong(1, id);
+            deleteEventCelebrationStatement.executeUpdate();
         } catch (SQLException e) {
             IO.printError("Error while deleting the celebration from database");
         }
@@ -154,7 +333,8 @@ public class CelebrationDatabaseRepository implements CelebrationRepository {
 
     @Override
     public void deleteAll() {
-        try {
+        try (Connection connection = databaseManager.getConnection();
+             Statement statement = connection.createStatement()) {
             statement.executeUpdate("DELETE FROM events_celebrations");
             statement.executeUpdate("DELETE FROM celebrations");
         } catch (SQLException e) {
@@ -162,18 +342,118 @@ public class CelebrationDatabaseRepository implements CelebrationRepository {
         }
     }
 
+    void saveAll(Connection connection, Collection<Celebration> entities) throws SQLException {
+        if (entities.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement saveCelebrationStatement = connection.prepareStatement(SAVE_CELEBRATION_SQL);
+             PreparedStatement saveEventCelebrationStatement =
+                     connection.prepareStatement(SAVE_EVENT_CELEBRATION_SQL)) {
+            boolean hasWholeEntities = false;
+            for (Celebration entity : entities) {
+                if (entity.isPersisted() && saveChanges(connection, entity)) {
+                    continue;
+                }
+                setCelebrationParameters(saveCelebrationStatement, entity);
+                saveCelebrationStatement.addBatch();
+                setLinkParameters(saveEventCelebrationStatement, entity);
+                saveEventCelebrationStatement.addBatch();
+                hasWholeEntities = true;
+            }
+            if (hasWholeEntities) {
+                saveCelebrationStatement.executeBatch();
+                saveEventCelebrationStatement.executeBatch();
+            }
+        }
+    }
+
+    private List<Long[]> chunkIds(Collection<Long> ids) {
+        Long[] allIds = ids.toArray(Long[]::new);
+        List<Long[]> chunks = new ArrayList<>();
+        for (int from = 0; from < allIds.length; from += IDS_CHUNK_SIZE) {
+            chunks.add(Arrays.copyOfRange(allIds, from, Math.min(from + IDS_CHUNK_SIZE, allIds.length)));
+        }
+        return chunks;
+    }
+
     private List<Celebration> extractCelebrations(ResultSet result) throws SQLException {
         List<Celebration> celebrations = new ArrayList<>();
+        visitCelebrations(result, celebrations::add);
+        return celebrations;
+    }
+
+    private void saveWhole(Connection connection, Celebration entity) throws SQLException {
+        try (PreparedStatement saveCelebrationStatement = connection.prepareStatement(SAVE_CELEBRATION_SQL);
+             PreparedStatement saveEventCelebrationStatement =
+                     connection.prepareStatement(SAVE_EVENT_CELEBRATION_SQL)) {
+            setCelebrationParameters(saveCelebrationStatement, entity);
+            saveCelebrationStatement.executeUpdate();
+            setLinkParameters(saveEventCelebrationStatement, entity);
+            saveEventCelebrationStatement.executeUpdate();
+        }
+    }
+
+    private boolean saveChanges(Connection connection, Celebration entity) throws SQLException {
+        List<String> changedFields = UPDATABLE_FIELDS.stream()
+                .filter(entity.getChangedFields()::contains)
+                .toList();
+        if (!changedFields.isEmpty() && !updateFields(connection, entity, changedFields)) {
+            return false;
+        }
+        if (entity.getChangedFields().contains(Celebration.EVENT_ID)) {
+            try (PreparedStatement statement = connection.prepareStatement(SAVE_EVENT_CELEBRATION_SQL)) {
+                setLinkParameters(statement, entity);
+                statement.executeUpdate();
+            }
+        }
+        return true;
+    }
+
+    private boolean updateFields(Connection connection, Celebration entity, List<String> fields)
+            throws SQLException {
+        String assignments = String.join(", ", fields.stream().map(field -> field + " = ?").toList());
+        try (PreparedStatement statement =
+                     connection.prepareStatement(UPDATE_CELEBRATION_SQL_FORMAT.formatted(assignments))) {
+            int index = 1;
+            for (String field : fields) {
+                switch (field) {
+                    case Celebration.NAME -> statement.setString(index++, entity.getName());
+                    case Celebration.DESCRIPTION -> statement.setString(index++, entity.getDescription());
+                    case Celebration.DATE -> statement.setDate(index++, Date.valueOf(entity.getDate()));
+                    case Celebration.PLACE -> statement.setString(index++, entity.getPlace());
+                    default -> throw new IllegalArgumentException("Unknown celebration field " + field);
+                }
+            }
+            statement.setLong(index, entity.getId());
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    private void setCelebrationParameters(PreparedStatement statement, Celebration entity) throws SQLException {
+        statement.setLong(1, entity.getId());
+        statement.setString(2, entity.getName());
+        statement.setString(3, entity.getDescription());
+        statement.setDate(4, Date.valueOf(entity.getDate()));
+        statement.setString(5, entity.getPlace());
+    }
+
+    private void setLinkParameters(PreparedStatement statement, Celebration entity) throws SQLException {
+        statement.setLong(1, entity.getId());
+        statement.setLong(2, entity.getEventId());
+    }
+
+    private void visitCelebrations(ResultSet result, Consumer<Celebration> action) throws SQLException {
         while (result.next()) {
-            celebrations.add(new Celebration(
+            Celebration celebration = new Celebration(
                     result.getLong("id"),
                     result.getLong("eventId"),
                     result.getString("name"),
                     result.getString("description"),
                     result.getDate("date").toLocalDate(),
                     result.getString("place")
-            ));
+            );
+            celebration.markPersisted();
+            action.accept(celebration);
         }
-        return celebrations;
     }
 }
@@ -2,12 +2,20 @@ package dementiev_a.data.repository;
 
 import dementiev_a.data.model.Celebration;
 import dementiev_a.data.sequence.CelebrationSequence;
+import dementiev_a.data.snapshot.SnapshotReader;
+import dementiev_a.data.snapshot.SnapshotWriter;
 import dementiev_a.exception.NoEntityException;
+import dementiev_a.utils.LongObjectHashMap;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.MonthDay;
 import java.util.*;
+import java.util.stream.LongStream;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CelebrationInMemoryRepository implements CelebrationRepository {
@@ -15,8 +23,12 @@ public class CelebrationInMemoryRepository implements CelebrationRepository {
     private static final CelebrationInMemoryRepository instance = new CelebrationInMemoryRepository();
 
     private static final String ENTITY_NAME = "Celebration";
+    private static final int SNAPSHOT_MAGIC = 0x4D444350;
 
-    private final Map<Long, Celebration> storage = new TreeMap<>();
+    private LongObjectHashMap<Celebration> storage = new LongObjectHashMap<>();
+    private DateIndex dateIndex = new DateIndex();
+    private IdIndex idIndex = new IdIndex();
+    private PlaceDictionary placeDictionary = new PlaceDictionary();
     private final CelebrationSequence celebrationSequence = CelebrationSequence.getInstance();
 
     @Override
@@ -25,12 +37,19 @@ public class CelebrationInMemoryRepository implements CelebrationRepository {
         if (celebration == null) {
             throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
         }
-        return celebration;
+        return celebration.copy();
     }
 
     @Override
     public List<Celebration> findAll() {
-        return new ArrayList<>(storage.values());
+        return storage.valuesSortedByKey().stream()
+                .map(Celebration::copy)
+                .toList();
+    }
+
+    @Override
+    public List<Celebration> findPage(Long afterId, int limit) {
+        return findAllByIndexedIds(idIndex.findAfter(afterId == null ? Long.MIN_VALUE : afterId, limit));
     }
 
     @Override
@@ -38,7 +57,12 @@ public class CelebrationInMemoryRepository implements CelebrationRepository {
         if (entity.getId() == null) {
             entity.setId(celebrationSequence.next());
         }
-        storage.put(entity.getId(), entity);
+        Celebration previous = storage.get(entity.getId());
+        entity.setPlace(placeDictionary.put(entity.getId(), previous == null ? null : previous.getPlace(),
+                entity.getPlace()));
+        storage.put(entity.getId(), entity.copy());
+        dateIndex.put(entity.getId(), entity.getDate());
+        idIndex.add(entity.getId());
         return entity.getId();
     }
 
@@ -50,14 +74,18 @@ public class CelebrationInMemoryRepository implements CelebrationRepository {
     @Override
     public void deleteAll() {
         storage.clear();
+        dateIndex.clear();
+        idIndex.clear();
+        placeDictionary.clear();
     }
 
     @Override
     public List<Celebration> findAllByIds(Collection<Long> ids) {
         List<Celebration> result = new ArrayList<>();
         ids.forEach(id -> {
-            if (storage.containsKey(id)) {
-                result.add(storage.get(id));
+            Celebration celebration = storage.get(id);
+            if (celebration != null) {
+                result.add(celebration.copy());
             }
         });
         return result;
@@ -68,10 +96,101 @@ public class CelebrationInMemoryRepository implements CelebrationRepository {
         ids.forEach(this::remove);
     }
 
+    @Override
+    public List<Celebration> findByMonthDay(MonthDay monthDay) {
+        return findAllByIndexedIds(dateIndex.findByMonthDay(monthDay));
+    }
+
+    @Override
+    public List<Celebration> findByDateRange(LocalDate from, LocalDate to) {
+        return findAllByIndexedIds(dateIndex.findByDateRange(from, to));
+    }
+
+    @Override
+    public List<Celebration> findUpcoming(LocalDate from, int limit) {
+        return findAllByIndexedIds(dateIndex.findUpcoming(from, limit));
+    }
+
+    @Override
+    public List<Celebration> findByPlace(String place) {
+        return findAllByIndexedIds(placeDictionary.findByPlace(place));
+    }
+
+    public void writeSnapshot(Path path) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path)) {
+            writer.writeInt(SNAPSHOT_MAGIC);
+            writer.writeVarLong(celebrationSequence.getValue());
+            writer.writeVarLong(placeDictionary.getIdsCount());
+            for (int placeId = 0; placeId < placeDictionary.getIdsCount(); placeId++) {
+                writer.writeString(placeDictionary.valueOf(placeId));
+            }
+            writer.writeVarLong(storage.size());
+            long previousId = 0;
+            for (Celebration celebration : storage.valuesSortedByKey()) {
+                writer.writeSignedVarLong(celebration.getId() - previousId);
+                previousId = celebration.getId();
+                writer.writeSignedVarLong(celebration.getEventId());
+                writer.writeString(celebration.getName());
+                writer.writeString(celebration.getDescription());
+                writer.writeSignedVarLong(celebration.getDate().toEpochDay());
+                writer.writeVarLong(placeDictionary.idOf(celebration.getPlace()) + 1L);
+            }
+            writer.commit();
+        }
+    }
+
+    public void loadSnapshot(Path path) throws IOException {
+        SnapshotReader reader = new SnapshotReader(path);
+        if (reader.readInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Unknown celebration snapshot format in " + path);
+        }
+        long sequenceValue = reader.readVarLong();
+        String[] places = new String[Math.toIntExact(reader.readVarLong())];
+        for (int placeId = 0; placeId < places.length; placeId++) {
+            places[placeId] = reader.readString();
+        }
+        long count = reader.readVarLong();
+        LongObjectHashMap<Celebration> loadedStorage = new LongObjectHashMap<>();
+        DateIndex loadedDateIndex = new DateIndex();
+        IdIndex loadedIdIndex = new IdIndex();
+        PlaceDictionary loadedPlaceDictionary = new PlaceDictionary();
+        long id = 0;
+        for (long i = 0; i < count; i++) {
+            id += reader.readSignedVarLong();
+            long eventId = reader.readSignedVarLong();
+            String name = reader.readString();
+            String description = reader.readString();
+            LocalDate date = LocalDate.ofEpochDay(reader.readSignedVarLong());
+            int placeId = Math.toIntExact(reader.readVarLong()) - 1;
+            if (placeId >= places.length) {
+                throw new IOException("Corrupted celebration snapshot " + path);
+            }
+            String place = loadedPlaceDictionary.put(id, null,
+                    placeId == PlaceDictionary.NO_PLACE ? null : places[placeId]);
+            loadedStorage.put(id, new Celebration(id, eventId, name, description, date, place));
+            loadedDateIndex.put(id, date);
+            loadedIdIndex.add(id);
+        }
+        storage = loadedStorage;
+        dateIndex = loadedDateIndex;
+        idIndex = loadedIdIndex;
+        placeDictionary = loadedPlaceDictionary;
+        celebrationSequence.setValue(sequenceValue);
+    }
+
+    private List<Celebration> findAllByIndexedIds(long[] ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> storage.get(id).copy())
+                .toList();
+    }
+
     private void remove(long id) {
-        if (!storage.containsKey(id)) {
+        Celebration removed = storage.remove(id);
+        if (removed == null) {
             throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
         }
-        storage.remove(id);
+        dateIndex.remove(id);
+        idIndex.remove(id);
+        placeDictionary.remove(id, removed.getPlace());
     }
 }
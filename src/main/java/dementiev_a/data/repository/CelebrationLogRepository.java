@@ -0,0 +1,209 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.log.CelebrationRecordCodec;
+import dementiev_a.data.log.RecordLog;
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.sequence.LocalSequence;
+import dementiev_a.exception.LogWriteException;
+import dementiev_a.exception.NoEntityException;
+import dementiev_a.io.IO;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class CelebrationLogRepository implements CelebrationRepository, AutoCloseable {
+    private static final String LOG_NAME = "celebrations";
+
+    @Getter(lazy = true)
+    private static final CelebrationLogRepository instance = createInstance();
+
+    private final StripedStorage<Celebration> storage = new StripedStorage<>(
+            Celebration::getDate,
+            Celebration::copy,
+            Celebration::getPlace,
+            Celebration::setPlace
+    );
+    private final RecordLog<Celebration> log;
+    @Getter
+    private final LocalSequence sequence = new LocalSequence();
+
+    public CelebrationLogRepository(RecordLog<Celebration> log) {
+        this.log = log;
+        try {
+            log.open(storage::put, storage::remove, storage::clear);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while reading the celebration log", e);
+        }
+        sequence.setValue(log.getMaxId() + 1);
+    }
+
+    @Override
+    public Celebration findById(Long id) {
+        Celebration celebration = storage.find(id);
+        if (celebration == null) {
+            throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
+        }
+        return celebration;
+    }
+
+    @Override
+    public List<Celebration> findAll() {
+        return storage.findAll();
+    }
+
+    @Override
+    public List<Celebration> findPage(Long afterId, int limit) {
+        return storage.findPage(afterId == null ? Long.MIN_VALUE : afterId, limit);
+    }
+
+    @Override
+    public Long save(Celebration entity) {
+        if (entity.getId() == null) {
+            entity.setId(sequence.next());
+        }
+        long position;
+        synchronized (this) {
+            try {
+                position = log.appendPut(entity);
+            } catch (IOException e) {
+                throw new LogWriteException("Error while writing the celebration to the log", e);
+            }
+            storage.put(entity);
+            compactIfDue();
+        }
+        sync(position);
+        return entity.getId();
+    }
+
+    @Override
+    public List<Long> saveAll(Collection<Celebration> entities) {
+        entities.forEach(entity -> {
+            if (entity.getId() == null) {
+                entity.setId(sequence.next());
+            }
+        });
+        long position;
+        synchronized (this) {
+            try {
+                position = log.appendPuts(entities);
+            } catch (IOException e) {
+                throw new LogWriteException("Error while writing celebrations to the log", e);
+            }
+            entities.forEach(storage::put);
+            compactIfDue();
+        }
+        sync(position);
+        return entities.stream().map(Celebration::getId).toList();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        long position;
+        synchronized (this) {
+            if (storage.find(id) == null) {
+                throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
+            }
+            try {
+                position = log.appendDelete(id);
+            } catch (IOException e) {
+                throw new LogWriteException("Error while writing the celebration deletion to the log", e);
+            }
+            storage.remove(id);
+            compactIfDue();
+        }
+        sync(position);
+    }
+
+    @Override
+    public void deleteAll() {
+        long position;
+        synchronized (this) {
+            try {
+                position = log.appendClear();
+            } catch (IOException e) {
+                throw new LogWriteException("Error while writing celebrations deletion to the log", e);
+            }
+            storage.clear();
+            compactIfDue();
+        }
+        sync(position);
+    }
+
+    @Override
+    public List<Celebration> findAllByIds(Collection<Long> ids) {
+        List<Celebration> result = new ArrayList<>();
+        ids.forEach(id -> {
+            Celebration celebration = storage.find(id);
+            if (celebration != null) {
+                result.add(celebration);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void deleteAllByIds(Collection<Long> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public List<Celebration> findByMonthDay(MonthDay monthDay) {
+        return storage.findByMonthDay(monthDay);
+    }
+
+    @Override
+    public List<Celebration> findByDateRange(LocalDate from, LocalDate to) {
+        return storage.findByDateRange(from, to);
+    }
+
+    @Override
+    public List<Celebration> findUpcoming(LocalDate from, int limit) {
+        return storage.findUpcoming(from, limit);
+    }
+
+    @Override
+    public List<Celebration> findByPlace(String place) {
+        return storage.findByPlace(place);
+    }
+
+    public synchronized void compact() {
+        try {
+            log.compact(storage.findAll());
+        } catch (IOException e) {
+            IO.printError("Error while compacting the celebration log");
+        }
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    private void compactIfDue() {
+        if (log.isCompactionDue()) {
+            compact();
+        }
+    }
+
+    private void sync(long position) {
+        try {
+            log.sync(position);
+        } catch (IOException e) {
+            IO.printError("Error while syncing the celebration log");
+        }
+    }
+
+    private static CelebrationLogRepository createInstance() {
+        CelebrationLogRepository repository = new CelebrationLogRepository(
+                RecordLog.createDefault(LOG_NAME, CelebrationRecordCodec.getInstance())
+        );
+        Runtime.getRuntime().addShutdownHook(new Thread(repository::close, "celebration-log-close"));
+        return repository;
+    }
+}
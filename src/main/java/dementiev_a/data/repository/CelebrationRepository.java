@@ -2,6 +2,8 @@ package dementiev_a.data.repository;
 
 import dementiev_a.data.model.Celebration;
 
+import java.time.LocalDate;
+import java.time.MonthDay;
 import java.util.Collection;
 import java.util.List;
 
@@ -9,4 +11,8 @@ public interface CelebrationRepository extends Repository<Celebration, Long> {
     String ENTITY_NAME = "Celebration";
     List<Celebration> findAllByIds(Collection<Long> ids);
     void deleteAllByIds(Collection<Long> ids);
+    List<Celebration> findByMonthDay(MonthDay monthDay);
+    List<Celebration> findByDateRange(LocalDate from, LocalDate to);
+    List<Celebration> findUpcoming(LocalDate from, int limit);
+    List<Celebration> findByPlace(String place);
 }
@@ -0,0 +1,78 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.manager.DatabaseManager;
+import dementiev_a.data.manager.PostgresManager;
+import dementiev_a.data.model.SearchResult;
+import dementiev_a.data.model.SearchResultType;
+import dementiev_a.io.IO;
+import lombok.Getter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class DatabaseSearchRepository implements SearchRepository {
+    @Getter(lazy = true)
+    private static final DatabaseSearchRepository instance = new DatabaseSearchRepository();
+
+    private static final String EVENT_DOCUMENT =
+            "to_tsvector('simple', COALESCE(name, '') || ' ' || COALESCE(description, ''))";
+    private static final String CELEBRATION_DOCUMENT =
+            "to_tsvector('simple', COALESCE(name, '') || ' ' || COALESCE(description, '') || ' ' || " +
+                    "COALESCE(place, ''))";
+    private static final String SEARCH_SQL =
+            "WITH query AS (SELECT to_tsquery('simple', ?) AS terms) " +
+                    "SELECT 'EVENT' AS type, id, name, description, date, " +
+                    "ts_rank(" + EVENT_DOCUMENT + ", query.terms) AS rank " +
+                    "FROM events, query WHERE " + EVENT_DOCUMENT + " @@ query.terms " +
+                    "UNION ALL " +
+                    "SELECT 'CELEBRATION' AS type, id, name, description, date, " +
+                    "ts_rank(" + CELEBRATION_DOCUMENT + ", query.terms) AS rank " +
+                    "FROM celebrations, query WHERE " + CELEBRATION_DOCUMENT + " @@ query.terms " +
+                    "ORDER BY rank DESC, type DESC, id LIMIT ?";
+    private static final String PREFIX_MATCH = ":*";
+    private static final String AND = " & ";
+
+    private final DatabaseManager databaseManager;
+
+    private DatabaseSearchRepository() {
+        this(PostgresManager.lazy());
+    }
+
+    public DatabaseSearchRepository(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+    }
+
+    @Override
+    public List<SearchResult> search(String query, int limit) {
+        List<String> words = SearchTokenizer.words(query);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SEARCH_SQL)) {
+            statement.setString(1, words.stream().map(word -> word + PREFIX_MATCH).collect(Collectors.joining(AND)));
+            statement.setInt(2, limit);
+            try (ResultSet result = statement.executeQuery()) {
+                List<SearchResult> results = new ArrayList<>();
+                while (result.next()) {
+                    results.add(new SearchResult(
+                            SearchResultType.valueOf(result.getString("type")),
+                            result.getLong("id"),
+                            result.getString("name"),
+                            result.getString("description"),
+                            result.getDate("date").toLocalDate()
+                    ));
+                }
+                return results;
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while searching in database");
+            return List.of();
+        }
+    }
+}
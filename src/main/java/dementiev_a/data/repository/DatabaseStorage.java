@@ -0,0 +1,45 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.manager.DatabaseManager;
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import lombok.Getter;
+
+import java.util.Collection;
+
+@Getter
+public class DatabaseStorage implements Storage {
+    @Getter(lazy = true)
+    private static final DatabaseStorage instance = new DatabaseStorage(
+            EventDatabaseRepository.getInstance(),
+            CelebrationDatabaseRepository.getInstance()
+    );
+
+    private final EventDatabaseRepository eventRepository;
+    private final CelebrationDatabaseRepository celebrationRepository;
+
+    public DatabaseStorage(EventDatabaseRepository eventRepository,
+                           CelebrationDatabaseRepository celebrationRepository) {
+        this.eventRepository = eventRepository;
+        this.celebrationRepository = celebrationRepository;
+    }
+
+    public DatabaseStorage(DatabaseManager databaseManager) {
+        this(new EventDatabaseRepository(databaseManager), new CelebrationDatabaseRepository(databaseManager));
+    }
+
+    @Override
+    public Long addCelebration(Celebration celebration) {
+        return eventRepository.addCelebration(celebration, celebrationRepository);
+    }
+
+    @Override
+    public void saveAll(Collection<Event> events, Collection<Celebration> celebrations) {
+        eventRepository.saveAllWithCelebrations(events, celebrations, celebrationRepository);
+    }
+
+    @Override
+    public int deleteEventWithCelebrations(Long eventId) {
+        return eventRepository.deleteWithCelebrations(eventId);
+    }
+}
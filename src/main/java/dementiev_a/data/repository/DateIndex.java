@@ -0,0 +1,102 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.utils.LongHashSet;
+import dementiev_a.utils.LongObjectHashMap;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.util.*;
+import java.util.stream.LongStream;
+
+class DateIndex {
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+
+    private final NavigableMap<LocalDate, LongHashSet> byDate = new TreeMap<>();
+    private final Map<LocalDate, LongHashSet> byExactDate = new HashMap<>();
+    private final List<LongHashSet> byMonthDay = new ArrayList<>(DAYS_IN_LEAP_YEAR);
+    private final LongObjectHashMap<LocalDate> indexedDates = new LongObjectHashMap<>();
+
+    DateIndex() {
+        for (int i = 0; i < DAYS_IN_LEAP_YEAR; i++) {
+            byMonthDay.add(new LongHashSet());
+        }
+    }
+
+    void put(long id, LocalDate date) {
+        LocalDate previousDate = indexedDates.put(id, date);
+        if (previousDate != null) {
+            if (previousDate.equals(date)) {
+                return;
+            }
+            unindex(id, previousDate);
+        }
+        LongHashSet dateIds = byExactDate.get(date);
+        if (dateIds == null) {
+            dateIds = new LongHashSet();
+            byExactDate.put(date, dateIds);
+            byDate.put(date, dateIds);
+        }
+        dateIds.add(id);
+        byMonthDay.get(bucket(date.getMonth(), date.getDayOfMonth())).add(id);
+    }
+
+    void remove(long id) {
+        LocalDate previousDate = indexedDates.remove(id);
+        if (previousDate != null) {
+            unindex(id, previousDate);
+        }
+    }
+
+    void clear() {
+        byDate.clear();
+        byExactDate.clear();
+        byMonthDay.forEach(LongHashSet::clear);
+        indexedDates.clear();
+    }
+
+    long[] findByDate(LocalDate date) {
+        LongHashSet ids = byExactDate.get(date);
+        return ids == null ? new long[0] : sorted(ids);
+    }
+
+    long[] findByMonthDay(MonthDay monthDay) {
+        return sorted(byMonthDay.get(bucket(monthDay.getMonth(), monthDay.getDayOfMonth())));
+    }
+
+    long[] findByDateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return new long[0];
+        }
+        return byDate.subMap(from, true, to, true).values().stream()
+                .flatMapToLong(ids -> LongStream.of(sorted(ids)))
+                .toArray();
+    }
+
+    long[] findUpcoming(LocalDate from, int limit) {
+        return byDate.tailMap(from, true).values().stream()
+                .flatMapToLong(ids -> LongStream.of(sorted(ids)))
+                .limit(Math.max(limit, 0))
+                .toArray();
+    }
+
+    private static long[] sorted(LongHashSet ids) {
+        long[] result = ids.toLongArray();
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void unindex(long id, LocalDate date) {
+        LongHashSet ids = byExactDate.get(date);
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            byExactDate.remove(date);
+            byDate.remove(date);
+        }
+        byMonthDay.get(bucket(date.getMonth(), date.getDayOfMonth())).remove(id);
+    }
+
+    private static int bucket(Month month, int dayOfMonth) {
+        return month.firstDayOfYear(true) + dayOfMonth - 2;
+    }
+}
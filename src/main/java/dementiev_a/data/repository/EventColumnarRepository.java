@@ -0,0 +1,433 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Event;
+import dementiev_a.data.model.EventSummary;
+import dementiev_a.data.sequence.EventSequence;
+import dementiev_a.exception.NoEntityException;
+import dementiev_a.utils.LongHashSet;
+import dementiev_a.utils.OffHeapStringArena;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventColumnarRepository implements EventRepository {
+    @Getter(lazy = true)
+    private static final EventColumnarRepository instance = new EventColumnarRepository();
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int DELETED_DAY = Integer.MIN_VALUE;
+    private static final short DELETED_MONTH_DAY = 0;
+    private static final int MONTH_DAY_SHIFT = 5;
+    private static final int SCAN_BUFFER_SIZE = 64;
+    private static final long ROW_MASK = 0xFFFFFFFFL;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final EventSequence eventSequence = EventSequence.getInstance();
+    private OffHeapStringArena strings = new OffHeapStringArena();
+    private long[] ids = new long[DEFAULT_CAPACITY];
+    private int[] epochDays = new int[DEFAULT_CAPACITY];
+    private short[] monthDays = new short[DEFAULT_CAPACITY];
+    private long[] names = new long[DEFAULT_CAPACITY];
+    private long[] descriptions = new long[DEFAULT_CAPACITY];
+    private LongHashSet[] celebrationIds = new LongHashSet[DEFAULT_CAPACITY];
+    private int size;
+    private int deletedRows;
+
+    @Override
+    public Event findById(Long id) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return eventAt(liveRowOf(id));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return findPage(null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Event> findPage(Long afterId, int limit) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return materialize(pageRows(afterId, limit), this::eventAt);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Long save(Event entity) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (entity.getId() == null) {
+                entity.setId(eventSequence.next());
+            }
+            int epochDay = Math.toIntExact(entity.getDate().toEpochDay());
+            int row = Arrays.binarySearch(ids, 0, size, entity.getId());
+            if (row >= 0) {
+                release(row);
+            } else {
+                row = insertRow(-row - 1, entity.getId());
+            }
+            write(row, entity, epochDay);
+            compactIfDue();
+            return entity.getId();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            int row = liveRowOf(id);
+            release(row);
+            epochDays[row] = DELETED_DAY;
+            monthDays[row] = DELETED_MONTH_DAY;
+            names[row] = OffHeapStringArena.NULL_HANDLE;
+            descriptions[row] = OffHeapStringArena.NULL_HANDLE;
+            celebrationIds[row] = null;
+            deletedRows++;
+            compactIfDue();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            strings.clear();
+            ids = new long[DEFAULT_CAPACITY];
+            epochDays = new int[DEFAULT_CAPACITY];
+            monthDays = new short[DEFAULT_CAPACITY];
+            names = new long[DEFAULT_CAPACITY];
+            descriptions = new long[DEFAULT_CAPACITY];
+            celebrationIds = new LongHashSet[DEFAULT_CAPACITY];
+            size = 0;
+            deletedRows = 0;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<Long> findCelebrationsIdsByEventId(Long eventId) {
+        return findById(eventId).getCelebrationIds();
+    }
+
+    @Override
+    public void addCelebrationId(Long eventId, Long celebrationId) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            int row = Arrays.binarySearch(ids, 0, size, eventId);
+            if (row >= 0 && epochDays[row] != DELETED_DAY) {
+                if (celebrationIds[row] == null) {
+                    celebrationIds[row] = new LongHashSet();
+                }
+                celebrationIds[row].add(celebrationId);
+                return;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        throw new NoEntityException(ENTITY_NAME, String.valueOf(eventId));
+    }
+
+    @Override
+    public List<Event> findByDate(LocalDate date) {
+        return findRowsByDate(date, this::eventAt);
+    }
+
+    @Override
+    public List<Event> findByMonthDay(MonthDay monthDay) {
+        return findRowsByMonthDay(monthDay, this::eventAt);
+    }
+
+    @Override
+    public List<Event> findByDateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int[] rows = sortedByDate(scanRange(epochDays, size, clampDay(from), clampDay(to)), Integer.MAX_VALUE);
+            return materialize(rows, this::eventAt);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Event> findUpcoming(LocalDate from, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int[] rows = sortedByDate(scanRange(epochDays, size, clampDay(from), Integer.MAX_VALUE), limit);
+            return materialize(rows, this::eventAt);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<EventSummary> findSummaryPage(Long afterId, int limit) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return materialize(pageRows(afterId, limit), this::summaryAt);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByDate(LocalDate date) {
+        return findRowsByDate(date, this::summaryAt);
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByMonthDay(MonthDay monthDay) {
+        return findRowsByMonthDay(monthDay, this::summaryAt);
+    }
+
+    private <T> List<T> findRowsByDate(LocalDate date, IntFunction<T> mapper) {
+        long epochDay = date.toEpochDay();
+        if (epochDay <= DELETED_DAY || epochDay > Integer.MAX_VALUE) {
+            return List.of();
+        }
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return materialize(scanEqual(epochDays, size, (int) epochDay), mapper);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private <T> List<T> findRowsByMonthDay(MonthDay monthDay, IntFunction<T> mapper) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return materialize(scanEqual(monthDays, size, monthDayKey(monthDay.getMonthValue(),
+                    monthDay.getDayOfMonth())), mapper);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private int liveRowOf(Long id) {
+        int row = id == null ? -1 : Arrays.binarySearch(ids, 0, size, id);
+        if (row < 0 || epochDays[row] == DELETED_DAY) {
+            throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
+        }
+        return row;
+    }
+
+    private int[] pageRows(Long afterId, int limit) {
+        int from = 0;
+        if (afterId != null) {
+            int row = Arrays.binarySearch(ids, 0, size, afterId);
+            from = row >= 0 ? row + 1 : -row - 1;
+        }
+        int[] rows = new int[Math.max(0, Math.min(limit, size - from))];
+        int count = 0;
+        for (int row = from; row < size && count < rows.length; row++) {
+            if (epochDays[row] != DELETED_DAY) {
+                rows[count++] = row;
+            }
+        }
+        return count == rows.length ? rows : Arrays.copyOf(rows, count);
+    }
+
+    private int insertRow(int row, long id) {
+        if (size == ids.length) {
+            int capacity = ids.length << 1;
+            ids = Arrays.copyOf(ids, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            monthDays = Arrays.copyOf(monthDays, capacity);
+            names = Arrays.copyOf(names, capacity);
+            descriptions = Arrays.copyOf(descriptions, capacity);
+            celebrationIds = Arrays.copyOf(celebrationIds, capacity);
+        }
+        if (row < size) {
+            int moved = size - row;
+            System.arraycopy(ids, row, ids, row + 1, moved);
+            System.arraycopy(epochDays, row, epochDays, row + 1, moved);
+            System.arraycopy(monthDays, row, monthDays, row + 1, moved);
+            System.arraycopy(names, row, names, row + 1, moved);
+            System.arraycopy(descriptions, row, descriptions, row + 1, moved);
+            System.arraycopy(celebrationIds, row, celebrationIds, row + 1, moved);
+        }
+        ids[row] = id;
+        epochDays[row] = DELETED_DAY;
+        size++;
+        deletedRows++;
+        return row;
+    }
+
+    private void write(int row, Event entity, int epochDay) {
+        LocalDate date = entity.getDate();
+        if (epochDays[row] == DELETED_DAY) {
+            deletedRows--;
+        }
+        epochDays[row] = epochDay;
+        monthDays[row] = monthDayKey(date.getMonthValue(), date.getDayOfMonth());
+        names[row] = strings.add(entity.getName());
+        descriptions[row] = strings.add(entity.getDescription());
+        Set<Long> entityCelebrationIds = entity.getCelebrationIds();
+        celebrationIds[row] = entityCelebrationIds.isEmpty() ? null : new LongHashSet(entityCelebrationIds);
+    }
+
+    private void release(int row) {
+        if (epochDays[row] != DELETED_DAY) {
+            strings.release(names[row]);
+            strings.release(descriptions[row]);
+        }
+    }
+
+    private void compactIfDue() {
+        if (deletedRows > DEFAULT_CAPACITY && deletedRows > size / 2) {
+            compactRows();
+        }
+        if (strings.isCompactionDue()) {
+            compactStrings();
+        }
+    }
+
+    private void compactRows() {
+        int live = 0;
+        for (int row = 0; row < size; row++) {
+            if (epochDays[row] == DELETED_DAY) {
+                continue;
+            }
+            ids[live] = ids[row];
+            epochDays[live] = epochDays[row];
+            monthDays[live] = monthDays[row];
+            names[live] = names[row];
+            descriptions[live] = descriptions[row];
+            celebrationIds[live] = celebrationIds[row];
+            live++;
+        }
+        Arrays.fill(celebrationIds, live, size, null);
+        size = live;
+        deletedRows = 0;
+    }
+
+    private void compactStrings() {
+        OffHeapStringArena compacted = new OffHeapStringArena(strings.getSize() - (int) strings.getReleasedBytes());
+        for (int row = 0; row < size; row++) {
+            if (epochDays[row] != DELETED_DAY) {
+                names[row] = compacted.add(strings.get(names[row]));
+                descriptions[row] = compacted.add(strings.get(descriptions[row]));
+            }
+        }
+        strings = compacted;
+    }
+
+    private Event eventAt(int row) {
+        LongHashSet rowCelebrationIds = celebrationIds[row];
+        return new Event(ids[row], strings.get(names[row]), strings.get(descriptions[row]),
+                LocalDate.ofEpochDay(epochDays[row]),
+                rowCelebrationIds == null ? new LongHashSet() : new LongHashSet(rowCelebrationIds));
+    }
+
+    private EventSummary summaryAt(int row) {
+        return new EventSummary(ids[row], strings.get(names[row]), strings.get(descriptions[row]),
+                LocalDate.ofEpochDay(epochDays[row]));
+    }
+
+    private int[] sortedByDate(int[] rows, int limit) {
+        long[] keys = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            keys[i] = (long) epochDays[rows[i]] << Integer.SIZE | rows[i];
+        }
+        Arrays.sort(keys);
+        int[] sortedRows = new int[Math.min(limit, keys.length)];
+        for (int i = 0; i < sortedRows.length; i++) {
+            sortedRows[i] = (int) (keys[i] & ROW_MASK);
+        }
+        return sortedRows;
+    }
+
+    private static <T> List<T> materialize(int[] rows, IntFunction<T> mapper) {
+        List<T> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(mapper.apply(row));
+        }
+        return result;
+    }
+
+    private static int[] scanEqual(int[] column, int length, int value) {
+        int[] rows = new int[SCAN_BUFFER_SIZE];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (column[i] == value) {
+                rows = appendRow(rows, count++, i);
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    private static int[] scanEqual(short[] column, int length, short value) {
+        int[] rows = new int[SCAN_BUFFER_SIZE];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (column[i] == value) {
+                rows = appendRow(rows, count++, i);
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    private static int[] scanRange(int[] column, int length, int from, int to) {
+        int[] rows = new int[SCAN_BUFFER_SIZE];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (column[i] >= from & column[i] <= to) {
+                rows = appendRow(rows, count++, i);
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    private static int[] appendRow(int[] rows, int count, int row) {
+        if (count == rows.length) {
+            rows = Arrays.copyOf(rows, count << 1);
+        }
+        rows[count] = row;
+        return rows;
+    }
+
+    private static int clampDay(LocalDate date) {
+        return (int) Math.max(DELETED_DAY + 1L, Math.min(Integer.MAX_VALUE, date.toEpochDay()));
+    }
+
+    private static short monthDayKey(int month, int dayOfMonth) {
+        return (short) (month << MONTH_DAY_SHIFT | dayOfMonth);
+    }
+}
@@ -0,0 +1,94 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Event;
+import dementiev_a.data.sequence.EventSequence;
+import dementiev_a.exception.NoEntityException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.List;
+import java.util.Set;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventConcurrentInMemoryRepository implements EventRepository {
+    @Getter(lazy = true)
+    private static final EventConcurrentInMemoryRepository instance = new EventConcurrentInMemoryRepository();
+
+    private final StripedStorage<Event> storage = new StripedStorage<>(Event::getDate, Event::copy);
+    private final EventSequence eventSequence = EventSequence.getInstance();
+
+    @Override
+    public Event findById(Long id) {
+        Event event = storage.find(id);
+        if (event == null) {
+            throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
+        }
+        return event;
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return storage.findAll();
+    }
+
+    @Override
+    public List<Event> findPage(Long afterId, int limit) {
+        return storage.findPage(afterId == null ? Long.MIN_VALUE : afterId, limit);
+    }
+
+    @Override
+    public Long save(Event entity) {
+        if (entity.getId() == null) {
+            entity.setId(eventSequence.next());
+        }
+        storage.put(entity);
+        return entity.getId();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        if (!storage.remove(id)) {
+            throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        storage.clear();
+    }
+
+    @Override
+    public Set<Long> findCelebrationsIdsByEventId(Long eventId) {
+        return findById(eventId).getCelebrationIds();
+    }
+
+    @Override
+    public void addCelebrationId(Long eventId, Long celebrationId) {
+        if (!storage.update(eventId, event -> event.addCelebrationId(celebrationId))) {
+            throw new NoEntityException(ENTITY_NAME, String.valueOf(eventId));
+        }
+    }
+
+    @Override
+    public List<Event> findByDate(LocalDate date) {
+        return storage.findByDate(date);
+    }
+
+    @Override
+    public List<Event> findByMonthDay(MonthDay monthDay) {
+        return storage.findByMonthDay(monthDay);
+    }
+
+    @Override
+    public List<Event> findByDateRange(LocalDate from, LocalDate to) {
+        return storage.findByDateRange(from, to);
+    }
+
+    @Override
+    public List<Event> findUpcoming(LocalDate from, int limit) {
+        return storage.findUpcoming(from, limit);
+    }
+}
@@ -1,80 +1,118 @@
 package dementiev_a.data.repository;
 
+import dementiev_a.data.manager.DatabaseManager;
 import dementiev_a.data.manager.PostgresManager;
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.CelebrationIdsLoader;
 import dementiev_a.data.model.Event;
-import dementiev_a.data.sequence.EventSequence;
+import dementiev_a.data.model.EventSummary;
+import dementiev_a.data.sequence.DatabaseSequence;
+import dementiev_a.data.sequence.Sequence;
+import dementiev_a.exception.BatchSaveException;
+import dementiev_a.exception.CelebrationIdsLoadException;
 import dementiev_a.exception.NoEntityException;
 import dementiev_a.io.IO;
+import dementiev_a.utils.LongHashSet;
+import dementiev_a.utils.LongObjectHashMap;
 import lombok.Getter;
 
 import java.sql.*;
 import java.sql.Date;
 import java.time.LocalDate;
+import java.time.MonthDay;
 import java.util.*;
+import java.util.function.Consumer;
 
 public class EventDatabaseRepository implements EventRepository {
     @Getter(lazy = true)
     private static final EventDatabaseRepository instance = new EventDatabaseRepository();
 
-    private final EventSequence sequence = EventSequence.getInstance();
-    private Statement statement;
-    private PreparedStatement saveEventStatement;
-    private PreparedStatement saveCelebrationToEventStatement;
-    private PreparedStatement findEventByIdStatement;
-    private PreparedStatement findCelebrationsIdsByEventIdStatement;
-    private PreparedStatement findEventsByDateStatement;
-    private PreparedStatement deleteEventStatement;
-    private PreparedStatement deleteEventCelebrationsByEventIdStatement;
+    private static final String SAVE_EVENT_SQL =
+            "INSERT INTO events (id, name, description, date) VALUES (?, ?, ?, ?) ON CONFLICT (id) DO UPDATE SET " +
+                    "name = EXCLUDED.name, description = EXCLUDED.description, date = EXCLUDED.date";
+    private static final String SAVE_CELEBRATION_TO_EVENT_SQL =
+            "INSERT INTO events_celebrations (celebrationId, eventId) VALUES (?, ?) " +
+                    "ON CONFLICT (celebrationId) DO NOTHING";
+    private static final String FIND_EVENT_BY_ID_SQL =
+            "SELECT id, name, description, date FROM events WHERE id = ?";
+    private static final String FIND_CELEBRATIONS_IDS_BY_EVENT_ID_SQL =
+            "SELECT celebrationId FROM events_celebrations WHERE eventId = ?";
+    private static final String FIND_CELEBRATIONS_IDS_BY_EVENT_IDS_SQL =
+            "SELECT eventId, celebrationId FROM events_celebrations WHERE eventId = ANY(?)";
+    private static final String FIND_EVENTS_CELEBRATIONS_IDS_BY_EVENT_IDS_SQL =
+            "SELECT e.id AS eventId, ec.celebrationId FROM events e " +
+                    "LEFT JOIN events_celebrations ec ON ec.eventId = e.id WHERE e.id = ANY(?)";
+    private static final String FIND_EVENTS_BY_DATE_SQL =
+            "SELECT id, name, description, date FROM events WHERE date = ? ORDER BY id";
+    private static final String FIND_EVENTS_BY_MONTH_DAY_SQL =
+            "SELECT id, name, description, date FROM events " +
+                    "WHERE EXTRACT(MONTH FROM date) = ? AND EXTRACT(DAY FROM date) = ? ORDER BY id";
+    private static final String FIND_EVENTS_BY_DATE_RANGE_SQL =
+            "SELECT id, name, description, date FROM events WHERE date BETWEEN ? AND ? ORDER BY date, id";
+    private static final String FIND_UPCOMING_EVENTS_SQL =
+            "SELECT id, name, description, date FROM events WHERE date >= ? ORDER BY date, id LIMIT ?";
+    private static final String FIND_ALL_EVENTS_SQL =
+            "SELECT id, name, description, date FROM events ORDER BY id";
+    private static final String FIND_EVENTS_PAGE_SQL =
+            "SELECT id, name, description, date FROM events WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String DELETE_EVENTS_CELEBRATIONS_BY_EVENT_IDS_SQL =
+            "DELETE FROM events_celebrations WHERE eventId = ANY(?)";
+    private static final String DELETE_EVENT_CELEBRATIONS_BY_CELEBRATION_IDS_SQL =
+            "DELETE FROM events_celebrations WHERE eventId = ? AND celebrationId = ANY(?)";
+    private static final String UPDATE_EVENT_SQL_FORMAT =
+            "UPDATE events SET %s WHERE id = ?";
+    private static final String DELETE_EVENT_SQL =
+            "DELETE FROM events WHERE id = ?";
+    private static final String DELETE_EVENT_CELEBRATIONS_BY_EVENT_ID_SQL =
+            "DELETE FROM events_celebrations WHERE eventId = ?";
+    private static final String DELETE_EVENT_WITH_CELEBRATIONS_SQL =
+            "WITH deleted_event AS (DELETE FROM events WHERE id = ? RETURNING id), " +
+                    "deleted_celebrations AS (DELETE FROM celebrations WHERE id IN (" +
+                    "SELECT celebrationId FROM events_celebrations " +
+                    "WHERE eventId IN (SELECT id FROM deleted_event)) RETURNING id) " +
+                    "SELECT (SELECT COUNT(*) FROM deleted_event) AS deletedEvents, " +
+                    "(SELECT COUNT(*) FROM deleted_celebrations) AS deletedCelebrations";
+    private static final String ADD_CELEBRATION_SQL =
+            "WITH event AS (SELECT id FROM events WHERE id = ?), " +
+                    "inserted_celebration AS (INSERT INTO celebrations (id, name, description, date, place) " +
+                    "SELECT ?, ?, ?, CAST(? AS DATE), ? FROM event RETURNING id), " +
+                    "inserted_link AS (INSERT INTO events_celebrations (celebrationId, eventId) " +
+                    "SELECT inserted_celebration.id, event.id FROM inserted_celebration, event RETURNING eventId) " +
+                    "SELECT COUNT(*) AS addedCelebrations FROM inserted_link";
+
+    private static final int STREAMING_FETCH_SIZE = 500;
+    private static final int CELEBRATION_IDS_BATCH_SIZE = 500;
+    private static final List<String> UPDATABLE_FIELDS = List.of(Event.NAME, Event.DESCRIPTION, Event.DATE);
+
+    private final DatabaseManager databaseManager;
+    @Getter
+    private final Sequence sequence;
 
     private EventDatabaseRepository() {
-        Connection connection = PostgresManager.getInstance().getConnection();
-        try {
-            statement = connection.createStatement();
-            try (ResultSet result = statement.executeQuery("SELECT MAX(id) FROM events")) {
-                if (result.next()) {
-                    long maxId = result.getLong(1);
-                    sequence.setValue(maxId + 1);
-                }
-            }
-            saveEventStatement = connection.prepareStatement(
-                    "INSERT INTO events (id, name, description, date) VALUES (?, ?, ?, ?) ON CONFLICT (id) DO UPDATE SET " +
-                            "name = EXCLUDED.name, description = EXCLUDED.description, date = EXCLUDED.date"
-            );
-            saveCelebrationToEventStatement = connection.prepareStatement(
-                    "INSERT INTO events_celebrations (celebrationId, eventId) VALUES (?, ?) " +
-                            "ON CONFLICT (celebrationId) DO NOTHING"
-            );
-            findEventByIdStatement = connection.prepareStatement(
-                    "SELECT * FROM events LEFT JOIN events_celebrations ON events.id = events_celebrations.eventId " +
-                            "WHERE id = ?"
-            );
-            findCelebrationsIdsByEventIdStatement = connection.prepareStatement(
-                    "SELECT celebrationId FROM events_celebrations WHERE eventId = ?"
-            );
-            findEventsByDateStatement = connection.prepareStatement(
-                    "SELECT * FROM events LEFT JOIN events_celebrations ON events.id = events_celebrations.eventId" +
-                            " WHERE date = ?"
-            );
-            deleteEventStatement = connection.prepareStatement(
-                    "DELETE FROM events WHERE id = ?"
-            );
-            deleteEventCelebrationsByEventIdStatement = connection.prepareStatement(
-                    "DELETE FROM events_celebrations WHERE eventId = ?"
-            );
-        } catch (SQLException e) {
-            IO.printError("Error while preparing database statements");
-        }
+        this(PostgresManager.lazy());
+    }
+
+    EventDatabaseRepository(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+        this.sequence = new DatabaseSequence(
+                databaseManager, PostgresManager.EVENTS_ID_SEQUENCE, PostgresManager.getIdBlockSize()
+        );
     }
 
     @Override
     public Set<Long> findCelebrationsIdsByEventId(Long eventId) {
-        try {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement findEventByIdStatement = connection.prepareStatement(FIND_EVENT_BY_ID_SQL);
+             PreparedStatement findCelebrationsIdsStatement =
+                     connection.prepareStatement(FIND_CELEBRATIONS_IDS_BY_EVENT_ID_SQL)) {
             findEventByIdStatement.setLong(1, eventId);
-            if (!findEventByIdStatement.executeQuery().next()) {
-                throw new NoEntityException(ENTITY_NAME, String.valueOf(eventId));
+            try (ResultSet eventResult = findEventByIdStatement.executeQuery()) {
+                if (!eventResult.next()) {
+                    throw new NoEntityException(ENTITY_NAME, String.valueOf(eventId));
+                }
             }
-            findCelebrationsIdsByEventIdStatement.setLong(1, eventId);
-            try (ResultSet celebrationsResult = findCelebrationsIdsByEventIdStatement.executeQuery()) {
+            findCelebrationsIdsStatement.setLong(1, eventId);
+            try (ResultSet celebrationsResult = findCelebrationsIdsStatement.executeQuery()) {
                 return extractCelebrationIds(celebrationsResult);
             }
         } catch (SQLException e) {
@@ -83,11 +121,91 @@ public class EventDatabaseRepository implements EventRepository {
         }
     }
 
+    @Override
+    public Map<Long, Set<Long>> findCelebrationsIdsByEventIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Set<Long>> celebrationIds = new HashMap<>();
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_EVENTS_CELEBRATIONS_IDS_BY_EVENT_IDS_SQL)) {
+            statement.setArray(1, connection.createArrayOf("bigint", eventIds.toArray()));
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    Set<Long> eventCelebrationIds =
+                            celebrationIds.computeIfAbsent(result.getLong("eventId"), eventId -> new LongHashSet());
+                    long celebrationId = result.getLong("celebrationId");
+                    if (!result.wasNull()) {
+                        eventCelebrationIds.add(celebrationId);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving celebration IDs from database");
+            return Map.of();
+        }
+        for (Long eventId : eventIds) {
+            if (!celebrationIds.containsKey(eventId)) {
+                throw new NoEntityException(ENTITY_NAME, String.valueOf(eventId));
+            }
+        }
+        return celebrationIds;
+    }
+
     @Override
     public List<Event> findByDate(LocalDate date) {
-        try {
-            findEventsByDateStatement.setDate(1, Date.valueOf(date));
-            try (ResultSet result = findEventsByDateStatement.executeQuery()) {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_EVENTS_BY_DATE_SQL)) {
+            statement.setDate(1, Date.valueOf(date));
+            try (ResultSet result = statement.executeQuery()) {
+                return extractEvents(result);
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving the events from database");
+            return List.of();
+        }
+    }
+
+    @Override
+    public List<Event> findByMonthDay(MonthDay monthDay) {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_EVENTS_BY_MONTH_DAY_SQL)) {
+            statement.setInt(1, monthDay.getMonthValue());
+            statement.setInt(2, monthDay.getDayOfMonth());
+            try (ResultSet result = statement.executeQuery()) {
+                return extractEvents(result);
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving the events from database");
+            return List.of();
+        }
+    }
+
+    @Override
+    public List<Event> findByDateRange(LocalDate from, LocalDate to) {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_EVENTS_BY_DATE_RANGE_SQL)) {
+            statement.setDate(1, Date.valueOf(from));
+            statement.setDate(2, Date.valueOf(to));
+            try (ResultSet result = statement.executeQuery()) {
+                return extractEvents(result);
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving the events from database");
+            return List.of();
+        }
+    }
+
+    @Override
+    public List<Event> findUpcoming(LocalDate from, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_UPCOMING_EVENTS_SQL)) {
+            statement.setDate(1, Date.valueOf(from));
+            statement.setInt(2, limit);
+            try (ResultSet result = statement.executeQuery()) {
                 return extractEvents(result);
             }
         } catch (SQLException e) {
@@ -98,9 +216,10 @@ public class EventDatabaseRepository implements EventRepository {
 
     @Override
     public Event findById(Long id) {
-        try {
-            findEventByIdStatement.setLong(1, id);
-            try (ResultSet result = findEventByIdStatement.executeQuery()) {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_EVENT_BY_ID_SQL)) {
+            statement.setLong(1, id);
+            try (ResultSet result = statement.executeQuery()) {
                 List<Event> events = extractEvents(result);
                 if (events.isEmpty()) {
                     throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
@@ -115,9 +234,9 @@ public class EventDatabaseRepository implements EventRepository {
 
     @Override
     public List<Event> findAll() {
-        try (ResultSet result = statement.executeQuery(
-                "SELECT * FROM events LEFT JOIN events_celebrations ON events.id = events_celebrations.eventId"
-        )) {
+        try (Connection connection = databaseManager.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(FIND_ALL_EVENTS_SQL)) {
             return extractEvents(result);
         } catch (SQLException e) {
             IO.printError("Error while retrieving events from database");
@@ -125,58 +244,349 @@ public class EventDatabaseRepository implements EventRepository {
         }
     }
 
+    @Override
+    public List<Event> findPage(Long afterId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_EVENTS_PAGE_SQL)) {
+            statement.setLong(1, afterId == null ? Long.MIN_VALUE : afterId);
+            statement.setInt(2, limit);
+            try (ResultSet result = statement.executeQuery()) {
+                return extractEvents(result);
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving events from database");
+            return List.of();
+        }
+    }
+
+    @Override
+    public List<EventSummary> findSummaryPage(Long afterId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_EVENTS_PAGE_SQL)) {
+            statement.setLong(1, afterId == null ? Long.MIN_VALUE : afterId);
+            statement.setInt(2, limit);
+            try (ResultSet result = statement.executeQuery()) {
+                return extractSummaries(result);
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving events from database");
+            return List.of();
+        }
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByDate(LocalDate date) {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_EVENTS_BY_DATE_SQL)) {
+            statement.setDate(1, Date.valueOf(date));
+            try (ResultSet result = statement.executeQuery()) {
+                return extractSummaries(result);
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving the events from database");
+            return List.of();
+        }
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByMonthDay(MonthDay monthDay) {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_EVENTS_BY_MONTH_DAY_SQL)) {
+            statement.setInt(1, monthDay.getMonthValue());
+            statement.setInt(2, monthDay.getDayOfMonth());
+            try (ResultSet result = statement.executeQuery()) {
+                return extractSummaries(result);
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving the events from database");
+            return List.of();
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<Event> action) {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_ALL_EVENTS_SQL)) {
+            connection.setAutoCommit(false);
+            statement.setFetchSize(STREAMING_FETCH_SIZE);
+            try (ResultSet result = statement.executeQuery()) {
+                visitEvents(result, action);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            IO.printError("Error while retrieving events from database");
+        }
+    }
+
     @Override
     public Long save(Event entity) {
         if (entity.getId() == null) {
             entity.setId(sequence.next());
         }
-        try {
-            saveEventStatement.setLong(1, entity.getId());
-            saveEventStatement.setString(2, entity.getName());
-            saveEventStatement.setString(3, entity.getDescription());
-            saveEventStatement.setDate(4, Date.valueOf(entity.getDate()));
-            saveEventStatement.executeUpdate();
-            deleteEventCelebrationsByEventIdStatement.setLong(1, entity.getId());
-            deleteEventCelebrationsByEventIdStatement.executeUpdate();
-            for (long celebrationId : entity.getCelebrationIds()) {
-                saveCelebrationToEventStatement.setLong(1, celebrationId);
-                saveCelebrationToEventStatement.setLong(2, entity.getId());
-                saveCelebrationToEventStatement.addBatch();
+        try (Connection connection = databaseManager.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                if (!entity.isPersisted() || !saveChanges(connection, entity)) {
+                    saveWhole(connection, entity);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
             }
-            saveCelebrationToEventStatement.executeBatch();
+            entity.markPersisted();
         } catch (SQLException e) {
             IO.printError("Error while saving the event to database");
         }
         return entity.getId();
     }
 
+    @Override
+    public List<Long> saveAll(Collection<Event> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        entities.stream()
+                .filter(entity -> entity.getId() == null)
+                .forEach(entity -> entity.setId(sequence.next()));
+        try (Connection connection = databaseManager.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                saveAll(connection, entities);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+            entities.forEach(Event::markPersisted);
+        } catch (SQLException e) {
+            throw new BatchSaveException(e);
+        }
+        return entities.stream()
+                .map(Event::getId)
+                .toList();
+    }
+
+    void saveAllWithCelebrations(Collection<Event> events, Collection<Celebration> celebrations,
+                                 CelebrationDatabaseRepository celebrationRepository) {
+        events.stream()
+                .filter(entity -> entity.getId() == null)
+                .forEach(entity -> entity.setId(sequence.next()));
+        celebrations.stream()
+                .filter(entity -> entity.getId() == null)
+                .forEach(entity -> entity.setId(celebrationRepository.getSequence().next()));
+        try (Connection connection = databaseManager.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                saveAll(connection, events);
+                celebrationRepository.saveAll(connection, celebrations);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new BatchSaveException(e);
+        }
+        events.forEach(Event::markPersisted);
+        celebrations.forEach(Celebration::markPersisted);
+    }
+
     @Override
     public void deleteById(Long id) {
-        try {
-            deleteEventStatement.setLong(1, id);
-            int affectedRows = deleteEventStatement.executeUpdate();
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(DELETE_EVENT_SQL)) {
+            statement.setLong(1, id);
+            int affectedRows = statement.executeUpdate();
             if (affectedRows == 0) {
                 throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
             }
-            deleteEventCelebrationsByEventIdStatement.setLong(1, id);
-            deleteEventCelebrationsByEventIdStatement.executeUpdate();
         } catch (SQLException e) {
             IO.printError("Error while deleting the event from database");
         }
     }
 
+    Long addCelebration(Celebration celebration, CelebrationDatabaseRepository celebrationRepository) {
+        if (celebration.getId() == null) {
+            celebration.setId(celebrationRepository.getSequence().next());
+        }
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(ADD_CELEBRATION_SQL)) {
+            statement.setLong(1, celebration.getEventId());
+            statement.setLong(2, celebration.getId());
+            statement.setString(3, celebration.getName());
+            statement.setString(4, celebration.getDescription());
+            statement.setDate(5, Date.valueOf(celebration.getDate()));
+            statement.setString(6, celebration.getPlace());
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                if (result.getInt("addedCelebrations") == 0) {
+                    throw new NoEntityException(ENTITY_NAME, String.valueOf(celebration.getEventId()));
+                }
+            }
+            celebration.markPersisted();
+        } catch (SQLException e) {
+            IO.printError("Error while saving the celebration to database");
+        }
+        return celebration.getId();
+    }
+
+    int deleteWithCelebrations(Long id) {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(DELETE_EVENT_WITH_CELEBRATIONS_SQL)) {
+            statement.setLong(1, id);
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                if (result.getInt("deletedEvents") == 0) {
+                    throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
+                }
+                return result.getInt("deletedCelebrations");
+            }
+        } catch (SQLException e) {
+            IO.printError("Error while deleting the event from database");
+            return 0;
+        }
+    }
+
     @Override
     public void deleteAll() {
-        try {
+        try (Connection connection = databaseManager.getConnection();
+             Statement statement = connection.createStatement()) {
             statement.executeUpdate("DELETE FROM events");
-            statement.executeUpdate("DELETE FROM events_celebrations");
         } catch (SQLException e) {
             IO.printError("Error while deleting events from database");
         }
     }
 
+    private void saveAll(Connection connection, Collection<Event> entities) throws SQLException {
+        if (entities.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement saveEventStatement = connection.prepareStatement(SAVE_EVENT_SQL);
+             PreparedStatement deleteLinksStatement =
+                     connection.prepareStatement(DELETE_EVENTS_CELEBRATIONS_BY_EVENT_IDS_SQL);
+             PreparedStatement saveLinkStatement = connection.prepareStatement(SAVE_CELEBRATION_TO_EVENT_SQL)) {
+            List<Event> wholeEntities = new ArrayList<>();
+            for (Event entity : entities) {
+                if (!entity.isPersisted() || !saveChanges(connection, entity)) {
+                    wholeEntities.add(entity);
+                }
+            }
+            if (wholeEntities.isEmpty()) {
+                return;
+            }
+            for (Event entity : wholeEntities) {
+                setEventParameters(saveEventStatement, entity);
+                saveEventStatement.addBatch();
+                addLinks(saveLinkStatement, entity.getId(), entity.getCelebrationIds());
+            }
+            saveEventStatement.executeBatch();
+            deleteLinksStatement.setArray(1, connection.createArrayOf(
+                    "bigint", wholeEntities.stream().map(Event::getId).toArray()
+            ));
+            deleteLinksStatement.executeUpdate();
+            saveLinkStatement.executeBatch();
+        }
+    }
+
+    private void saveWhole(Connection connection, Event entity) throws SQLException {
+        try (PreparedStatement saveEventStatement = connection.prepareStatement(SAVE_EVENT_SQL);
+             PreparedStatement deleteLinksStatement =
+                     connection.prepareStatement(DELETE_EVENT_CELEBRATIONS_BY_EVENT_ID_SQL);
+             PreparedStatement saveLinkStatement = connection.prepareStatement(SAVE_CELEBRATION_TO_EVENT_SQL)) {
+            setEventParameters(saveEventStatement, entity);
+            saveEventStatement.executeUpdate();
+            deleteLinksStatement.setLong(1, entity.getId());
+            deleteLinksStatement.executeUpdate();
+            if (addLinks(saveLinkStatement, entity.getId(), entity.getCelebrationIds())) {
+                saveLinkStatement.executeBatch();
+            }
+        }
+    }
+
+    private boolean saveChanges(Connection connection, Event entity) throws SQLException {
+        List<String> changedFields = UPDATABLE_FIELDS.stream()
+                .filter(entity.getChangedFields()::contains)
+                .toList();
+        if (!changedFields.isEmpty() && !updateFields(connection, entity, changedFields)) {
+            return false;
+        }
+        if (entity.isCelebrationIdsReplaced()) {
+            try (PreparedStatement deleteLinksStatement =
+                         connection.prepareStatement(DELETE_EVENT_CELEBRATIONS_BY_EVENT_ID_SQL)) {
+                deleteLinksStatement.setLong(1, entity.getId());
+                deleteLinksStatement.executeUpdate();
+            }
+            insertLinks(connection, entity.getId(), entity.getCelebrationIds());
+            return true;
+        }
+        if (!entity.getRemovedCelebrationIds().isEmpty()) {
+            try (PreparedStatement deleteLinksStatement =
+                         connection.prepareStatement(DELETE_EVENT_CELEBRATIONS_BY_CELEBRATION_IDS_SQL)) {
+                deleteLinksStatement.setLong(1, entity.getId());
+                deleteLinksStatement.setArray(2, connection.createArrayOf(
+                        "bigint", entity.getRemovedCelebrationIds().toArray()
+                ));
+                deleteLinksStatement.executeUpdate();
+            }
+        }
+        insertLinks(connection, entity.getId(), entity.getAddedCelebrationIds());
+        return true;
+    }
+
+    private boolean updateFields(Connection connection, Event entity, List<String> fields) throws SQLException {
+        String assignments = String.join(", ", fields.stream().map(field -> field + " = ?").toList());
+        try (PreparedStatement statement =
+                     connection.prepareStatement(UPDATE_EVENT_SQL_FORMAT.formatted(assignments))) {
+            int index = 1;
+            for (String field : fields) {
+                switch (field) {
+                    case Event.NAME -> statement.setString(index++, entity.getName());
+                    case Event.DESCRIPTION -> statement.setString(index++, entity.getDescription());
+                    case Event.DATE -> statement.setDate(index++, Date.valueOf(entity.getDate()));
+                    default -> throw new IllegalArgumentException("Unknown event field " + field);
+                }
+            }
+            statement.setLong(index, entity.getId());
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    private void insertLinks(Connection connection, long eventId, Set<Long> celebrationIds) throws SQLException {
+        if (celebrationIds.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement saveLinkStatement = connection.prepareStatement(SAVE_CELEBRATION_TO_EVENT_SQL)) {
+            addLinks(saveLinkStatement, eventId, celebrationIds);
+            saveLinkStatement.executeBatch();
+        }
+    }
+
+    private boolean addLinks(PreparedStatement saveLinkStatement, long eventId, Set<Long> celebrationIds)
+            throws SQLException {
+        for (long celebrationId : celebrationIds) {
+            saveLinkStatement.setLong(1, celebrationId);
+            saveLinkStatement.setLong(2, eventId);
+            saveLinkStatement.addBatch();
+        }
+        return !celebrationIds.isEmpty();
+    }
+
+    private void setEventParameters(PreparedStatement statement, Event entity) throws SQLException {
+        statement.setLong(1, entity.getId());
+        statement.setString(2, entity.getName());
+        statement.setString(3, entity.getDescription());
+        statement.setDate(4, Date.valueOf(entity.getDate()));
+    }
+
     private Set<Long> extractCelebrationIds(ResultSet result) throws SQLException {
-        Set<Long> celebrationIds = new HashSet<>();
+        Set<Long> celebrationIds = new LongHashSet();
         while (result.next()) {
             celebrationIds.add(result.getLong("celebrationId"));
         }
@@ -184,23 +594,84 @@ public class EventDatabaseRepository implements EventRepository {
     }
 
     private List<Event> extractEvents(ResultSet result) throws SQLException {
-        Map<Long, Event> map = new TreeMap<>();
+        List<Event> events = new ArrayList<>();
+        visitEvents(result, events::add);
+        return events;
+    }
+
+    private List<EventSummary> extractSummaries(ResultSet result) throws SQLException {
+        List<EventSummary> summaries = new ArrayList<>();
         while (result.next()) {
-            Long eventId = result.getLong("id");
-            long celebrationId = result.getLong("celebrationId");
-            if (!map.containsKey(eventId)) {
-                map.put(eventId, new Event(
-                        eventId,
-                        result.getString("name"),
-                        result.getString("description"),
-                        result.getDate("date").toLocalDate(),
-                        new HashSet<>()
-                ));
+            summaries.add(new EventSummary(
+                    result.getLong("id"),
+                    result.getString("name"),
+                    result.getString("description"),
+                    result.getDate("date").toLocalDate()
+            ));
+        }
+        return summaries;
+    }
+
+    private void visitEvents(ResultSet result, Consumer<Event> action) throws SQLException {
+        List<Event> batch = new ArrayList<>(CELEBRATION_IDS_BATCH_SIZE);
+        CelebrationIdsBatch celebrationIdsBatch = new CelebrationIdsBatch();
+        while (result.next()) {
+            Event event = new Event(
+                    result.getString("name"),
+                    result.getString("description"),
+                    result.getDate("date").toLocalDate()
+            );
+            event.setId(result.getLong("id"));
+            event.setCelebrationIdsLoader(celebrationIdsBatch);
+            event.markPersisted();
+            celebrationIdsBatch.add(event.getId());
+            batch.add(event);
+            if (batch.size() == CELEBRATION_IDS_BATCH_SIZE) {
+                batch.forEach(action);
+                batch.clear();
+                celebrationIdsBatch = new CelebrationIdsBatch();
             }
-            if (celebrationId != 0) {
-                map.get(eventId).addCelebrationId(celebrationId);
+        }
+        batch.forEach(action);
+    }
+
+    private class CelebrationIdsBatch implements CelebrationIdsLoader {
+        private final List<Long> eventIds = new ArrayList<>(CELEBRATION_IDS_BATCH_SIZE);
+        private LongObjectHashMap<Set<Long>> celebrationIdsByEventId;
+
+        private void add(long eventId) {
+            eventIds.add(eventId);
+        }
+
+        @Override
+        public synchronized Set<Long> load(long eventId) {
+            if (celebrationIdsByEventId == null) {
+                celebrationIdsByEventId = fetch();
+            }
+            Set<Long> celebrationIds = celebrationIdsByEventId.get(eventId);
+            return celebrationIds == null ? new LongHashSet() : new LongHashSet(celebrationIds);
+        }
+
+        private LongObjectHashMap<Set<Long>> fetch() {
+            LongObjectHashMap<Set<Long>> celebrationIds = new LongObjectHashMap<>();
+            try (Connection connection = databaseManager.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(FIND_CELEBRATIONS_IDS_BY_EVENT_IDS_SQL)) {
+                statement.setArray(1, connection.createArrayOf("bigint", eventIds.toArray()));
+                try (ResultSet result = statement.executeQuery()) {
+                    while (result.next()) {
+                        long eventId = result.getLong("eventId");
+                        Set<Long> eventCelebrationIds = celebrationIds.get(eventId);
+                        if (eventCelebrationIds == null) {
+                            eventCelebrationIds = new LongHashSet();
+                            celebrationIds.put(eventId, eventCelebrationIds);
+                        }
+                        eventCelebrationIds.add(result.getLong("celebrationId"));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new CelebrationIdsLoadException(e);
             }
+            return celebrationIds;
         }
-        return new ArrayList<>(map.values());
     }
 }
@@ -2,20 +2,32 @@ package dementiev_a.data.repository;
 
 import dementiev_a.data.model.Event;
 import dementiev_a.data.sequence.EventSequence;
+import dementiev_a.data.snapshot.SnapshotReader;
+import dementiev_a.data.snapshot.SnapshotWriter;
 import dementiev_a.exception.NoEntityException;
+import dementiev_a.utils.LongHashSet;
+import dementiev_a.utils.LongObjectHashMap;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.MonthDay;
 import java.util.*;
+import java.util.stream.LongStream;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class EventInMemoryRepository implements EventRepository {
     @Getter(lazy = true)
     private static final EventInMemoryRepository instance = new EventInMemoryRepository();
 
-    private final Map<Long, Event> storage = new TreeMap<>();
+    private static final int SNAPSHOT_MAGIC = 0x4D444556;
+
+    private LongObjectHashMap<Event> storage = new LongObjectHashMap<>();
+    private DateIndex dateIndex = new DateIndex();
+    private IdIndex idIndex = new IdIndex();
     private final EventSequence eventSequence = EventSequence.getInstance();
 
     @Override
@@ -29,7 +41,12 @@ public class EventInMemoryRepository implements EventRepository {
 
     @Override
     public List<Event> findAll() {
-        return new ArrayList<>(storage.values());
+        return storage.valuesSortedByKey();
+    }
+
+    @Override
+    public List<Event> findPage(Long afterId, int limit) {
+        return findAllByIndexedIds(idIndex.findAfter(afterId == null ? Long.MIN_VALUE : afterId, limit));
     }
 
     @Override
@@ -38,6 +55,8 @@ public class EventInMemoryRepository implements EventRepository {
             entity.setId(eventSequence.next());
         }
         storage.put(entity.getId(), entity);
+        dateIndex.put(entity.getId(), entity.getDate());
+        idIndex.add(entity.getId());
         return entity.getId();
     }
 
@@ -47,11 +66,15 @@ public class EventInMemoryRepository implements EventRepository {
             throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
         }
         storage.remove(id);
+        dateIndex.remove(id);
+        idIndex.remove(id);
     }
 
     @Override
     public void deleteAll() {
         storage.clear();
+        dateIndex.clear();
+        idIndex.clear();
     }
 
     @Override
@@ -65,8 +88,91 @@ public class EventInMemoryRepository implements EventRepository {
 
     @Override
     public List<Event> findByDate(LocalDate date) {
-        return storage.values().stream()
-                .filter(event -> event.getDate().equals(date))
+        return findAllByIndexedIds(dateIndex.findByDate(date));
+    }
+
+    @Override
+    public List<Event> findByMonthDay(MonthDay monthDay) {
+        return findAllByIndexedIds(dateIndex.findByMonthDay(monthDay));
+    }
+
+    @Override
+    public List<Event> findByDateRange(LocalDate from, LocalDate to) {
+        return findAllByIndexedIds(dateIndex.findByDateRange(from, to));
+    }
+
+    @Override
+    public List<Event> findUpcoming(LocalDate from, int limit) {
+        return findAllByIndexedIds(dateIndex.findUpcoming(from, limit));
+    }
+
+    public void writeSnapshot(Path path) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path)) {
+            writer.writeInt(SNAPSHOT_MAGIC);
+            writer.writeVarLong(eventSequence.getValue());
+            writer.writeVarLong(storage.size());
+            long previousId = 0;
+            for (Event event : storage.valuesSortedByKey()) {
+                writer.writeSignedVarLong(event.getId() - previousId);
+                previousId = event.getId();
+                writer.writeString(event.getName());
+                writer.writeString(event.getDescription());
+                writer.writeSignedVarLong(event.getDate().toEpochDay());
+                writeCelebrationIds(writer, event.getCelebrationIds());
+            }
+            writer.commit();
+        }
+    }
+
+    public void loadSnapshot(Path path) throws IOException {
+        SnapshotReader reader = new SnapshotReader(path);
+        if (reader.readInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Unknown event snapshot format in " + path);
+        }
+        long sequenceValue = reader.readVarLong();
+        long count = reader.readVarLong();
+        LongObjectHashMap<Event> loadedStorage = new LongObjectHashMap<>();
+        DateIndex loadedDateIndex = new DateIndex();
+        IdIndex loadedIdIndex = new IdIndex();
+        long id = 0;
+        for (long i = 0; i < count; i++) {
+            id += reader.readSignedVarLong();
+            String name = reader.readString();
+            String description = reader.readString();
+            LocalDate date = LocalDate.ofEpochDay(reader.readSignedVarLong());
+            long celebrationsCount = reader.readVarLong();
+            LongHashSet celebrationIds = new LongHashSet();
+            long celebrationId = 0;
+            for (long j = 0; j < celebrationsCount; j++) {
+                celebrationId += reader.readSignedVarLong();
+                celebrationIds.add(celebrationId);
+            }
+            loadedStorage.put(id, new Event(id, name, description, date, celebrationIds));
+            loadedDateIndex.put(id, date);
+            loadedIdIndex.add(id);
+        }
+        storage = loadedStorage;
+        dateIndex = loadedDateIndex;
+        idIndex = loadedIdIndex;
+        eventSequence.setValue(sequenceValue);
+    }
+
+    private static void writeCelebrationIds(SnapshotWriter writer, Set<Long> celebrationIds) throws IOException {
+        writer.writeVarLong(celebrationIds.size());
+        if (celebrationIds.isEmpty()) {
+            return;
+        }
+        long[] sortedIds = celebrationIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        long previousId = 0;
+        for (long celebrationId : sortedIds) {
+            writer.writeSignedVarLong(celebrationId - previousId);
+            previousId = celebrationId;
+        }
+    }
+
+    private List<Event> findAllByIndexedIds(long[] ids) {
+        return LongStream.of(ids)
+                .mapToObj(storage::get)
                 .toList();
     }
 }
@@ -0,0 +1,192 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.log.EventRecordCodec;
+import dementiev_a.data.log.RecordLog;
+import dementiev_a.data.model.Event;
+import dementiev_a.data.sequence.LocalSequence;
+import dementiev_a.exception.LogWriteException;
+import dementiev_a.exception.NoEntityException;
+import dementiev_a.io.IO;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public class EventLogRepository implements EventRepository, AutoCloseable {
+    private static final String LOG_NAME = "events";
+
+    @Getter(lazy = true)
+    private static final EventLogRepository instance = createInstance();
+
+    private final StripedStorage<Event> storage = new StripedStorage<>(Event::getDate, Event::copy);
+    private final RecordLog<Event> log;
+    @Getter
+    private final LocalSequence sequence = new LocalSequence();
+
+    public EventLogRepository(RecordLog<Event> log) {
+        this.log = log;
+        try {
+            log.open(storage::put, storage::remove, storage::clear);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while reading the event log", e);
+        }
+        sequence.setValue(log.getMaxId() + 1);
+    }
+
+    @Override
+    public Event findById(Long id) {
+        Event event = storage.find(id);
+        if (event == null) {
+            throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
+        }
+        return event;
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return storage.findAll();
+    }
+
+    @Override
+    public List<Event> findPage(Long afterId, int limit) {
+        return storage.findPage(afterId == null ? Long.MIN_VALUE : afterId, limit);
+    }
+
+    @Override
+    public Long save(Event entity) {
+        if (entity.getId() == null) {
+            entity.setId(sequence.next());
+        }
+        long position;
+        synchronized (this) {
+            try {
+                position = log.appendPut(entity);
+            } catch (IOException e) {
+                throw new LogWriteException("Error while writing the event to the log", e);
+            }
+            storage.put(entity);
+            compactIfDue();
+        }
+        sync(position);
+        return entity.getId();
+    }
+
+    @Override
+    public List<Long> saveAll(Collection<Event> entities) {
+        entities.forEach(entity -> {
+            if (entity.getId() == null) {
+                entity.setId(sequence.next());
+            }
+        });
+        long position;
+        synchronized (this) {
+            try {
+                position = log.appendPuts(entities);
+            } catch (IOException e) {
+                throw new LogWriteException("Error while writing events to the log", e);
+            }
+            entities.forEach(storage::put);
+            compactIfDue();
+        }
+        sync(position);
+        return entities.stream().map(Event::getId).toList();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        long position;
+        synchronized (this) {
+            if (storage.find(id) == null) {
+                throw new NoEntityException(ENTITY_NAME, String.valueOf(id));
+            }
+            try {
+                position = log.appendDelete(id);
+            } catch (IOException e) {
+                throw new LogWriteException("Error while writing the event deletion to the log", e);
+            }
+            storage.remove(id);
+            compactIfDue();
+        }
+        sync(position);
+    }
+
+    @Override
+    public void deleteAll() {
+        long position;
+        synchronized (this) {
+            try {
+                position = log.appendClear();
+            } catch (IOException e) {
+                throw new LogWriteException("Error while writing events deletion to the log", e);
+            }
+            storage.clear();
+            compactIfDue();
+        }
+        sync(position);
+    }
+
+    @Override
+    public Set<Long> findCelebrationsIdsByEventId(Long eventId) {
+        return findById(eventId).getCelebrationIds();
+    }
+
+    @Override
+    public List<Event> findByDate(LocalDate date) {
+        return storage.findByDate(date);
+    }
+
+    @Override
+    public List<Event> findByMonthDay(MonthDay monthDay) {
+        return storage.findByMonthDay(monthDay);
+    }
+
+    @Override
+    public List<Event> findByDateRange(LocalDate from, LocalDate to) {
+        return storage.findByDateRange(from, to);
+    }
+
+    @Override
+    public List<Event> findUpcoming(LocalDate from, int limit) {
+        return storage.findUpcoming(from, limit);
+    }
+
+    public synchronized void compact() {
+        try {
+            log.compact(storage.findAll());
+        } catch (IOException e) {
+            IO.printError("Error while compacting the event log");
+        }
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    private void compactIfDue() {
+        if (log.isCompactionDue()) {
+            compact();
+        }
+    }
+
+    private void sync(long position) {
+        try {
+            log.sync(position);
+        } catch (IOException e) {
+            IO.printError("Error while syncing the event log");
+        }
+    }
+
+    private static EventLogRepository createInstance() {
+        EventLogRepository repository = new EventLogRepository(
+                RecordLog.createDefault(LOG_NAME, EventRecordCodec.getInstance())
+        );
+        Runtime.getRuntime().addShutdownHook(new Thread(repository::close, "event-log-close"));
+        return repository;
+    }
+}
@@ -1,13 +1,45 @@
 package dementiev_a.data.repository;
 
 import dementiev_a.data.model.Event;
+import dementiev_a.data.model.EventSummary;
 
 import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface EventRepository extends Repository<Event, Long> {
     String ENTITY_NAME = "Event";
     Set<Long> findCelebrationsIdsByEventId(Long eventId);
     List<Event> findByDate(LocalDate date);
+    List<Event> findByMonthDay(MonthDay monthDay);
+    List<Event> findByDateRange(LocalDate from, LocalDate to);
+    List<Event> findUpcoming(LocalDate from, int limit);
+
+    default Map<Long, Set<Long>> findCelebrationsIdsByEventIds(Collection<Long> eventIds) {
+        Map<Long, Set<Long>> celebrationIds = new LinkedHashMap<>();
+        eventIds.forEach(eventId -> celebrationIds.put(eventId, findCelebrationsIdsByEventId(eventId)));
+        return celebrationIds;
+    }
+
+    default List<EventSummary> findSummaryPage(Long afterId, int limit) {
+        return findPage(afterId, limit).stream().map(EventSummary::new).toList();
+    }
+
+    default List<EventSummary> findSummariesByDate(LocalDate date) {
+        return findByDate(date).stream().map(EventSummary::new).toList();
+    }
+
+    default List<EventSummary> findSummariesByMonthDay(MonthDay monthDay) {
+        return findByMonthDay(monthDay).stream().map(EventSummary::new).toList();
+    }
+
+    default void addCelebrationId(Long eventId, Long celebrationId) {
+        Event event = findById(eventId);
+        event.addCelebrationId(celebrationId);
+        save(event);
+    }
 }
@@ -0,0 +1,60 @@
+package dementiev_a.data.repository;
+
+import java.util.Arrays;
+
+class IdIndex {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] ids = new long[DEFAULT_CAPACITY];
+    private int size;
+
+    void add(long id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            insert(-index - 1, id);
+            return;
+        }
+        insert(size, id);
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    void clear() {
+        ids = new long[DEFAULT_CAPACITY];
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    long[] findAfter(long afterId, int limit) {
+        int index = Arrays.binarySearch(ids, 0, size, afterId);
+        int from = index >= 0 ? index + 1 : -index - 1;
+        int to = (int) Math.min(size, (long) from + Math.max(limit, 0));
+        return Arrays.copyOfRange(ids, from, Math.max(from, to));
+    }
+
+    private void insert(int index, long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length << 1);
+        }
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+    }
+}
@@ -0,0 +1,100 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import dementiev_a.data.model.SearchResult;
+import dementiev_a.data.model.SearchResultType;
+import dementiev_a.utils.LongObjectHashMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class InMemorySearchRepository implements SearchRepository {
+    @Getter(lazy = true)
+    private static final InMemorySearchRepository instance = new InMemorySearchRepository();
+
+    private static final Comparator<Match> BY_RELEVANCE = Comparator.comparingInt((Match match) -> match.score)
+            .reversed()
+            .thenComparing(match -> match.result.getType())
+            .thenComparing(match -> match.result.getId());
+
+    private final InvertedIndex eventIndex = new InvertedIndex();
+    private final InvertedIndex celebrationIndex = new InvertedIndex();
+    private final LongObjectHashMap<SearchResult> events = new LongObjectHashMap<>();
+    private final LongObjectHashMap<SearchResult> celebrations = new LongObjectHashMap<>();
+
+    @Override
+    public synchronized List<SearchResult> search(String query, int limit) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>();
+        collect(matches, eventIndex.search(terms), events);
+        collect(matches, celebrationIndex.search(terms), celebrations);
+        return matches.stream()
+                .sorted(BY_RELEVANCE)
+                .limit(limit)
+                .map(match -> match.result)
+                .toList();
+    }
+
+    public synchronized void indexEvent(Event event) {
+        events.put(event.getId(), new SearchResult(event));
+        eventIndex.put(event.getId(), SearchTokenizer.tokenizeAll(event.getName(), event.getDescription()));
+    }
+
+    public synchronized void removeEvent(long id) {
+        events.remove(id);
+        eventIndex.remove(id);
+    }
+
+    public synchronized void clearEvents() {
+        events.clear();
+        eventIndex.clear();
+    }
+
+    public synchronized void indexCelebration(Celebration celebration) {
+        celebrations.put(celebration.getId(), new SearchResult(celebration));
+        celebrationIndex.put(celebration.getId(), SearchTokenizer.tokenizeAll(
+                celebration.getName(), celebration.getDescription(), celebration.getPlace()));
+    }
+
+    public synchronized void removeCelebration(long id) {
+        celebrations.remove(id);
+        celebrationIndex.remove(id);
+    }
+
+    public synchronized void clearCelebrations() {
+        celebrations.clear();
+        celebrationIndex.clear();
+    }
+
+    public synchronized void rebuild(EventRepository eventRepository, CelebrationRepository celebrationRepository) {
+        clearEvents();
+        clearCelebrations();
+        eventRepository.forEach(this::indexEvent);
+        celebrationRepository.forEach(this::indexCelebration);
+    }
+
+    private static void collect(List<Match> matches, Map<Long, Integer> scores,
+                                LongObjectHashMap<SearchResult> results) {
+        scores.forEach((id, score) -> matches.add(new Match(results.get(id), score)));
+    }
+
+    private static class Match {
+        private final SearchResult result;
+        private final int score;
+
+        private Match(SearchResult result, int score) {
+            this.result = result;
+            this.score = score;
+        }
+    }
+}
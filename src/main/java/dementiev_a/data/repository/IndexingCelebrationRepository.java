@@ -0,0 +1,96 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Celebration;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class IndexingCelebrationRepository implements CelebrationRepository {
+    private final CelebrationRepository delegate;
+    private final InMemorySearchRepository searchRepository;
+
+    public IndexingCelebrationRepository(CelebrationRepository delegate, InMemorySearchRepository searchRepository) {
+        this.delegate = delegate;
+        this.searchRepository = searchRepository;
+    }
+
+    @Override
+    public Celebration findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Celebration> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Celebration> findPage(Long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public void forEach(Consumer<Celebration> consumer) {
+        delegate.forEach(consumer);
+    }
+
+    @Override
+    public Long save(Celebration entity) {
+        Long id = delegate.save(entity);
+        searchRepository.indexCelebration(entity);
+        return id;
+    }
+
+    @Override
+    public List<Long> saveAll(Collection<Celebration> entities) {
+        List<Long> ids = delegate.saveAll(entities);
+        entities.forEach(searchRepository::indexCelebration);
+        return ids;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        searchRepository.removeCelebration(id);
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        searchRepository.clearCelebrations();
+    }
+
+    @Override
+    public List<Celebration> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public void deleteAllByIds(Collection<Long> ids) {
+        delegate.deleteAllByIds(ids);
+        ids.forEach(searchRepository::removeCelebration);
+    }
+
+    @Override
+    public List<Celebration> findByMonthDay(MonthDay monthDay) {
+        return delegate.findByMonthDay(monthDay);
+    }
+
+    @Override
+    public List<Celebration> findByDateRange(LocalDate from, LocalDate to) {
+        return delegate.findByDateRange(from, to);
+    }
+
+    @Override
+    public List<Celebration> findUpcoming(LocalDate from, int limit) {
+        return delegate.findUpcoming(from, limit);
+    }
+
+    @Override
+    public List<Celebration> findByPlace(String place) {
+        return delegate.findByPlace(place);
+    }
+}
@@ -0,0 +1,118 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Event;
+import dementiev_a.data.model.EventSummary;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public class IndexingEventRepository implements EventRepository {
+    private final EventRepository delegate;
+    private final InMemorySearchRepository searchRepository;
+
+    public IndexingEventRepository(EventRepository delegate, InMemorySearchRepository searchRepository) {
+        this.delegate = delegate;
+        this.searchRepository = searchRepository;
+    }
+
+    @Override
+    public Event findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Event> findPage(Long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public void forEach(Consumer<Event> consumer) {
+        delegate.forEach(consumer);
+    }
+
+    @Override
+    public Long save(Event entity) {
+        Long id = delegate.save(entity);
+        searchRepository.indexEvent(entity);
+        return id;
+    }
+
+    @Override
+    public List<Long> saveAll(Collection<Event> entities) {
+        List<Long> ids = delegate.saveAll(entities);
+        entities.forEach(searchRepository::indexEvent);
+        return ids;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        searchRepository.removeEvent(id);
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        searchRepository.clearEvents();
+    }
+
+    @Override
+    public Set<Long> findCelebrationsIdsByEventId(Long eventId) {
+        return delegate.findCelebrationsIdsByEventId(eventId);
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findCelebrationsIdsByEventIds(Collection<Long> eventIds) {
+        return delegate.findCelebrationsIdsByEventIds(eventIds);
+    }
+
+    @Override
+    public List<Event> findByDate(LocalDate date) {
+        return delegate.findByDate(date);
+    }
+
+    @Override
+    public List<Event> findByMonthDay(MonthDay monthDay) {
+        return delegate.findByMonthDay(monthDay);
+    }
+
+    @Override
+    public List<Event> findByDateRange(LocalDate from, LocalDate to) {
+        return delegate.findByDateRange(from, to);
+    }
+
+    @Override
+    public List<Event> findUpcoming(LocalDate from, int limit) {
+        return delegate.findUpcoming(from, limit);
+    }
+
+    @Override
+    public List<EventSummary> findSummaryPage(Long afterId, int limit) {
+        return delegate.findSummaryPage(afterId, limit);
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByDate(LocalDate date) {
+        return delegate.findSummariesByDate(date);
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByMonthDay(MonthDay monthDay) {
+        return delegate.findSummariesByMonthDay(monthDay);
+    }
+
+    @Override
+    public void addCelebrationId(Long eventId, Long celebrationId) {
+        delegate.addCelebrationId(eventId, celebrationId);
+    }
+}
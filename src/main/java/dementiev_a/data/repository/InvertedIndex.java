@@ -0,0 +1,126 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.utils.LongHashSet;
+import dementiev_a.utils.LongObjectHashMap;
+
+import java.util.*;
+
+class InvertedIndex {
+    private static final int EXACT_SCORE = 3;
+    private static final int PREFIX_SCORE = 2;
+    private static final int INFIX_SCORE = 1;
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String[] NO_TOKENS = new String[0];
+
+    private final NavigableMap<String, LongHashSet> postings = new TreeMap<>();
+    private final Map<String, Set<String>> tokensByTrigram = new HashMap<>();
+    private final LongObjectHashMap<String[]> tokensById = new LongObjectHashMap<>();
+
+    void put(long id, Collection<String> tokens) {
+        remove(id);
+        if (tokens.isEmpty()) {
+            return;
+        }
+        String[] documentTokens = tokens.toArray(NO_TOKENS);
+        for (String token : documentTokens) {
+            LongHashSet ids = postings.get(token);
+            if (ids == null) {
+                ids = new LongHashSet();
+                postings.put(token, ids);
+                trigrams(token).forEach(trigram ->
+                        tokensByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(token));
+            }
+            ids.add(id);
+        }
+        tokensById.put(id, documentTokens);
+    }
+
+    void remove(long id) {
+        String[] documentTokens = tokensById.remove(id);
+        if (documentTokens == null) {
+            return;
+        }
+        for (String token : documentTokens) {
+            LongHashSet ids = postings.get(token);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(token);
+                trigrams(token).forEach(trigram -> {
+                    Set<String> tokens = tokensByTrigram.get(trigram);
+                    tokens.remove(token);
+                    if (tokens.isEmpty()) {
+                        tokensByTrigram.remove(trigram);
+                    }
+                });
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        tokensByTrigram.clear();
+        tokensById.clear();
+    }
+
+    Map<Long, Integer> search(List<String> terms) {
+        Map<Long, Integer> scores = null;
+        for (String term : terms) {
+            Map<Long, Integer> termScores = scoreTerm(term);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores == null ? Map.of() : scores;
+    }
+
+    private Map<Long, Integer> scoreTerm(String term) {
+        Map<Long, Integer> scores = new HashMap<>();
+        for (Map.Entry<String, LongHashSet> entry : postings.subMap(term, true, term + Character.MAX_VALUE, false)
+                .entrySet()) {
+            score(scores, entry.getValue(), entry.getKey().equals(term) ? EXACT_SCORE : PREFIX_SCORE);
+        }
+        if (term.length() < GRAM_LENGTH) {
+            return scores;
+        }
+        Set<String> candidates = null;
+        for (String trigram : trigrams(term)) {
+            Set<String> tokens = tokensByTrigram.get(trigram);
+            if (tokens == null) {
+                return scores;
+            }
+            if (candidates == null || tokens.size() < candidates.size()) {
+                candidates = tokens;
+            }
+        }
+        for (String token : candidates) {
+            if (!token.startsWith(term) && token.contains(term)) {
+                score(scores, postings.get(token), INFIX_SCORE);
+            }
+        }
+        return scores;
+    }
+
+    private static void score(Map<Long, Integer> scores, LongHashSet ids, int score) {
+        for (long id : ids.toLongArray()) {
+            scores.merge(id, score, Math::max);
+        }
+    }
+
+    private static Set<String> trigrams(String token) {
+        if (token.length() < GRAM_LENGTH) {
+            return Set.of();
+        }
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= token.length(); i++) {
+            trigrams.add(token.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,92 @@
+package dementiev_a.data.repository;
+
+import java.util.*;
+
+class PlaceDictionary {
+    static final int NO_PLACE = -1;
+
+    private final Map<String, Place> placesByValue = new HashMap<>();
+    private final List<Place> placesById = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+
+    String put(long celebrationId, String previousValue, String value) {
+        Place previous = previousValue == null ? null : placesByValue.get(previousValue);
+        if (previous != null && previous.value.equals(value)) {
+            return previous.value;
+        }
+        if (previous != null) {
+            release(celebrationId, previous);
+        }
+        if (value == null) {
+            return null;
+        }
+        Place place = placesByValue.get(value);
+        if (place == null) {
+            place = new Place(freeIds.isEmpty() ? placesById.size() : freeIds.pop(), value);
+            placesByValue.put(value, place);
+            if (place.id == placesById.size()) {
+                placesById.add(place);
+            } else {
+                placesById.set(place.id, place);
+            }
+        }
+        place.celebrationIds.add(celebrationId);
+        return place.value;
+    }
+
+    void remove(long celebrationId, String value) {
+        Place place = value == null ? null : placesByValue.get(value);
+        if (place != null) {
+            release(celebrationId, place);
+        }
+    }
+
+    void clear() {
+        placesByValue.clear();
+        placesById.clear();
+        freeIds.clear();
+    }
+
+    long[] findByPlace(String value) {
+        Place place = value == null ? null : placesByValue.get(value);
+        return place == null ? new long[0] : place.celebrationIds.toArray();
+    }
+
+    int idOf(String value) {
+        Place place = value == null ? null : placesByValue.get(value);
+        return place == null ? NO_PLACE : place.id;
+    }
+
+    String valueOf(int id) {
+        Place place = placesById.get(id);
+        return place == null ? null : place.value;
+    }
+
+    int getIdsCount() {
+        return placesById.size();
+    }
+
+    int size() {
+        return placesByValue.size();
+    }
+
+    private void release(long celebrationId, Place place) {
+        place.celebrationIds.remove(celebrationId);
+        if (place.celebrationIds.isEmpty()) {
+            placesByValue.remove(place.value);
+            placesById.set(place.id, null);
+            freeIds.push(place.id);
+        }
+    }
+
+    private static class Place {
+        private final int id;
+        private final String value;
+        private final IdIndex celebrationIds = new IdIndex();
+
+        private Place(int id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+}
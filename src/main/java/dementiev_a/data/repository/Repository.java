@@ -2,12 +2,25 @@ package dementiev_a.data.repository;
 
 import dementiev_a.data.model.Model;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface Repository<M extends Model<ID>, ID> {
     M findById(ID id);
     List<M> findAll();
+    List<M> findPage(ID afterId, int limit);
     ID save(M entity);
     void deleteById(ID id);
     void deleteAll();
+
+    default void forEach(Consumer<M> action) {
+        findAll().forEach(action);
+    }
+
+    default List<ID> saveAll(Collection<M> entities) {
+        return entities.stream()
+                .map(this::save)
+                .toList();
+    }
 }
@@ -0,0 +1,11 @@
+package dementiev_a.data.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class RepositoryStorage implements Storage {
+    private final EventRepository eventRepository;
+    private final CelebrationRepository celebrationRepository;
+}
@@ -0,0 +1,9 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.SearchResult;
+
+import java.util.List;
+
+public interface SearchRepository {
+    List<SearchResult> search(String query, int limit);
+}
@@ -0,0 +1,49 @@
+package dementiev_a.data.repository;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class SearchTokenizer {
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern APOSTROPHES = Pattern.compile("['\u2019]");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("");
+        return split(APOSTROPHES.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(""));
+    }
+
+    static Set<String> tokenizeAll(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            tokens.addAll(tokenize(text));
+        }
+        return tokens;
+    }
+
+    static List<String> words(String text) {
+        return text == null ? List.of() : split(text.toLowerCase(Locale.ROOT));
+    }
+
+    private static List<String> split(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(text)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,46 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.importer.ImportResult;
+import dementiev_a.data.importer.Importer;
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import dementiev_a.exception.NoEntityException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
+
+public interface Storage {
+    EventRepository getEventRepository();
+    CelebrationRepository getCelebrationRepository();
+
+    default Long addCelebration(Celebration celebration) {
+        Long eventId = celebration.getEventId();
+        getEventRepository().findById(eventId);
+        Long celebrationId = getCelebrationRepository().save(celebration);
+        try {
+            getEventRepository().addCelebrationId(eventId, celebrationId);
+        } catch (NoEntityException e) {
+            getCelebrationRepository().deleteById(celebrationId);
+            throw e;
+        }
+        return celebrationId;
+    }
+
+    default void saveAll(Collection<Event> events, Collection<Celebration> celebrations) {
+        getEventRepository().saveAll(events);
+        getCelebrationRepository().saveAll(celebrations);
+    }
+
+    default int deleteEventWithCelebrations(Long eventId) {
+        Set<Long> celebrationIds = getEventRepository().findCelebrationsIdsByEventId(eventId);
+        getCelebrationRepository().deleteAllByIds(celebrationIds);
+        getEventRepository().deleteById(eventId);
+        return celebrationIds.size();
+    }
+
+    default ImportResult importFrom(Importer importer, Path path) throws IOException {
+        return importer.importFrom(path);
+    }
+}
@@ -0,0 +1,220 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Model;
+import dementiev_a.utils.LongObjectHashMap;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+class StripedStorage<M extends Model<Long>> {
+    private static final int STRIPES_COUNT = 16;
+
+    private final List<Stripe<M>> stripes = new ArrayList<>(STRIPES_COUNT);
+    private final Function<M, LocalDate> dateExtractor;
+    private final UnaryOperator<M> copier;
+    private final Function<M, String> placeExtractor;
+    private final BiConsumer<M, String> placeSetter;
+    private final Comparator<M> byDateAndId;
+
+    StripedStorage(Function<M, LocalDate> dateExtractor, UnaryOperator<M> copier) {
+        this(dateExtractor, copier, null, null);
+    }
+
+    StripedStorage(Function<M, LocalDate> dateExtractor, UnaryOperator<M> copier,
+                   Function<M, String> placeExtractor, BiConsumer<M, String> placeSetter) {
+        this.dateExtractor = dateExtractor;
+        this.copier = copier;
+        this.placeExtractor = placeExtractor;
+        this.placeSetter = placeSetter;
+        this.byDateAndId = Comparator.comparing(dateExtractor).thenComparing(Model::getId);
+        for (int i = 0; i < STRIPES_COUNT; i++) {
+            stripes.add(new Stripe<>(placeExtractor != null));
+        }
+    }
+
+    M find(long id) {
+        Stripe<M> stripe = stripeFor(id);
+        Lock lock = stripe.lock.readLock();
+        lock.lock();
+        try {
+            M entity = stripe.storage.get(id);
+            return entity == null ? null : copier.apply(entity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void put(M entity) {
+        M copy = copier.apply(entity);
+        Stripe<M> stripe = stripeFor(copy.getId());
+        Lock lock = stripe.lock.writeLock();
+        lock.lock();
+        try {
+            if (stripe.placeDictionary != null) {
+                M previous = stripe.storage.get(copy.getId());
+                placeSetter.accept(copy, stripe.placeDictionary.put(copy.getId(),
+                        previous == null ? null : placeExtractor.apply(previous), placeExtractor.apply(copy)));
+            }
+            stripe.storage.put(copy.getId(), copy);
+            stripe.dateIndex.put(copy.getId(), dateExtractor.apply(copy));
+            stripe.idIndex.add(copy.getId());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean update(long id, Consumer<M> updater) {
+        Stripe<M> stripe = stripeFor(id);
+        Lock lock = stripe.lock.writeLock();
+        lock.lock();
+        try {
+            M entity = stripe.storage.get(id);
+            if (entity == null) {
+                return false;
+            }
+            updater.accept(entity);
+            stripe.dateIndex.put(id, dateExtractor.apply(entity));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean remove(long id) {
+        Stripe<M> stripe = stripeFor(id);
+        Lock lock = stripe.lock.writeLock();
+        lock.lock();
+        try {
+            M removed = stripe.storage.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            if (stripe.placeDictionary != null) {
+                stripe.placeDictionary.remove(id, placeExtractor.apply(removed));
+            }
+            stripe.dateIndex.remove(id);
+            stripe.idIndex.remove(id);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        stripes.forEach(stripe -> stripe.lock.writeLock().lock());
+        try {
+            stripes.forEach(stripe -> {
+                stripe.storage.clear();
+                stripe.dateIndex.clear();
+                stripe.idIndex.clear();
+                if (stripe.placeDictionary != null) {
+                    stripe.placeDictionary.clear();
+                }
+            });
+        } finally {
+            stripes.forEach(stripe -> stripe.lock.writeLock().unlock());
+        }
+    }
+
+    List<M> findAll() {
+        List<M> result = new ArrayList<>();
+        for (Stripe<M> stripe : stripes) {
+            Lock lock = stripe.lock.readLock();
+            lock.lock();
+            try {
+                stripe.storage.valuesSortedByKey().forEach(entity -> result.add(copier.apply(entity)));
+            } finally {
+                lock.unlock();
+            }
+        }
+        result.sort(Comparator.comparing(Model::getId));
+        return result;
+    }
+
+    List<M> findPage(long afterId, int limit) {
+        List<M> result = new ArrayList<>();
+        for (Stripe<M> stripe : stripes) {
+            Lock lock = stripe.lock.readLock();
+            lock.lock();
+            try {
+                for (long id : stripe.idIndex.findAfter(afterId, limit)) {
+                    result.add(copier.apply(stripe.storage.get(id)));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        result.sort(Comparator.comparing(Model::getId));
+        return result.subList(0, Math.min(result.size(), Math.max(limit, 0)));
+    }
+
+    List<M> findByDate(LocalDate date) {
+        List<M> result = collect(stripe -> stripe.dateIndex.findByDate(date));
+        result.sort(Comparator.comparing(Model::getId));
+        return result;
+    }
+
+    List<M> findByMonthDay(MonthDay monthDay) {
+        List<M> result = collect(stripe -> stripe.dateIndex.findByMonthDay(monthDay));
+        result.sort(Comparator.comparing(Model::getId));
+        return result;
+    }
+
+    List<M> findByDateRange(LocalDate from, LocalDate to) {
+        List<M> result = collect(stripe -> stripe.dateIndex.findByDateRange(from, to));
+        result.sort(byDateAndId);
+        return result;
+    }
+
+    List<M> findUpcoming(LocalDate from, int limit) {
+        List<M> result = collect(stripe -> stripe.dateIndex.findUpcoming(from, limit));
+        result.sort(byDateAndId);
+        return result.subList(0, Math.min(result.size(), Math.max(limit, 0)));
+    }
+
+    List<M> findByPlace(String place) {
+        List<M> result = collect(stripe -> stripe.placeDictionary.findByPlace(place));
+        result.sort(Comparator.comparing(Model::getId));
+        return result;
+    }
+
+    private List<M> collect(Function<Stripe<M>, long[]> query) {
+        List<M> result = new ArrayList<>();
+        for (Stripe<M> stripe : stripes) {
+            Lock lock = stripe.lock.readLock();
+            lock.lock();
+            try {
+                for (long id : query.apply(stripe)) {
+                    result.add(copier.apply(stripe.storage.get(id)));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return result;
+    }
+
+    private Stripe<M> stripeFor(long id) {
+        return stripes.get(Math.floorMod(Long.hashCode(id), STRIPES_COUNT));
+    }
+
+    private static class Stripe<M> {
+        private final LongObjectHashMap<M> storage = new LongObjectHashMap<>();
+        private final DateIndex dateIndex = new DateIndex();
+        private final IdIndex idIndex = new IdIndex();
+        private final PlaceDictionary placeDictionary;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private Stripe(boolean placesIndexed) {
+            this.placeDictionary = placesIndexed ? new PlaceDictionary() : null;
+        }
+    }
+}
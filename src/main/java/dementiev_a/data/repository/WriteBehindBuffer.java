@@ -0,0 +1,190 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import dementiev_a.io.IO;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class WriteBehindBuffer implements AutoCloseable {
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    @Getter
+    @Setter
+    private static boolean enabled = false;
+    @Getter
+    @Setter
+    private static Duration flushInterval = Duration.ofMillis(200);
+    @Getter
+    @Setter
+    private static int maxPendingSaves = 500;
+
+    @Getter
+    private final Storage storage;
+    private final int pendingSavesLimit;
+    private final ScheduledExecutorService flusher;
+    private final Lock flushLock = new ReentrantLock();
+    private Map<Long, Event> pendingEvents = new LinkedHashMap<>();
+    private Map<Long, Celebration> pendingCelebrations = new LinkedHashMap<>();
+    private Map<Long, Event> flushingEvents = Map.of();
+    private Map<Long, Celebration> flushingCelebrations = Map.of();
+    private boolean flushRequested;
+    private boolean closed;
+
+    public WriteBehindBuffer(Storage storage, Duration flushInterval, int pendingSavesLimit) {
+        this.storage = storage;
+        this.pendingSavesLimit = pendingSavesLimit;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long flushPeriod = Math.max(1, flushInterval.toMillis());
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushPeriod, flushPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    public void saveEvent(Event event) {
+        synchronized (this) {
+            if (!closed) {
+                pendingEvents.put(event.getId(), event.copy());
+                requestFlushIfFull();
+                return;
+            }
+        }
+        storage.getEventRepository().save(event);
+    }
+
+    public void saveCelebration(Celebration celebration) {
+        synchronized (this) {
+            if (!closed) {
+                pendingCelebrations.put(celebration.getId(), celebration.copy());
+                requestFlushIfFull();
+                return;
+            }
+        }
+        storage.getCelebrationRepository().save(celebration);
+    }
+
+    public boolean addCelebration(Celebration celebration) {
+        long eventId = celebration.getEventId();
+        Event storedEvent = null;
+        while (true) {
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                Event event = pendingEvents.getOrDefault(eventId, flushingEvents.getOrDefault(eventId, storedEvent));
+                if (event != null) {
+                    Event linkedEvent = event.copy();
+                    linkedEvent.addCelebrationId(celebration.getId());
+                    pendingEvents.put(eventId, linkedEvent);
+                    pendingCelebrations.put(celebration.getId(), celebration.copy());
+                    requestFlushIfFull();
+                    return true;
+                }
+            }
+            storedEvent = storage.getEventRepository().findById(eventId);
+        }
+    }
+
+    public synchronized Event findPendingEvent(long id) {
+        Event event = pendingEvents.get(id);
+        if (event == null) {
+            event = flushingEvents.get(id);
+        }
+        return event == null ? null : event.copy();
+    }
+
+    public synchronized Celebration findPendingCelebration(long id) {
+        Celebration celebration = pendingCelebrations.get(id);
+        if (celebration == null) {
+            celebration = flushingCelebrations.get(id);
+        }
+        return celebration == null ? null : celebration.copy();
+    }
+
+    public synchronized int getPendingCount() {
+        return pendingEvents.size() + pendingCelebrations.size()
+                + flushingEvents.size() + flushingCelebrations.size();
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            synchronized (this) {
+                flushRequested = false;
+                flushingEvents = pendingEvents;
+                flushingCelebrations = pendingCelebrations;
+                pendingEvents = new LinkedHashMap<>();
+                pendingCelebrations = new LinkedHashMap<>();
+            }
+            if (!flushingEvents.isEmpty() || !flushingCelebrations.isEmpty()) {
+                try {
+                    storage.saveAll(new ArrayList<>(flushingEvents.values()),
+                            new ArrayList<>(flushingCelebrations.values()));
+                } catch (RuntimeException e) {
+                    requeueFlushing();
+                    throw e;
+                }
+            }
+        } finally {
+            synchronized (this) {
+                flushingEvents = Map.of();
+                flushingCelebrations = Map.of();
+            }
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private synchronized void requeueFlushing() {
+        Map<Long, Event> retriedEvents = new LinkedHashMap<>(flushingEvents);
+        retriedEvents.putAll(pendingEvents);
+        pendingEvents = retriedEvents;
+        Map<Long, Celebration> retriedCelebrations = new LinkedHashMap<>(flushingCelebrations);
+        retriedCelebrations.putAll(pendingCelebrations);
+        pendingCelebrations = retriedCelebrations;
+    }
+
+    private void requestFlushIfFull() {
+        if (flushRequested || pendingEvents.size() + pendingCelebrations.size() < pendingSavesLimit) {
+            return;
+        }
+        flushRequested = true;
+        try {
+            flusher.execute(this::flushQuietly);
+        } catch (RejectedExecutionException e) {
+            flushRequested = false;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            IO.printError("Error while flushing buffered saves to database");
+        }
+    }
+}
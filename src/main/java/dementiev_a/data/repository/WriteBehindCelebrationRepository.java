@@ -0,0 +1,103 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.sequence.Sequence;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class WriteBehindCelebrationRepository implements CelebrationRepository {
+    private final CelebrationRepository delegate;
+    private final WriteBehindBuffer buffer;
+    private final Sequence sequence;
+
+    public WriteBehindCelebrationRepository(WriteBehindBuffer buffer, Sequence sequence) {
+        this.delegate = buffer.getStorage().getCelebrationRepository();
+        this.buffer = buffer;
+        this.sequence = sequence;
+    }
+
+    @Override
+    public Celebration findById(Long id) {
+        Celebration pending = buffer.findPendingCelebration(id);
+        return pending != null ? pending : delegate.findById(id);
+    }
+
+    @Override
+    public List<Celebration> findAll() {
+        buffer.flush();
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Celebration> findPage(Long afterId, int limit) {
+        buffer.flush();
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public void forEach(Consumer<Celebration> consumer) {
+        buffer.flush();
+        delegate.forEach(consumer);
+    }
+
+    @Override
+    public Long save(Celebration entity) {
+        if (entity.getId() == null) {
+            entity.setId(sequence.next());
+        }
+        buffer.saveCelebration(entity);
+        return entity.getId();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        buffer.flush();
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public void deleteAll() {
+        buffer.flush();
+        delegate.deleteAll();
+    }
+
+    @Override
+    public List<Celebration> findAllByIds(Collection<Long> ids) {
+        buffer.flush();
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public void deleteAllByIds(Collection<Long> ids) {
+        buffer.flush();
+        delegate.deleteAllByIds(ids);
+    }
+
+    @Override
+    public List<Celebration> findByMonthDay(MonthDay monthDay) {
+        buffer.flush();
+        return delegate.findByMonthDay(monthDay);
+    }
+
+    @Override
+    public List<Celebration> findByDateRange(LocalDate from, LocalDate to) {
+        buffer.flush();
+        return delegate.findByDateRange(from, to);
+    }
+
+    @Override
+    public List<Celebration> findUpcoming(LocalDate from, int limit) {
+        buffer.flush();
+        return delegate.findUpcoming(from, limit);
+    }
+
+    @Override
+    public List<Celebration> findByPlace(String place) {
+        buffer.flush();
+        return delegate.findByPlace(place);
+    }
+}
@@ -0,0 +1,128 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Event;
+import dementiev_a.data.model.EventSummary;
+import dementiev_a.data.sequence.Sequence;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public class WriteBehindEventRepository implements EventRepository {
+    private final EventRepository delegate;
+    private final WriteBehindBuffer buffer;
+    private final Sequence sequence;
+
+    public WriteBehindEventRepository(WriteBehindBuffer buffer, Sequence sequence) {
+        this.delegate = buffer.getStorage().getEventRepository();
+        this.buffer = buffer;
+        this.sequence = sequence;
+    }
+
+    @Override
+    public Event findById(Long id) {
+        Event pending = buffer.findPendingEvent(id);
+        return pending != null ? pending : delegate.findById(id);
+    }
+
+    @Override
+    public List<Event> findAll() {
+        buffer.flush();
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Event> findPage(Long afterId, int limit) {
+        buffer.flush();
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public void forEach(Consumer<Event> consumer) {
+        buffer.flush();
+        delegate.forEach(consumer);
+    }
+
+    @Override
+    public Long save(Event entity) {
+        if (entity.getId() == null) {
+            entity.setId(sequence.next());
+        }
+        buffer.saveEvent(entity);
+        return entity.getId();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        buffer.flush();
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public void deleteAll() {
+        buffer.flush();
+        delegate.deleteAll();
+    }
+
+    @Override
+    public Set<Long> findCelebrationsIdsByEventId(Long eventId) {
+        Event pending = buffer.findPendingEvent(eventId);
+        if (pending != null) {
+            return pending.getCelebrationIds();
+        }
+        buffer.flush();
+        return delegate.findCelebrationsIdsByEventId(eventId);
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findCelebrationsIdsByEventIds(Collection<Long> eventIds) {
+        buffer.flush();
+        return delegate.findCelebrationsIdsByEventIds(eventIds);
+    }
+
+    @Override
+    public List<Event> findByDate(LocalDate date) {
+        buffer.flush();
+        return delegate.findByDate(date);
+    }
+
+    @Override
+    public List<Event> findByMonthDay(MonthDay monthDay) {
+        buffer.flush();
+        return delegate.findByMonthDay(monthDay);
+    }
+
+    @Override
+    public List<Event> findByDateRange(LocalDate from, LocalDate to) {
+        buffer.flush();
+        return delegate.findByDateRange(from, to);
+    }
+
+    @Override
+    public List<Event> findUpcoming(LocalDate from, int limit) {
+        buffer.flush();
+        return delegate.findUpcoming(from, limit);
+    }
+
+    @Override
+    public List<EventSummary> findSummaryPage(Long afterId, int limit) {
+        buffer.flush();
+        return delegate.findSummaryPage(afterId, limit);
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByDate(LocalDate date) {
+        buffer.flush();
+        return delegate.findSummariesByDate(date);
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByMonthDay(MonthDay monthDay) {
+        buffer.flush();
+        return delegate.findSummariesByMonthDay(monthDay);
+    }
+}
@@ -0,0 +1,71 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.importer.ImportResult;
+import dementiev_a.data.importer.Importer;
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.sequence.Sequence;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class WriteBehindStorage implements Storage, AutoCloseable {
+    private final Storage delegate;
+    @Getter
+    private final WriteBehindBuffer buffer;
+    @Getter
+    private final EventRepository eventRepository;
+    @Getter
+    private final CelebrationRepository celebrationRepository;
+    private final Sequence celebrationSequence;
+
+    public WriteBehindStorage(Storage delegate, Sequence eventSequence, Sequence celebrationSequence,
+                              Duration flushInterval, int pendingSavesLimit) {
+        this.delegate = delegate;
+        this.buffer = new WriteBehindBuffer(delegate, flushInterval, pendingSavesLimit);
+        this.eventRepository = new WriteBehindEventRepository(buffer, eventSequence);
+        this.celebrationRepository = new WriteBehindCelebrationRepository(buffer, celebrationSequence);
+        this.celebrationSequence = celebrationSequence;
+    }
+
+    @Override
+    public Long addCelebration(Celebration celebration) {
+        if (celebration.getId() == null) {
+            celebration.setId(celebrationSequence.next());
+        }
+        if (!buffer.addCelebration(celebration)) {
+            return delegate.addCelebration(celebration);
+        }
+        return celebration.getId();
+    }
+
+    @Override
+    public int deleteEventWithCelebrations(Long eventId) {
+        buffer.flush();
+        return delegate.deleteEventWithCelebrations(eventId);
+    }
+
+    @Override
+    public ImportResult importFrom(Importer importer, Path path) throws IOException {
+        buffer.flush();
+        return delegate.importFrom(importer, path);
+    }
+
+    @Override
+    public void close() {
+        buffer.close();
+    }
+
+    public static WriteBehindStorage createDrainedOnShutdown(DatabaseStorage databaseStorage) {
+        WriteBehindStorage storage = new WriteBehindStorage(
+                databaseStorage,
+                databaseStorage.getEventRepository().getSequence(),
+                databaseStorage.getCelebrationRepository().getSequence(),
+                WriteBehindBuffer.getFlushInterval(),
+                WriteBehindBuffer.getMaxPendingSaves()
+        );
+        Runtime.getRuntime().addShutdownHook(new Thread(storage::close, "write-behind-drain"));
+        return storage;
+    }
+}
@@ -5,7 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
-public class CelebrationSequence extends Sequence {
+public class CelebrationSequence extends InMemorySequence {
     @Getter(lazy = true)
     private static final CelebrationSequence instance = new CelebrationSequence();
 }
@@ -0,0 +1,53 @@
+package dementiev_a.data.sequence;
+
+import dementiev_a.data.manager.DatabaseManager;
+import dementiev_a.exception.IdAllocationException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class DatabaseSequence extends Sequence {
+    private static final String NEXT_VALUE_SQL = "SELECT nextval(?::regclass)";
+
+    private final DatabaseManager databaseManager;
+    private final String sequenceName;
+    private final int blockSize;
+    private long nextValue;
+    private long blockEnd;
+
+    public DatabaseSequence(DatabaseManager databaseManager, String sequenceName, int blockSize) {
+        this.databaseManager = databaseManager;
+        this.sequenceName = sequenceName;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public synchronized long next() {
+        if (nextValue == blockEnd) {
+            nextValue = nextBlock();
+            blockEnd = nextValue + blockSize;
+        }
+        return nextValue++;
+    }
+
+    @Override
+    public long nextBlock() {
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(NEXT_VALUE_SQL)) {
+            statement.setString(1, sequenceName);
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                return result.getLong(1) - blockSize + 1;
+            }
+        } catch (SQLException e) {
+            throw new IdAllocationException(sequenceName, e);
+        }
+    }
+
+    @Override
+    public int getBlockSize() {
+        return blockSize;
+    }
+}
@@ -5,7 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
-public class EventSequence extends Sequence {
+public class EventSequence extends InMemorySequence {
     @Getter(lazy = true)
     private static final EventSequence instance = new EventSequence();
 }
@@ -0,0 +1,32 @@
+package dementiev_a.data.sequence;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public abstract class InMemorySequence extends Sequence {
+    private static final int BLOCK_SIZE = 1024;
+
+    private final AtomicLong value = new AtomicLong(1L);
+
+    @Override
+    public long next() {
+        return value.getAndIncrement();
+    }
+
+    @Override
+    public long nextBlock() {
+        return value.getAndAdd(BLOCK_SIZE);
+    }
+
+    @Override
+    public int getBlockSize() {
+        return BLOCK_SIZE;
+    }
+
+    public long getValue() {
+        return value.get();
+    }
+
+    public void setValue(long value) {
+        this.value.set(value);
+    }
+}
@@ -0,0 +1,4 @@
+package dementiev_a.data.sequence;
+
+public class LocalSequence extends InMemorySequence {
+}
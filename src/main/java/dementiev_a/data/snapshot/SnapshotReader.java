@@ -0,0 +1,78 @@
+package dementiev_a.data.snapshot;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class SnapshotReader {
+    private static final int MAX_VAR_LONG_SHIFT = 63;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private byte[] stringBytes = new byte[256];
+
+    public SnapshotReader(Path path) throws IOException {
+        this.path = path;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + path + " is too large to be mapped");
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    public int readInt() throws IOException {
+        try {
+            return buffer.getInt();
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    public long readVarLong() throws IOException {
+        long value = 0;
+        int shift = 0;
+        try {
+            while (shift <= MAX_VAR_LONG_SHIFT) {
+                byte next = buffer.get();
+                value |= (long) (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+        throw new IOException("Malformed number in snapshot " + path);
+    }
+
+    public long readSignedVarLong() throws IOException {
+        long encoded = readVarLong();
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    public String readString() throws IOException {
+        long encodedLength = readVarLong();
+        if (encodedLength == 0) {
+            return null;
+        }
+        if (encodedLength - 1 > buffer.remaining()) {
+            throw truncated();
+        }
+        int length = (int) (encodedLength - 1);
+        if (stringBytes.length < length) {
+            stringBytes = new byte[length];
+        }
+        buffer.get(stringBytes, 0, length);
+        return new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private IOException truncated() {
+        return new IOException("Snapshot " + path + " is truncated");
+    }
+}
@@ -0,0 +1,92 @@
+package dementiev_a.data.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+public class SnapshotWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int MAX_VAR_LONG_SIZE = 10;
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private final Path path;
+    private final Path tempPath;
+    private final FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private boolean committed;
+
+    public SnapshotWriter(Path path) throws IOException {
+        this.path = path;
+        this.tempPath = path.resolveSibling(path.getFileName() + TEMP_EXTENSION);
+        this.channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    public void writeInt(int value) throws IOException {
+        ensureCapacity(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    public void writeVarLong(long value) throws IOException {
+        ensureCapacity(MAX_VAR_LONG_SIZE);
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        buffer.put(bytes);
+    }
+
+    public void commit() throws IOException {
+        flush();
+        channel.force(true);
+        channel.close();
+        Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        committed = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        flush();
+        if (buffer.capacity() < bytes) {
+            buffer = ByteBuffer.allocate(bytes);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
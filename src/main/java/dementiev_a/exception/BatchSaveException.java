@@ -0,0 +1,7 @@
+package dementiev_a.exception;
+
+public class BatchSaveException extends RuntimeException {
+    public BatchSaveException(Throwable cause) {
+        super("Error while saving the batch to database", cause);
+    }
+}
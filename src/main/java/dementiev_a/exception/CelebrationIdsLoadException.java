@@ -0,0 +1,7 @@
+package dementiev_a.exception;
+
+public class CelebrationIdsLoadException extends RuntimeException {
+    public CelebrationIdsLoadException(Throwable cause) {
+        super("Error while retrieving celebration IDs from database", cause);
+    }
+}
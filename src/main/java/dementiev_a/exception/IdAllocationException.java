@@ -0,0 +1,7 @@
+package dementiev_a.exception;
+
+public class IdAllocationException extends RuntimeException {
+    public IdAllocationException(String sequenceName, Throwable cause) {
+        super("Error while reserving ids from sequence \"%s\"".formatted(sequenceName), cause);
+    }
+}
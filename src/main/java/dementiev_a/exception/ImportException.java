@@ -0,0 +1,7 @@
+package dementiev_a.exception;
+
+public class ImportException extends RuntimeException {
+    public ImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
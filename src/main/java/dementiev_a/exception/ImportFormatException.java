@@ -0,0 +1,7 @@
+package dementiev_a.exception;
+
+public class ImportFormatException extends RuntimeException {
+    public ImportFormatException(int lineNumber, String reason) {
+        super("Wrong import format at line %d: %s".formatted(lineNumber, reason));
+    }
+}
@@ -0,0 +1,7 @@
+package dementiev_a.exception;
+
+public class LogWriteException extends RuntimeException {
+    public LogWriteException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,44 @@
+package dementiev_a.service;
+
+import dementiev_a.data.model.Celebration;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AsyncCelebrationService implements Service {
+    @Getter(lazy = true)
+    private static final AsyncCelebrationService instance = new AsyncCelebrationService();
+
+    @Setter
+    private CelebrationService celebrationService = CelebrationService.getInstance();
+    @Setter
+    private AsyncExecutor executor = AsyncExecutor.getInstance();
+
+    public CompletableFuture<Void> addCelebration(long eventId, String name, String description,
+                                                  LocalDate date, String place) {
+        return executor.run(() -> celebrationService.addCelebration(eventId, name, description, date, place));
+    }
+
+    public CompletableFuture<Celebration> getCelebrationById(long celebrationId) {
+        return executor.supply(() -> celebrationService.getCelebrationById(celebrationId));
+    }
+
+    public CompletableFuture<List<Celebration>> getCelebrationsByPlace(String place) {
+        return executor.supply(() -> celebrationService.getCelebrationsByPlace(place));
+    }
+
+    public CompletableFuture<Void> deleteCelebrationById(Long id) {
+        return executor.run(() -> celebrationService.deleteCelebrationById(id));
+    }
+
+    public CompletableFuture<Void> editCelebration(long celebrationId, String name, String description,
+                                                   LocalDate date, String place) {
+        return executor.run(() -> celebrationService.editCelebration(celebrationId, name, description, date, place));
+    }
+}
@@ -0,0 +1,83 @@
+package dementiev_a.service;
+
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import dementiev_a.data.model.EventSummary;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AsyncEventService implements Service {
+    @Getter(lazy = true)
+    private static final AsyncEventService instance = new AsyncEventService();
+
+    @Setter
+    private EventService eventService = EventService.getInstance();
+    @Setter
+    private AsyncExecutor executor = AsyncExecutor.getInstance();
+
+    public CompletableFuture<List<Event>> getAllEvents() {
+        return executor.supply(eventService::getAllEvents);
+    }
+
+    public CompletableFuture<List<Event>> getEventsPage(Long afterId, int limit) {
+        return executor.supply(() -> eventService.getEventsPage(afterId, limit));
+    }
+
+    public CompletableFuture<List<EventSummary>> getEventSummariesPage(Long afterId, int limit) {
+        return executor.supply(() -> eventService.getEventSummariesPage(afterId, limit));
+    }
+
+    public CompletableFuture<Event> getEventById(long id) {
+        return executor.supply(() -> eventService.getEventById(id));
+    }
+
+    public CompletableFuture<Map<Long, Event>> getEventsByIds(Collection<Long> ids) {
+        return executor.supplyAll(ids, eventService::getEventById);
+    }
+
+    public CompletableFuture<Void> addEvent(Event event) {
+        return executor.run(() -> eventService.addEvent(event));
+    }
+
+    public CompletableFuture<List<Celebration>> getCelebrationsByEventId(Long eventId) {
+        return executor.supply(() -> eventService.getCelebrationsByEventId(eventId));
+    }
+
+    public CompletableFuture<Map<Long, List<Celebration>>> getCelebrationsByEventIds(Collection<Long> eventIds) {
+        return executor.supply(() -> eventService.getCelebrationsByEventIds(eventIds));
+    }
+
+    public CompletableFuture<List<Event>> getEventsByDate(LocalDate date) {
+        return executor.supply(() -> eventService.getEventsByDate(date));
+    }
+
+    public CompletableFuture<List<Event>> getEventsByMonthDay(MonthDay monthDay) {
+        return executor.supply(() -> eventService.getEventsByMonthDay(monthDay));
+    }
+
+    public CompletableFuture<List<EventSummary>> getEventSummariesByDate(LocalDate date) {
+        return executor.supply(() -> eventService.getEventSummariesByDate(date));
+    }
+
+    public CompletableFuture<List<EventSummary>> getEventSummariesByMonthDay(MonthDay monthDay) {
+        return executor.supply(() -> eventService.getEventSummariesByMonthDay(monthDay));
+    }
+
+    public CompletableFuture<Integer> deleteEventById(long id) {
+        return executor.supply(() -> eventService.deleteEventById(id));
+    }
+
+    public CompletableFuture<Void> editEvent(long eventId, String name, String description, LocalDate date) {
+        return executor.run(() -> eventService.editEvent(eventId, name, description, date));
+    }
+}
@@ -0,0 +1,76 @@
+package dementiev_a.service;
+
+import dementiev_a.data.manager.PostgresManager;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class AsyncExecutor implements AutoCloseable {
+    @Getter(lazy = true)
+    private static final AsyncExecutor instance = new AsyncExecutor(
+            newTaskExecutor(),
+            PostgresManager.getPoolSize()
+    );
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public AsyncExecutor(ExecutorService executor, int maxConcurrentOperations) {
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrentOperations);
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                return operation.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    public CompletableFuture<Void> run(Runnable operation) {
+        return supply(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    public <K, V> CompletableFuture<Map<K, V>> supplyAll(Collection<K> keys, Function<K, V> operation) {
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        keys.forEach(key -> futures.computeIfAbsent(key, k -> supply(() -> operation.apply(k))));
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<K, V> results = new LinkedHashMap<>();
+                    futures.forEach((key, future) -> results.put(key, future.join()));
+                    return results;
+                });
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static ExecutorService newTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "async-service");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -1,45 +1,50 @@
 package dementiev_a.service;
 
+import dementiev_a.data.Backend;
 import dementiev_a.data.model.Celebration;
 import dementiev_a.data.model.Event;
 import dementiev_a.data.repository.*;
-import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.util.List;
 
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CelebrationService implements Service {
     @Getter(lazy = true)
-    private static final CelebrationService instance = new CelebrationService();
+    private static final CelebrationService instance = new CelebrationService(Backend.getCurrent());
 
     @Setter
-    private EventRepository eventRepository = EventDatabaseRepository.getInstance();
-    @Setter
-    private CelebrationRepository celebrationRepository = CelebrationDatabaseRepository.getInstance();
+    private Storage storage;
+
+    public CelebrationService(Backend backend) {
+        this.storage = backend.getStorage();
+    }
 
     public void addCelebration(long eventId, String name, String description, LocalDate date, String place) {
-        Long celebrationId = celebrationRepository.save(new Celebration(eventId, name, description, date, place));
-        Event event = eventRepository.findById(eventId);
-        event.addCelebrationId(celebrationId);
-        eventRepository.save(event);
+        storage.addCelebration(new Celebration(eventId, name, description, date, place));
     }
 
     public Celebration getCelebrationById(long celebrationId) {
-        return celebrationRepository.findById(celebrationId);
+        return storage.getCelebrationRepository().findById(celebrationId);
+    }
+
+    public List<Celebration> getCelebrationsByPlace(String place) {
+        return storage.getCelebrationRepository().findByPlace(place);
     }
 
     public void deleteCelebrationById(Long id) {
+        EventRepository eventRepository = storage.getEventRepository();
+        CelebrationRepository celebrationRepository = storage.getCelebrationRepository();
         long eventId = celebrationRepository.findById(id).getEventId();
         Event event = eventRepository.findById(eventId);
-        event.getCelebrationIds().remove(id);
+        event.removeCelebrationId(id);
         eventRepository.save(event);
         celebrationRepository.deleteById(id);
     }
 
     public void editCelebration(long celebrationId, String name, String description, LocalDate date, String place) {
+        CelebrationRepository celebrationRepository = storage.getCelebrationRepository();
         Celebration celebration = celebrationRepository.findById(celebrationId);
         celebration.setName(name);
         celebration.setDescription(description);
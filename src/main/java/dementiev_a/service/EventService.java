@@ -1,56 +1,102 @@
 package dementiev_a.service;
 
+import dementiev_a.data.Backend;
+import dementiev_a.data.importer.ImportResult;
+import dementiev_a.data.importer.Importer;
 import dementiev_a.data.model.Celebration;
 import dementiev_a.data.model.Event;
+import dementiev_a.data.model.EventSummary;
 import dementiev_a.data.repository.*;
-import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.time.MonthDay;
+import java.util.*;
 
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class EventService implements Service {
     @Getter(lazy = true)
-    private static final EventService instance = new EventService();
+    private static final EventService instance = new EventService(Backend.getCurrent());
 
     @Setter
-    private EventRepository eventRepository = EventDatabaseRepository.getInstance();
+    private Storage storage;
     @Setter
-    private CelebrationRepository celebrationRepository = CelebrationDatabaseRepository.getInstance();
+    private Importer importer;
+
+    public EventService(Backend backend) {
+        this.storage = backend.getStorage();
+        this.importer = backend.getImporter();
+    }
 
     public List<Event> getAllEvents() {
-        return new ArrayList<>(eventRepository.findAll());
+        return storage.getEventRepository().findAll();
+    }
+
+    public List<Event> getEventsPage(Long afterId, int limit) {
+        return storage.getEventRepository().findPage(afterId, limit);
+    }
+
+    public List<EventSummary> getEventSummariesPage(Long afterId, int limit) {
+        return storage.getEventRepository().findSummaryPage(afterId, limit);
     }
 
     public Event getEventById(long id) {
-        return eventRepository.findById(id);
+        return storage.getEventRepository().findById(id);
     }
 
     public void addEvent(Event event) {
-        eventRepository.save(event);
+        storage.getEventRepository().save(event);
+    }
+
+    public ImportResult importEvents(Path path) throws IOException {
+        return storage.importFrom(importer, path);
     }
 
     public List<Celebration> getCelebrationsByEventId(Long eventId) {
-        Set<Long> celebrationsIds = eventRepository.findCelebrationsIdsByEventId(eventId);
-        return celebrationRepository.findAllByIds(celebrationsIds);
+        Set<Long> celebrationsIds = storage.getEventRepository().findCelebrationsIdsByEventId(eventId);
+        return storage.getCelebrationRepository().findAllByIds(celebrationsIds);
+    }
+
+    public Map<Long, List<Celebration>> getCelebrationsByEventIds(Collection<Long> eventIds) {
+        Map<Long, Set<Long>> celebrationsIds = storage.getEventRepository().findCelebrationsIdsByEventIds(eventIds);
+        List<Long> allCelebrationsIds = celebrationsIds.values().stream().flatMap(Set::stream).toList();
+        Map<Long, Celebration> celebrationsById = new HashMap<>();
+        storage.getCelebrationRepository().findAllByIds(allCelebrationsIds)
+                .forEach(celebration -> celebrationsById.put(celebration.getId(), celebration));
+        Map<Long, List<Celebration>> celebrationsByEventId = new LinkedHashMap<>();
+        for (Long eventId : eventIds) {
+            celebrationsByEventId.put(eventId, celebrationsIds.get(eventId).stream()
+                    .map(celebrationsById::get)
+                    .filter(Objects::nonNull)
+                    .toList());
+        }
+        return celebrationsByEventId;
     }
 
     public List<Event> getEventsByDate(LocalDate date) {
-        return eventRepository.findByDate(date);
+        return storage.getEventRepository().findByDate(date);
+    }
+
+    public List<Event> getEventsByMonthDay(MonthDay monthDay) {
+        return storage.getEventRepository().findByMonthDay(monthDay);
+    }
+
+    public List<EventSummary> getEventSummariesByDate(LocalDate date) {
+        return storage.getEventRepository().findSummariesByDate(date);
+    }
+
+    public List<EventSummary> getEventSummariesByMonthDay(MonthDay monthDay) {
+        return storage.getEventRepository().findSummariesByMonthDay(monthDay);
     }
 
-    public void deleteEventById(long id) {
-        Set<Long> celebrationIds = eventRepository.findById(id).getCelebrationIds();
-        celebrationRepository.deleteAllByIds(celebrationIds);
-        eventRepository.deleteById(id);
+    public int deleteEventById(long id) {
+        return storage.deleteEventWithCelebrations(id);
     }
 
     public void editEvent(long eventId, String name, String description, LocalDate date) {
+        EventRepository eventRepository = storage.getEventRepository();
         Event event = eventRepository.findById(eventId);
         event.setName(name);
         event.setDescription(description);
@@ -0,0 +1,25 @@
+package dementiev_a.service;
+
+import dementiev_a.data.Backend;
+import dementiev_a.data.model.SearchResult;
+import dementiev_a.data.repository.SearchRepository;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+public class SearchService implements Service {
+    @Getter(lazy = true)
+    private static final SearchService instance = new SearchService(Backend.getCurrent());
+
+    @Setter
+    private SearchRepository searchRepository;
+
+    public SearchService(Backend backend) {
+        this.searchRepository = backend.getSearchRepository();
+    }
+
+    public List<SearchResult> search(String query, int limit) {
+        return searchRepository.search(query, limit);
+    }
+}
@@ -0,0 +1,199 @@
+package dementiev_a.utils;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class LongHashSet extends AbstractSet<Long> {
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final long EMPTY = 0L;
+    private static final long[] NO_ELEMENTS = new long[0];
+
+    private long[] elements;
+    private int size;
+    private int resizeThreshold;
+    private boolean hasZero;
+
+    public LongHashSet() {
+        elements = NO_ELEMENTS;
+    }
+
+    public LongHashSet(Collection<Long> source) {
+        this();
+        addAll(source);
+    }
+
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+        if (elements == NO_ELEMENTS) {
+            allocate(DEFAULT_CAPACITY);
+        }
+        int mask = elements.length - 1;
+        int index = LongObjectHashMap.hash(value) & mask;
+        while (elements[index] != EMPTY) {
+            if (elements[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        elements[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(elements.length << 1);
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return hasZero;
+        }
+        return indexOf(value) >= 0;
+    }
+
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            if (!hasZero) {
+                return false;
+            }
+            hasZero = false;
+            size--;
+            return true;
+        }
+        int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        shiftBack(index);
+        size--;
+        return true;
+    }
+
+    public long[] toLongArray() {
+        long[] result = new long[size];
+        int position = 0;
+        if (hasZero) {
+            result[position++] = EMPTY;
+        }
+        for (long element : elements) {
+            if (element != EMPTY) {
+                result[position++] = element;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean add(Long value) {
+        return add(value.longValue());
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return value instanceof Long longValue && contains(longValue.longValue());
+    }
+
+    @Override
+    public boolean remove(Object value) {
+        return value instanceof Long longValue && remove(longValue.longValue());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        elements = NO_ELEMENTS;
+        resizeThreshold = 0;
+        size = 0;
+        hasZero = false;
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        long[] snapshot = toLongArray();
+        return new Iterator<>() {
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return position < snapshot.length;
+            }
+
+            @Override
+            public Long next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return snapshot[position++];
+            }
+
+            @Override
+            public void remove() {
+                if (position == 0) {
+                    throw new IllegalStateException();
+                }
+                LongHashSet.this.remove(snapshot[position - 1]);
+            }
+        };
+    }
+
+    private int indexOf(long value) {
+        if (elements == NO_ELEMENTS) {
+            return -1;
+        }
+        int mask = elements.length - 1;
+        int index = LongObjectHashMap.hash(value) & mask;
+        while (elements[index] != EMPTY) {
+            if (elements[index] == value) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftBack(int gap) {
+        int mask = elements.length - 1;
+        int current = (gap + 1) & mask;
+        while (elements[current] != EMPTY) {
+            int ideal = LongObjectHashMap.hash(elements[current]) & mask;
+            if (((current - ideal) & mask) >= ((current - gap) & mask)) {
+                elements[gap] = elements[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        elements[gap] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldElements = elements;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (long element : oldElements) {
+            if (element != EMPTY) {
+                int index = LongObjectHashMap.hash(element) & mask;
+                while (elements[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                elements[index] = element;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        elements = new long[capacity];
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+}
@@ -0,0 +1,186 @@
+package dementiev_a.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class LongObjectHashMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final long EMPTY_KEY = 0L;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int resizeThreshold;
+    private boolean hasZeroKey;
+    private V zeroKeyValue;
+
+    public LongObjectHashMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    public V get(long key) {
+        if (key == EMPTY_KEY) {
+            return zeroKeyValue;
+        }
+        int index = indexOf(key);
+        return index < 0 ? null : valueAt(index);
+    }
+
+    public boolean containsKey(long key) {
+        if (key == EMPTY_KEY) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    public V put(long key, V value) {
+        if (key == EMPTY_KEY) {
+            V previous = zeroKeyValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroKeyValue = value;
+            return previous;
+        }
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (keys[index] != EMPTY_KEY) {
+            if (keys[index] == key) {
+                V previous = valueAt(index);
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    public V remove(long key) {
+        if (key == EMPTY_KEY) {
+            if (!hasZeroKey) {
+                return null;
+            }
+            V previous = zeroKeyValue;
+            hasZeroKey = false;
+            zeroKeyValue = null;
+            size--;
+            return previous;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = valueAt(index);
+        shiftKeysBack(index);
+        size--;
+        return previous;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        allocate(DEFAULT_CAPACITY);
+        size = 0;
+        hasZeroKey = false;
+        zeroKeyValue = null;
+    }
+
+    public long[] keys() {
+        long[] result = new long[size];
+        int position = 0;
+        if (hasZeroKey) {
+            result[position++] = EMPTY_KEY;
+        }
+        for (long key : keys) {
+            if (key != EMPTY_KEY) {
+                result[position++] = key;
+            }
+        }
+        return result;
+    }
+
+    public List<V> valuesSortedByKey() {
+        long[] sortedKeys = keys();
+        Arrays.sort(sortedKeys);
+        List<V> result = new ArrayList<>(sortedKeys.length);
+        for (long key : sortedKeys) {
+            result.add(get(key));
+        }
+        return result;
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (keys[index] != EMPTY_KEY) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftKeysBack(int gap) {
+        int mask = keys.length - 1;
+        int current = (gap + 1) & mask;
+        while (keys[current] != EMPTY_KEY) {
+            int ideal = hash(keys[current]) & mask;
+            if (((current - ideal) & mask) >= ((current - gap) & mask)) {
+                keys[gap] = keys[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        keys[gap] = EMPTY_KEY;
+        values[gap] = null;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int index = hash(oldKeys[i]) & mask;
+                while (keys[index] != EMPTY_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    static int hash(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -0,0 +1,81 @@
+package dementiev_a.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+public class LruCache<K, V> {
+    private final int capacity;
+    private final BiConsumer<K, V> evictionListener;
+    private final Map<K, V> entries;
+    private long hitCount;
+    private long missCount;
+    private long generation;
+
+    public LruCache(int capacity) {
+        this(capacity, (key, value) -> {
+        });
+    }
+
+    public LruCache(int capacity, BiConsumer<K, V> evictionListener) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.evictionListener = evictionListener;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() <= LruCache.this.capacity) {
+                    return false;
+                }
+                LruCache.this.evictionListener.accept(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        V value = entries.get(key);
+        if (value == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return value;
+    }
+
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    public synchronized boolean put(K key, V value, long loadedAtGeneration) {
+        if (loadedAtGeneration != generation) {
+            return false;
+        }
+        entries.put(key, value);
+        return true;
+    }
+
+    public synchronized V remove(K key) {
+        generation++;
+        return entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+}
@@ -0,0 +1,96 @@
+package dementiev_a.utils;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class OffHeapStringArena {
+    public static final long NULL_HANDLE = -1L;
+
+    private static final int DEFAULT_CAPACITY = 64 * 1024;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private ByteBuffer buffer;
+    @Getter
+    private int size;
+    @Getter
+    private long releasedBytes;
+
+    public OffHeapStringArena() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public OffHeapStringArena(int capacity) {
+        buffer = ByteBuffer.allocateDirect(Math.max(capacity, 1));
+    }
+
+    public long add(String value) {
+        if (value == null) {
+            return NULL_HANDLE;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(bytes.length);
+        int offset = size;
+        buffer.put(offset, bytes);
+        size += bytes.length;
+        return (long) offset << Integer.SIZE | bytes.length;
+    }
+
+    public String get(long handle) {
+        if (handle == NULL_HANDLE) {
+            return null;
+        }
+        int length = length(handle);
+        if (length == 0) {
+            return "";
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset(handle), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public void release(long handle) {
+        if (handle != NULL_HANDLE) {
+            releasedBytes += length(handle);
+        }
+    }
+
+    public boolean isCompactionDue() {
+        return releasedBytes > DEFAULT_CAPACITY && releasedBytes > size / 2;
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    public void clear() {
+        size = 0;
+        releasedBytes = 0;
+        if (buffer.capacity() > DEFAULT_CAPACITY) {
+            buffer = ByteBuffer.allocateDirect(DEFAULT_CAPACITY);
+        }
+    }
+
+    private void ensureCapacity(int length) {
+        if (buffer.capacity() - size >= length) {
+            return;
+        }
+        long required = (long) size + length;
+        if (required > MAX_CAPACITY) {
+            throw new IllegalStateException("String arena cannot grow beyond " + MAX_CAPACITY + " bytes");
+        }
+        int capacity = (int) Math.min(MAX_CAPACITY, Math.max(required, (long) buffer.capacity() << 1));
+        ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+        grown.put(0, buffer, 0, size);
+        buffer = grown;
+    }
+
+    private static int offset(long handle) {
+        return (int) (handle >>> Integer.SIZE);
+    }
+
+    private static int length(long handle) {
+        return (int) handle;
+    }
+}
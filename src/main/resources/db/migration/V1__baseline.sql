@@ -0,0 +1,41 @@
+CREATE TABLE IF NOT EXISTS events (
+    id INTEGER PRIMARY KEY,
+    name VARCHAR(64),
+    description VARCHAR(1024),
+    date DATE
+);
+
+CREATE TABLE IF NOT EXISTS celebrations (
+    id INTEGER PRIMARY KEY,
+    name VARCHAR(64),
+    description VARCHAR(1024),
+    date DATE,
+    place VARCHAR(64)
+);
+
+CREATE TABLE IF NOT EXISTS events_celebrations (
+    celebrationId INTEGER PRIMARY KEY,
+    eventId INTEGER
+);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'events_celebrations_event_fk') THEN
+        DELETE FROM events_celebrations WHERE eventId NOT IN (SELECT id FROM events);
+        ALTER TABLE events_celebrations ADD CONSTRAINT events_celebrations_event_fk
+            FOREIGN KEY (eventId) REFERENCES events (id) ON DELETE CASCADE;
+    END IF;
+END $$;
+
+CREATE INDEX IF NOT EXISTS events_date_idx ON events (date);
+CREATE INDEX IF NOT EXISTS celebrations_date_idx ON celebrations (date);
+CREATE INDEX IF NOT EXISTS events_month_day_idx
+    ON events ((EXTRACT(MONTH FROM date)), (EXTRACT(DAY FROM date)));
+CREATE INDEX IF NOT EXISTS celebrations_month_day_idx
+    ON celebrations ((EXTRACT(MONTH FROM date)), (EXTRACT(DAY FROM date)));
+
+CREATE SEQUENCE IF NOT EXISTS events_id_seq AS BIGINT MINVALUE 0 START WITH 0;
+SELECT setval('events_id_seq', COALESCE((SELECT MAX(id) FROM events), 0)) FROM events_id_seq WHERE NOT is_called;
+CREATE SEQUENCE IF NOT EXISTS celebrations_id_seq AS BIGINT MINVALUE 0 START WITH 0;
+SELECT setval('celebrations_id_seq', COALESCE((SELECT MAX(id) FROM celebrations), 0))
+    FROM celebrations_id_seq WHERE NOT is_called;
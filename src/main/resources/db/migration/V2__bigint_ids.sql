@@ -0,0 +1,3 @@
+ALTER TABLE events ALTER COLUMN id TYPE BIGINT;
+ALTER TABLE celebrations ALTER COLUMN id TYPE BIGINT;
+ALTER TABLE events_celebrations ALTER COLUMN celebrationId TYPE BIGINT, ALTER COLUMN eventId TYPE BIGINT;
@@ -0,0 +1,2 @@
+-- no-transaction
+CREATE INDEX CONCURRENTLY IF NOT EXISTS events_celebrations_event_id_idx ON events_celebrations (eventId);
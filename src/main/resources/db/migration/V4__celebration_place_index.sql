@@ -0,0 +1,2 @@
+-- no-transaction
+CREATE INDEX CONCURRENTLY IF NOT EXISTS celebrations_place_idx ON celebrations (place);
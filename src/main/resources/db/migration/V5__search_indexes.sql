@@ -0,0 +1,6 @@
+-- no-transaction
+CREATE INDEX CONCURRENTLY IF NOT EXISTS events_search_idx ON events
+    USING GIN (to_tsvector('simple', COALESCE(name, '') || ' ' || COALESCE(description, '')));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS celebrations_search_idx ON celebrations
+    USING GIN (to_tsvector('simple',
+        COALESCE(name, '') || ' ' || COALESCE(description, '') || ' ' || COALESCE(place, '')));
@@ -0,0 +1,74 @@
+package dementiev_a;
+
+import dementiev_a.data.Backend;
+import dementiev_a.data.model.Event;
+import dementiev_a.data.model.SearchResult;
+import dementiev_a.data.repository.CelebrationLogRepository;
+import dementiev_a.data.repository.EventLogRepository;
+import dementiev_a.service.CelebrationService;
+import dementiev_a.service.EventService;
+import dementiev_a.service.SearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MainTest extends BaseTest {
+    private static final String LOG_DIRECTORY_PROPERTY = "memorableDates.logDirectory";
+
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger databaseConnections = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(LOG_DIRECTORY_PROPERTY);
+    }
+
+    @Test
+    void testCreateBackend_WhenLogDirectorySet_ThenServicesWorkWithoutDatabase() throws IOException {
+        System.setProperty(LOG_DIRECTORY_PROPERTY, directory.toString());
+        Backend backend = Main.createBackend(() -> {
+            databaseConnections.incrementAndGet();
+            throw new SQLException("Log mode should not connect to the database");
+        });
+        EventService eventService = new EventService(backend);
+        CelebrationService celebrationService = new CelebrationService(backend);
+        SearchService searchService = new SearchService(backend);
+        try {
+            Event regatta = new Event("Harbour Regatta", "Sailing race around the bay", LocalDate.of(2024, 8, 3));
+            eventService.addEvent(regatta);
+            celebrationService.addCelebration(regatta.getId(), "Prize Giving", "Trophies for the crews",
+                    LocalDate.of(2024, 8, 3), "Yacht Club");
+            Path importFile = Files.writeString(directory.resolve("events.csv"), String.join("\n",
+                    "event,Kite Festival,Kites over the beach,14.09.2024",
+                    "celebration,Night Flight,Kites with lights,14.09.2024,Beach"
+            ));
+            eventService.importEvents(importFile);
+
+            assertEquals("Yacht Club", eventService.getCelebrationsByEventId(regatta.getId()).get(0).getPlace(),
+                    "A celebration added in log mode should be linked to its event");
+            assertEquals(List.of("Harbour Regatta"), searchService.search("regatta", 10).stream()
+                            .map(SearchResult::getName).toList(),
+                    "Search in log mode should be served by the in-memory index");
+            assertEquals(1, eventService.getEventsByDate(LocalDate.of(2024, 9, 14)).size(),
+                    "Events imported in log mode should be stored in the log");
+            assertEquals(1, eventService.deleteEventById(regatta.getId()),
+                    "Deleting an event in log mode should delete its celebration");
+            assertEquals(0, databaseConnections.get(), "Log mode should never ask the database for a connection");
+        } finally {
+            EventLogRepository.getInstance().close();
+            CelebrationLogRepository.getInstance().close();
+        }
+    }
+}
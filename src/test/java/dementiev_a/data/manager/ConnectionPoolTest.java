@@ -0,0 +1,191 @@
+package dementiev_a.data.manager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConnectionPoolTest {
+    private static final String FIND_EVENT_SQL = "SELECT * FROM events WHERE id = ?";
+
+    private final List<FakeConnection> createdConnections = new ArrayList<>();
+    private ConnectionPool pool;
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void testBorrow_WhenConnectionReturned_ThenSamePhysicalConnectionReused() throws SQLException {
+        pool = createPool(2, Duration.ofMinutes(1), Duration.ofMinutes(10));
+
+        pool.borrow().close();
+        pool.borrow().close();
+
+        assertEquals(1, createdConnections.size(),
+                "A returned connection should be reused instead of opening a new one");
+        assertEquals(1, pool.getIdleCount(), "The returned connection should wait in the pool");
+    }
+
+    @Test
+    void testBorrow_WhenPoolExhausted_ThenThrowAfterTimeout() throws SQLException {
+        pool = createPool(1, Duration.ofMinutes(1), Duration.ofMinutes(10));
+        Connection borrowedConnection = pool.borrow();
+
+        assertThrows(SQLException.class, pool::borrow,
+                "Borrowing beyond the pool size should fail once the borrow timeout expires");
+
+        borrowedConnection.close();
+        assertDoesNotThrow(() -> pool.borrow().close(),
+                "After a connection is returned it should be available for borrowing again");
+    }
+
+    @Test
+    void testBorrow_WhenIdleConnectionInvalid_ThenReplacedWithNewOne() throws SQLException {
+        pool = createPool(1, Duration.ZERO, Duration.ofMinutes(10));
+        pool.borrow().close();
+        createdConnections.get(0).valid = false;
+
+        pool.borrow().close();
+
+        assertEquals(2, createdConnections.size(), "An invalid idle connection should be replaced");
+        assertTrue(createdConnections.get(0).closed.get() > 0, "The invalid connection should be closed physically");
+    }
+
+    @Test
+    void testEviction_WhenConnectionIdleTooLong_ThenClosed() throws Exception {
+        pool = createPool(1, Duration.ofMinutes(1), Duration.ofMillis(50));
+        pool.borrow().close();
+
+        Thread.sleep(300);
+
+        assertEquals(0, pool.getIdleCount(), "Connections idle longer than the idle timeout should be evicted");
+        assertTrue(createdConnections.get(0).closed.get() > 0, "Evicted connection should be closed physically");
+    }
+
+    @Test
+    void testPrepareStatement_WhenSameSqlOnSameConnection_ThenPreparedOnce() throws SQLException {
+        pool = createPool(1, Duration.ofMinutes(1), Duration.ofMinutes(10));
+
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = pool.borrow();
+                 PreparedStatement statement = connection.prepareStatement(FIND_EVENT_SQL)) {
+                statement.setLong(1, i);
+            }
+        }
+
+        assertEquals(1, createdConnections.get(0).prepared.get(),
+                "The same SQL should be prepared only once per physical connection");
+    }
+
+    @Test
+    void testClose_WhenBorrowedConnectionClosedTwice_ThenReturnedOnlyOnce() throws SQLException {
+        pool = createPool(2, Duration.ofMinutes(1), Duration.ofMinutes(10));
+        Connection connection = pool.borrow();
+
+        connection.close();
+        connection.close();
+
+        assertTrue(connection.isClosed(), "A returned connection handle should report itself as closed");
+        assertEquals(1, pool.getIdleCount(), "Closing a handle twice should not return the connection twice");
+        assertThrows(SQLException.class, () -> connection.prepareStatement(FIND_EVENT_SQL),
+                "A returned connection handle should not be usable anymore");
+    }
+
+    @Test
+    void testBorrow_WhenPreviousBorrowerChangedSession_ThenDefaultsRestored() throws SQLException {
+        pool = createPool(1, Duration.ofMinutes(1), Duration.ofMinutes(10));
+        Connection connection = pool.borrow();
+        connection.setAutoCommit(false);
+        connection.setReadOnly(true);
+        connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        connection.setSchema("archive");
+        connection.close();
+
+        Connection reused = pool.borrow();
+
+        assertEquals(1, createdConnections.size(), "The changed connection should still be reused");
+        assertTrue(reused.getAutoCommit(), "Autocommit should be restored for the next borrower");
+        assertFalse(reused.isReadOnly(), "Read-only mode should be restored for the next borrower");
+        assertEquals(Connection.TRANSACTION_READ_COMMITTED, reused.getTransactionIsolation(),
+                "Transaction isolation should be restored for the next borrower");
+        assertEquals("public", reused.getSchema(), "Schema should be restored for the next borrower");
+        reused.close();
+    }
+
+    private ConnectionPool createPool(int maxSize, Duration validationInterval, Duration idleTimeout) {
+        return new ConnectionPool(() -> {
+            FakeConnection connection = new FakeConnection();
+            createdConnections.add(connection);
+            return connection.proxy();
+        }, maxSize, Duration.ofMillis(100), validationInterval, idleTimeout, 16);
+    }
+
+    private static class FakeConnection {
+        private final AtomicInteger closed = new AtomicInteger();
+        private final AtomicInteger prepared = new AtomicInteger();
+        private volatile boolean valid = true;
+        private boolean autoCommit = true;
+        private boolean readOnly;
+        private int transactionIsolation = Connection.TRANSACTION_READ_COMMITTED;
+        private String schema = "public";
+
+        private Connection proxy() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "close" -> {
+                            closed.incrementAndGet();
+                            yield null;
+                        }
+                        case "isClosed" -> closed.get() > 0;
+                        case "isValid" -> valid;
+                        case "getAutoCommit" -> autoCommit;
+                        case "setAutoCommit" -> {
+                            autoCommit = (boolean) args[0];
+                            yield null;
+                        }
+                        case "isReadOnly" -> readOnly;
+                        case "setReadOnly" -> {
+                            readOnly = (boolean) args[0];
+                            yield null;
+                        }
+                        case "getTransactionIsolation" -> transactionIsolation;
+                        case "setTransactionIsolation" -> {
+                            transactionIsolation = (int) args[0];
+                            yield null;
+                        }
+                        case "getSchema" -> schema;
+                        case "setSchema" -> {
+                            schema = (String) args[0];
+                            yield null;
+                        }
+                        case "prepareStatement" -> {
+                            prepared.incrementAndGet();
+                            yield fakeStatement();
+                        }
+                        default -> null;
+                    }
+            );
+        }
+
+        private static PreparedStatement fakeStatement() {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> method.getName().equals("isClosed") ? false : null
+            );
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package dementiev_a.data.manager;
+
+import dementiev_a.BaseTest;
+import dementiev_a.exception.MigrationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MigrationRunnerTest extends BaseTest {
+    private static final String HISTORY_TABLE = "test_schema_migrations";
+
+    private MigrationRunner migrationRunner;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        migrationRunner = new MigrationRunner("db/test-migration", HISTORY_TABLE);
+        dropTestTables();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        dropTestTables();
+    }
+
+    @Test
+    void testMigrate_WhenDatabaseIsEmpty_ThenAllMigrationsAppliedInOrder() throws SQLException {
+        try (Connection connection = PostgresManager.getInstance().getConnection()) {
+            int appliedCount = migrationRunner.migrate(connection);
+
+            assertEquals(2, appliedCount, "Both test migrations should be applied to an empty database");
+            assertEquals(1, count(connection, "SELECT COUNT(*) FROM anniversary_notes"),
+                    "First migration should create the table and insert its note");
+            assertEquals(1, count(connection,
+                            "SELECT COUNT(*) FROM pg_indexes WHERE indexname = 'anniversary_notes_date_idx'"),
+                    "Second migration should create the index outside of a transaction");
+            assertEquals(2, count(connection, "SELECT COUNT(*) FROM " + HISTORY_TABLE),
+                    "Every applied migration should be recorded in the history table");
+        }
+    }
+
+    @Test
+    void testMigrate_WhenMigrationsAlreadyApplied_ThenNothingAppliedAgain() throws SQLException {
+        try (Connection connection = PostgresManager.getInstance().getConnection()) {
+            migrationRunner.migrate(connection);
+
+            int appliedCount = migrationRunner.migrate(connection);
+
+            assertEquals(0, appliedCount, "Second run should not apply already applied migrations");
+            assertEquals(1, count(connection, "SELECT COUNT(*) FROM anniversary_notes"),
+                    "Data inserted by a migration should not be duplicated by a second run");
+        }
+    }
+
+    @Test
+    void testMigrate_WhenAppliedMigrationChanged_ThenThrowMigrationException() throws SQLException {
+        try (Connection connection = PostgresManager.getInstance().getConnection();
+             Statement statement = connection.createStatement()) {
+            migrationRunner.migrate(connection);
+            statement.executeUpdate(
+                    "UPDATE %s SET checksum = repeat('0', 64) WHERE version = 1".formatted(HISTORY_TABLE)
+            );
+
+            assertThrows(MigrationException.class,
+                    () -> migrationRunner.migrate(connection),
+                    "Running migrations whose checksum differs from the applied one should fail");
+        }
+    }
+
+    @Test
+    void testMigrate_WhenInterruptedIndexBuildLeftInvalidIndex_ThenIndexRebuiltAndMigrationRecorded()
+            throws SQLException {
+        try (Connection connection = PostgresManager.getInstance().getConnection();
+             Statement statement = connection.createStatement()) {
+            migrationRunner.migrate(connection);
+            statement.execute("DROP INDEX anniversary_notes_date_idx");
+            statement.executeUpdate("DELETE FROM %s WHERE version = 2".formatted(HISTORY_TABLE));
+            statement.executeUpdate("INSERT INTO anniversary_notes (id, note, date) " +
+                    "VALUES (2, 'Book a table for the anniversary dinner', '2025-06-14')");
+            assertThrows(SQLException.class, () -> statement.execute(
+                            "CREATE UNIQUE INDEX CONCURRENTLY anniversary_notes_date_idx ON anniversary_notes (date)"),
+                    "A unique index build over duplicate dates should fail and leave an invalid index");
+
+            int appliedCount = migrationRunner.migrate(connection);
+
+            assertEquals(1, appliedCount, "The index migration should be applied again");
+            assertEquals(1, count(connection, "SELECT COUNT(*) FROM pg_index " +
+                            "WHERE indexrelid = 'anniversary_notes_date_idx'::regclass AND indisvalid"),
+                    "The invalid leftover index should be replaced by a valid one");
+            assertEquals(2, count(connection, "SELECT COUNT(*) FROM " + HISTORY_TABLE),
+                    "The index migration should be recorded once its index is valid");
+        }
+    }
+
+    private void dropTestTables() throws SQLException {
+        try (Connection connection = PostgresManager.getInstance().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS anniversary_notes");
+            statement.execute("DROP TABLE IF EXISTS " + HISTORY_TABLE);
+        }
+    }
+
+    private long count(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Celebration;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingCelebrationRepositoryTest extends CelebrationRepositoryBaseTest {
+    @Override
+    protected CelebrationRepository createRepository() {
+        return new CachingCelebrationRepository(CelebrationInMemoryRepository.getInstance(), null, 16);
+    }
+
+    @Test
+    void testFindAllByIds_WhenSomeCached_ThenOnlyMissingCountedAsMisses() {
+        CachingCelebrationRepository cachingRepository = (CachingCelebrationRepository) repository;
+        Long cakeId = repository.save(new Celebration(1L, "Cake Cutting", "Cutting the birthday cake",
+                LocalDate.of(2024, 5, 20), "Kitchen"));
+        Long toastId = repository.save(new Celebration(1L, "Toast", "Raising a glass",
+                LocalDate.of(2024, 5, 20), "Dining Room"));
+        repository.findById(cakeId);
+
+        List<Celebration> celebrations = repository.findAllByIds(List.of(cakeId, toastId));
+
+        assertEquals(2, celebrations.size(), "Both cached and uncached celebrations should be returned");
+        assertEquals(1, cachingRepository.getEntityCache().getHitCount(),
+                "The already loaded celebration should be served from the cache");
+        assertEquals(2, cachingRepository.getEntityCache().getMissCount(),
+                "Only first lookups of each celebration should be counted as misses");
+    }
+
+    @Test
+    void testDeleteAllByIds_WhenCelebrationsCached_ThenNoLongerFound() {
+        Long paradeId = repository.save(new Celebration(2L, "Parade", "City parade",
+                LocalDate.of(2024, 5, 9), "Main Square"));
+        Long fireworksId = repository.save(new Celebration(2L, "Fireworks", "Evening fireworks",
+                LocalDate.of(2024, 5, 9), "Embankment"));
+        repository.findAllByIds(List.of(paradeId, fireworksId));
+
+        repository.deleteAllByIds(List.of(paradeId, fireworksId));
+
+        assertTrue(repository.findAllByIds(List.of(paradeId, fireworksId)).isEmpty(),
+                "Deleted celebrations should be evicted from the cache");
+    }
+
+    @Test
+    void testSave_WhenCachedCelebrationEdited_ThenNextFindReturnsEditedCelebration() {
+        Long picnicId = repository.save(new Celebration(3L, "Picnic", "Picnic in the park",
+                LocalDate.of(2024, 6, 1), "Central Park"));
+        Celebration picnic = repository.findById(picnicId);
+
+        picnic.setPlace("Botanical Garden");
+        repository.save(picnic);
+
+        assertEquals("Botanical Garden", repository.findById(picnicId).getPlace(),
+                "Saving a celebration should invalidate its cached copy");
+    }
+}
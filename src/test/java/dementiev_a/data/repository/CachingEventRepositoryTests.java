@@ -0,0 +1,113 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingEventRepositoryTests extends EventRepositoryTestBase {
+    @Override
+    protected EventRepository createRepository() {
+        return new CachingEventRepository(EventInMemoryRepository.getInstance(), 16, 4);
+    }
+
+    @Test
+    void testFindById_WhenLoadedTwice_ThenSecondLoadIsCacheHit() {
+        CachingEventRepository cachingRepository = (CachingEventRepository) repository;
+        Long eventId = repository.save(new Event("Wedding Anniversary", "First anniversary",
+                LocalDate.of(2023, 8, 12)));
+
+        repository.findById(eventId);
+        repository.findById(eventId);
+
+        assertEquals(1, cachingRepository.getEntityCache().getMissCount(),
+                "The first lookup of an event should be counted as a cache miss");
+        assertEquals(1, cachingRepository.getEntityCache().getHitCount(),
+                "The repeated lookup of the same event should be served from the cache");
+    }
+
+    @Test
+    void testFindById_WhenReturnedEventMutated_ThenCachedEventUnchanged() {
+        Long eventId = repository.save(new Event("Graduation", "University graduation", LocalDate.of(2024, 6, 14)));
+        repository.findById(eventId);
+
+        repository.findById(eventId).setName("Renamed Without Saving");
+
+        assertEquals("Graduation", repository.findById(eventId).getName(),
+                "Mutating a returned event should not change the cached copy");
+    }
+
+    @Test
+    void testSave_WhenCachedEventEdited_ThenNextFindReturnsEditedEvent() {
+        Long eventId = repository.save(new Event("Housewarming", "New flat party", LocalDate.of(2022, 3, 5)));
+        Event housewarming = repository.findById(eventId);
+
+        housewarming.setDescription("New house party");
+        repository.save(housewarming);
+
+        assertEquals("New house party", repository.findById(eventId).getDescription(),
+                "Saving an event should invalidate its cached copy");
+    }
+
+    @Test
+    void testFindByDate_WhenNewEventSavedOnCachedDate_ThenResultIncludesIt() {
+        LocalDate festivalDate = LocalDate.of(2025, 7, 19);
+        repository.save(new Event("Summer Festival", "Open-air music festival", festivalDate));
+        repository.findByDate(festivalDate);
+
+        repository.save(new Event("Jazz Night", "Evening jazz concert", festivalDate));
+
+        assertEquals(2, repository.findByDate(festivalDate).size(),
+                "Saving an event on a cached date should invalidate that date's cached result");
+    }
+
+    @Test
+    void testFindByDate_WhenEventDeleted_ThenCachedDateInvalidated() {
+        LocalDate reunionDate = LocalDate.of(2021, 9, 4);
+        Long eventId = repository.save(new Event("Class Reunion", "Ten years since school", reunionDate));
+        repository.findByDate(reunionDate);
+
+        repository.deleteById(eventId);
+
+        assertTrue(repository.findByDate(reunionDate).isEmpty(),
+                "Deleting an event should remove it from the cached result of its date");
+    }
+
+    @Test
+    void testDeleteEventWithCelebrations_WhenCelebrationsCached_ThenTheyAreEvicted() {
+        CachingStorage storage = new CachingStorage(new RepositoryStorage(EventInMemoryRepository.getInstance(),
+                CelebrationInMemoryRepository.getInstance()), 16, 4, 16);
+        CelebrationRepository celebrationRepository = storage.getCelebrationRepository();
+        celebrationRepository.deleteAll();
+        Long eventId = storage.getEventRepository().save(new Event("Birthday", "Family birthday",
+                LocalDate.of(1990, 1, 1)));
+        Long celebrationId = storage.addCelebration(
+                new Celebration(eventId, "Birthday Dinner", "Dinner with family", LocalDate.of(2024, 1, 1), "Home"));
+        celebrationRepository.findById(celebrationId);
+
+        int deletedCelebrations = storage.deleteEventWithCelebrations(eventId);
+
+        assertEquals(1, deletedCelebrations, "The event's only celebration should be reported as deleted");
+        assertEquals(List.of(), celebrationRepository.findAllByIds(List.of(celebrationId)),
+                "A deleted celebration should not be served from the cache");
+    }
+
+    @Test
+    void testAddCelebration_WhenEventCached_ThenNextFindSeesNewCelebration() {
+        CachingStorage storage = new CachingStorage(new RepositoryStorage(EventInMemoryRepository.getInstance(),
+                CelebrationInMemoryRepository.getInstance()), 16, 4, 16);
+        Long eventId = storage.getEventRepository().save(new Event("Anniversary", "Tenth anniversary",
+                LocalDate.of(2014, 6, 21)));
+        storage.getEventRepository().findById(eventId);
+
+        Long celebrationId = storage.addCelebration(
+                new Celebration(eventId, "Anniversary Trip", "Weekend away", LocalDate.of(2024, 6, 21), "Seaside"));
+
+        assertTrue(storage.getEventRepository().findById(eventId).getCelebrationIds().contains(celebrationId),
+                "Adding a celebration should evict the cached copy of its event");
+    }
+}
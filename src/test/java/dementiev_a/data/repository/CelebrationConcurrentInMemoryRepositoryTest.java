@@ -0,0 +1,8 @@
+package dementiev_a.data.repository;
+
+public class CelebrationConcurrentInMemoryRepositoryTest extends CelebrationRepositoryBaseTest {
+    @Override
+    protected CelebrationRepository createRepository() {
+        return CelebrationConcurrentInMemoryRepository.getInstance();
+    }
+}
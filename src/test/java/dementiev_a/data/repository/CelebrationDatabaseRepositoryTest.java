@@ -1,8 +1,46 @@
 package dementiev_a.data.repository;
 
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import dementiev_a.exception.BatchSaveException;
+import dementiev_a.utils.LongHashSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class CelebrationDatabaseRepositoryTest extends CelebrationRepositoryBaseTest {
+    private static final long REFERENCED_EVENTS_COUNT = 20;
+
     @Override
     protected CelebrationRepository createRepository() {
         return CelebrationDatabaseRepository.getInstance();
     }
+
+    @BeforeEach
+    void createReferencedEvents() {
+        EventRepository eventRepository = EventDatabaseRepository.getInstance();
+        eventRepository.deleteAll();
+        eventRepository.saveAll(LongStream.rangeClosed(1, REFERENCED_EVENTS_COUNT)
+                .mapToObj(eventId -> new Event(eventId, "Company Event " + eventId,
+                        "Event the celebrations are linked to", LocalDate.of(2025, 1, 1), new LongHashSet()))
+                .toList());
+    }
+
+    @Test
+    void testSaveAll_WhenOneCelebrationReferencesMissingEvent_ThenThrowAndStoreNothing() {
+        List<Celebration> celebrations = List.of(
+                new Celebration(1L, "Spring Picnic", "Picnic in the park", LocalDate.of(2025, 4, 20), "City Park"),
+                new Celebration(999L, "Lost Party", "Party of a missing event", LocalDate.of(2025, 5, 1), "Nowhere")
+        );
+
+        assertThrows(BatchSaveException.class, () -> repository.saveAll(celebrations),
+                "A failed batch should be reported instead of returning ids of unsaved celebrations");
+        assertTrue(repository.findAll().isEmpty(), "A failed batch should not leave any celebration stored");
+    }
 }
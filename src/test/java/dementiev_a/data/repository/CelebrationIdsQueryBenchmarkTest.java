@@ -0,0 +1,109 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.BaseTest;
+import dementiev_a.data.manager.PostgresManager;
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("benchmark")
+public class CelebrationIdsQueryBenchmarkTest extends BaseTest {
+    private static final int CELEBRATIONS_COUNT = 200;
+    private static final int ITERATIONS = 500;
+    private static final int MAX_IDS_PER_QUERY = 50;
+    private static final String LEGACY_FIND_BY_IDS_SQL =
+            "SELECT * FROM celebrations LEFT JOIN events_celebrations " +
+                    "ON celebrations.id = events_celebrations.celebrationId WHERE id IN (%s)";
+    private static final String FIND_BY_IDS_STATEMENT =
+            "SELECT * FROM celebrations LEFT JOIN events_celebrations " +
+                    "ON celebrations.id = events_celebrations.celebrationId WHERE id = ANY($1) ORDER BY id";
+    private static final String PLAN_EXECUTIONS_SQL =
+            "SELECT COUNT(*), COALESCE(SUM(generic_plans + custom_plans), 0) FROM pg_prepared_statements " +
+                    "WHERE statement = ?";
+
+    private final EventRepository eventRepository = EventDatabaseRepository.getInstance();
+    private final CelebrationRepository celebrationRepository = CelebrationDatabaseRepository.getInstance();
+    private List<Long> celebrationIds;
+
+    @BeforeEach
+    void setUp() {
+        celebrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        Event conference = new Event("Developer Conference", "Annual developer conference", LocalDate.of(2025, 10, 2));
+        long conferenceId = eventRepository.save(conference);
+        celebrationIds = celebrationRepository.saveAll(IntStream.range(0, CELEBRATIONS_COUNT)
+                .mapToObj(talk -> new Celebration(conferenceId, "Talk " + talk,
+                        "Conference talk number " + talk, LocalDate.of(2025, 10, 2), "Room " + talk % 5))
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        celebrationRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void testFindAllByIds_WhenIdListSizesVary_ThenArrayQueryReusesOnePreparedPlan() throws SQLException {
+        long legacyNanos;
+        try (Connection connection = PostgresManager.getInstance().getConnection();
+             Statement statement = connection.createStatement()) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                String joinedIds = idsForIteration(i).stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(","));
+                try (ResultSet result = statement.executeQuery(LEGACY_FIND_BY_IDS_SQL.formatted(joinedIds))) {
+                    while (result.next()) {
+                        result.getLong("id");
+                    }
+                }
+            }
+            legacyNanos = System.nanoTime() - start;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            celebrationRepository.findAllByIds(idsForIteration(i));
+        }
+        long arrayNanos = System.nanoTime() - start;
+
+        try (Connection connection = PostgresManager.getInstance().getConnection();
+             PreparedStatement statement = connection.prepareStatement(PLAN_EXECUTIONS_SQL)) {
+            statement.setString(1, FIND_BY_IDS_STATEMENT);
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                long preparedStatementsCount = result.getLong(1);
+                long planExecutionsCount = result.getLong(2);
+
+                assertEquals(1, preparedStatementsCount,
+                        "All id list sizes should share one server-side prepared statement");
+                assertTrue(planExecutionsCount >= ITERATIONS - 5,
+                        "Array query should be executed from the cached prepared statement after driver warm-up, "
+                                + "but ran " + planExecutionsCount + " prepared plans in " + arrayNanos / 1_000_000
+                                + " ms against " + legacyNanos / 1_000_000 + " ms for IN lists");
+            }
+        }
+    }
+
+    private List<Long> idsForIteration(int iteration) {
+        int idsCount = iteration % MAX_IDS_PER_QUERY + 1;
+        int from = iteration % (CELEBRATIONS_COUNT - idsCount);
+        return celebrationIds.subList(from, from + idsCount);
+    }
+}
@@ -1,8 +1,103 @@
 package dementiev_a.data.repository;
 
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.sequence.CelebrationSequence;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class CelebrationInMemoryRepositoryTest extends CelebrationRepositoryBaseTest {
+    @TempDir
+    Path directory;
+
     @Override
     protected CelebrationRepository createRepository() {
         return CelebrationInMemoryRepository.getInstance();
     }
+
+    @Test
+    void testLoadSnapshot_WhenSnapshotWritten_ThenCelebrationsAndSequenceRestored() throws IOException {
+        CelebrationInMemoryRepository inMemoryRepository = (CelebrationInMemoryRepository) repository;
+        Long celebrationId = repository.save(new Celebration(42L, "Music Day",
+                "Street concerts in Z\u00fcrich \u2014 \u97f3\u697d\u306e\u65e5", LocalDate.of(2024, 6, 21),
+                "Old Town"));
+        Path snapshot = directory.resolve("celebrations.snapshot");
+        inMemoryRepository.writeSnapshot(snapshot);
+        long sequenceValue = CelebrationSequence.getInstance().getValue();
+
+        repository.deleteAll();
+        CelebrationSequence.getInstance().setValue(1);
+        inMemoryRepository.loadSnapshot(snapshot);
+
+        Celebration restored = repository.findById(celebrationId);
+        assertEquals("Street concerts in Z\u00fcrich \u2014 \u97f3\u697d\u306e\u65e5", restored.getDescription(),
+                "Non-ASCII text should survive the UTF-8 round trip");
+        assertEquals(42L, restored.getEventId(), "The owning event id should be restored");
+        assertEquals("Old Town", restored.getPlace(), "The place should be restored");
+        assertEquals(sequenceValue, CelebrationSequence.getInstance().getValue(),
+                "The id sequence should continue where it was when the snapshot was written");
+    }
+
+    @Test
+    void testSave_WhenPlacesRepeat_ThenSinglePlaceInstanceShared() {
+        Long breakfastId = repository.save(new Celebration(43L, "Birthday Breakfast", "Pancakes in bed",
+                LocalDate.of(2024, 10, 2), new String("Home")));
+        Long dinnerId = repository.save(new Celebration(43L, "Birthday Dinner", "Cake and candles",
+                LocalDate.of(2024, 10, 2), new String("Home")));
+
+        assertSame(repository.findById(breakfastId).getPlace(), repository.findById(dinnerId).getPlace(),
+                "Celebrations at the same place should share one dictionary entry");
+    }
+
+    @Test
+    void testLoadSnapshot_WhenPlacesRepeatAndMissing_ThenPlaceIndexRestored() throws IOException {
+        CelebrationInMemoryRepository inMemoryRepository = (CelebrationInMemoryRepository) repository;
+        Long lunchId = repository.save(new Celebration(44L, "Team Lunch", "Quarterly lunch",
+                LocalDate.of(2024, 3, 29), "Canteen"));
+        Long callId = repository.save(new Celebration(44L, "Video Call", "Remote greetings",
+                LocalDate.of(2024, 3, 29), null));
+        Long cakeId = repository.save(new Celebration(44L, "Cake Break", "Afternoon cake",
+                LocalDate.of(2024, 3, 29), "Canteen"));
+        Path snapshot = directory.resolve("places.snapshot");
+        inMemoryRepository.writeSnapshot(snapshot);
+
+        repository.deleteAll();
+        inMemoryRepository.loadSnapshot(snapshot);
+
+        assertEquals(List.of(lunchId, cakeId), repository.findByPlace("Canteen").stream()
+                        .map(Celebration::getId).toList(),
+                "Celebrations restored from a snapshot should be found by their place");
+        assertNull(repository.findById(callId).getPlace(), "A missing place should be restored as null");
+    }
+
+    @Test
+    void testLoadSnapshot_WhenSnapshotTruncated_ThenThrowAndKeepCurrentCelebrations() throws IOException {
+        CelebrationInMemoryRepository inMemoryRepository = (CelebrationInMemoryRepository) repository;
+        repository.save(new Celebration(45L, "Lantern Walk", "Evening walk with lanterns",
+                LocalDate.of(2024, 11, 11), "River Park"));
+        Path snapshot = directory.resolve("truncated.snapshot");
+        inMemoryRepository.writeSnapshot(snapshot);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(bytes, bytes.length - 2));
+        repository.deleteAll();
+        Long picnicId = repository.save(new Celebration(46L, "Spring Picnic", "Lunch on the grass",
+                LocalDate.of(2024, 4, 20), "Meadow"));
+
+        assertThrows(IOException.class, () -> inMemoryRepository.loadSnapshot(snapshot),
+                "A truncated snapshot should be rejected");
+        assertEquals(List.of(picnicId), repository.findAll().stream().map(Celebration::getId).toList(),
+                "A rejected snapshot should leave the celebrations that were loaded before it");
+        assertEquals(List.of(picnicId), repository.findByPlace("Meadow").stream().map(Celebration::getId).toList(),
+                "A rejected snapshot should leave the place index untouched");
+        assertTrue(repository.findByPlace("River Park").isEmpty(),
+                "Places from a rejected snapshot should not be indexed");
+    }
 }
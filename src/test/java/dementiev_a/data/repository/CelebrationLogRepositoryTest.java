@@ -0,0 +1,67 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.log.CelebrationRecordCodec;
+import dementiev_a.data.log.FsyncPolicy;
+import dementiev_a.data.log.RecordLog;
+import dementiev_a.data.model.Celebration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CelebrationLogRepositoryTest extends CelebrationRepositoryBaseTest {
+    @TempDir
+    Path directory;
+
+    @Override
+    protected CelebrationRepository createRepository() {
+        return openRepository(FsyncPolicy.EVERY_WRITE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((CelebrationLogRepository) repository).close();
+    }
+
+    @Test
+    void testReopen_WhenIntervalSyncUsed_ThenCelebrationRestored() {
+        ((CelebrationLogRepository) repository).close();
+        repository = openRepository(FsyncPolicy.INTERVAL);
+        Long celebrationId = repository.save(new Celebration(3L, "Harbour Fireworks",
+                "Fireworks over the harbour", LocalDate.of(2024, 12, 31), "Harbour"));
+
+        ((CelebrationLogRepository) repository).close();
+        repository = openRepository(FsyncPolicy.INTERVAL);
+
+        Celebration fireworks = repository.findById(celebrationId);
+        assertEquals("Harbour", fireworks.getPlace(), "The celebration place should be restored from the log");
+        assertEquals(3L, fireworks.getEventId(), "The owning event id should be restored from the log");
+    }
+
+    @Test
+    void testReopen_WhenLogReplayed_ThenCelebrationsFoundByPlace() {
+        Long concertId = repository.save(new Celebration(4L, "Open Air Concert",
+                "Summer concert series", LocalDate.of(2024, 7, 6), "City Park"));
+        Long moviesId = repository.save(new Celebration(4L, "Outdoor Movies",
+                "Films under the stars", LocalDate.of(2024, 8, 3), "City Park"));
+        repository.save(new Celebration(5L, "Book Fair", "Local publishers", LocalDate.of(2024, 9, 14), "Library"));
+
+        ((CelebrationLogRepository) repository).close();
+        repository = openRepository(FsyncPolicy.EVERY_WRITE);
+
+        assertEquals(List.of(concertId, moviesId), repository.findByPlace("City Park").stream()
+                        .map(Celebration::getId).toList(),
+                "Celebrations replayed from the log should be found by their place");
+    }
+
+    private CelebrationLogRepository openRepository(FsyncPolicy fsyncPolicy) {
+        return new CelebrationLogRepository(new RecordLog<>(directory, "celebrations",
+                CelebrationRecordCodec.getInstance(), fsyncPolicy, Duration.ofMillis(20), 100));
+    }
+}
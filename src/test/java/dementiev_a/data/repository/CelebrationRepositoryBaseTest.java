@@ -7,6 +7,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -202,6 +204,111 @@ public abstract class CelebrationRepositoryBaseTest extends BaseTest {
                 "Celebration should still exist after deleteAllByIds with empty collection");
     }
 
+    @Test
+    void testFindByMonthDay_WhenCelebrationsInDifferentYears_ThenReturnAllAnniversaries() {
+        Celebration firstAnniversary = new Celebration(11L, "Paper Anniversary",
+                "First wedding anniversary dinner", LocalDate.of(2011, 7, 17), "Restaurant");
+        Celebration tenthAnniversary = new Celebration(11L, "Tin Anniversary",
+                "Tenth wedding anniversary trip", LocalDate.of(2020, 7, 17), "Paris");
+        Celebration summerPicnic = new Celebration(12L, "Summer Picnic",
+                "Picnic with neighbours", LocalDate.of(2020, 7, 18), "Park");
+
+        Long firstAnniversaryId = repository.save(firstAnniversary);
+        Long tenthAnniversaryId = repository.save(tenthAnniversary);
+        repository.save(summerPicnic);
+
+        List<Celebration> foundCelebrations = repository.findByMonthDay(MonthDay.of(7, 17));
+
+        assertEquals(2, foundCelebrations.size(),
+                "findByMonthDay should return celebrations on the same day and month regardless of the year");
+        assertTrue(foundCelebrations.stream().anyMatch(c -> c.getId().equals(firstAnniversaryId)),
+                "Result should contain the first anniversary celebration");
+        assertTrue(foundCelebrations.stream().anyMatch(c -> c.getId().equals(tenthAnniversaryId)),
+                "Result should contain the tenth anniversary celebration");
+    }
+
+    @Test
+    void testFindByMonthDay_WhenCelebrationDeleted_ThenNotReturned() {
+        Celebration birthdayParty = new Celebration(13L, "Birthday Party",
+                "Party with friends", LocalDate.of(2022, 11, 3), "Home");
+        Long birthdayPartyId = repository.save(birthdayParty);
+
+        repository.deleteById(birthdayPartyId);
+
+        assertTrue(repository.findByMonthDay(MonthDay.of(11, 3)).isEmpty(),
+                "Deleted celebration should not be returned by findByMonthDay");
+    }
+
+    @Test
+    void testFindByPlace_WhenCelebrationsAtSeveralPlaces_ThenReturnOnlyMatchingOrderedById() {
+        Long dinnerId = repository.save(new Celebration(19L, "Family Dinner",
+                "Sunday dinner with grandparents", LocalDate.of(2024, 3, 10), "Home"));
+        repository.save(new Celebration(19L, "Graduation Party",
+                "Party after the ceremony", LocalDate.of(2024, 6, 28), "Rooftop Bar"));
+        Long movieNightId = repository.save(new Celebration(20L, "Movie Night",
+                "Watching the trilogy", LocalDate.of(2024, 1, 5), "Home"));
+
+        List<Celebration> foundCelebrations = repository.findByPlace("Home");
+
+        assertEquals(List.of(dinnerId, movieNightId), foundCelebrations.stream().map(Celebration::getId).toList(),
+                "findByPlace should return only celebrations at the given place ordered by id");
+        assertTrue(repository.findByPlace("Stadium").isEmpty(),
+                "findByPlace should return empty collection for a place without celebrations");
+    }
+
+    @Test
+    void testFindByPlace_WhenPlaceChangedAndCelebrationDeleted_ThenNotReturnedForOldPlace() {
+        Celebration picnic = new Celebration(21L, "Picnic", "Picnic by the river",
+                LocalDate.of(2024, 7, 14), "Riverside Park");
+        repository.save(picnic);
+        Long barbecueId = repository.save(new Celebration(21L, "Barbecue", "Evening barbecue",
+                LocalDate.of(2024, 7, 14), "Riverside Park"));
+
+        Celebration movedPicnic = repository.findById(picnic.getId());
+        movedPicnic.setPlace("Botanical Garden");
+        repository.save(movedPicnic);
+        repository.deleteById(barbecueId);
+
+        assertTrue(repository.findByPlace("Riverside Park").isEmpty(),
+                "A place should no longer match after its celebrations moved away or were deleted");
+        assertEquals(List.of(picnic.getId()), repository.findByPlace("Botanical Garden").stream()
+                        .map(Celebration::getId).toList(),
+                "A celebration should be found by its new place");
+    }
+
+    @Test
+    void testFindByDateRange_WhenCelebrationsInsideAndOutside_ThenReturnInsideOrderedByDate() {
+        repository.save(new Celebration(14L, "Wedding Reception",
+                "Reception for the guests", LocalDate.of(2024, 9, 7), "Country Club"));
+        repository.save(new Celebration(14L, "Bachelor Party",
+                "Party with close friends", LocalDate.of(2024, 8, 24), "Bar"));
+        repository.save(new Celebration(14L, "Engagement Dinner",
+                "Dinner with both families", LocalDate.of(2024, 2, 14), "Restaurant"));
+
+        List<Celebration> foundCelebrations = repository.findByDateRange(
+                LocalDate.of(2024, 8, 1), LocalDate.of(2024, 9, 7));
+
+        assertEquals(List.of("Bachelor Party", "Wedding Reception"),
+                foundCelebrations.stream().map(Celebration::getName).toList(),
+                "findByDateRange should return celebrations within the inclusive range ordered by date");
+    }
+
+    @Test
+    void testFindUpcoming_WhenMoreCelebrationsThanLimit_ThenReturnNearestCelebrations() {
+        repository.save(new Celebration(15L, "Graduation Party",
+                "Party after graduation", LocalDate.of(2025, 6, 30), "Home"));
+        repository.save(new Celebration(15L, "Graduation Ceremony",
+                "Official ceremony", LocalDate.of(2025, 6, 27), "University Hall"));
+        repository.save(new Celebration(15L, "Last Exam",
+                "Final exam celebration", LocalDate.of(2025, 6, 10), "Cafe"));
+
+        List<Celebration> upcomingCelebrations = repository.findUpcoming(LocalDate.of(2025, 6, 20), 1);
+
+        assertEquals(1, upcomingCelebrations.size(), "findUpcoming should return no more celebrations than the limit");
+        assertEquals("Graduation Ceremony", upcomingCelebrations.get(0).getName(),
+                "findUpcoming should return the nearest celebration on or after the given date");
+    }
+
     @Test
     void testDeleteAll_WhenMultipleCelebrationsSaved_ThenAllRemoved() {
         Celebration first = new Celebration(10L, "First",
@@ -217,4 +324,68 @@ public abstract class CelebrationRepositoryBaseTest extends BaseTest {
         List<Celebration> allCelebrations = repository.findAll();
         assertEquals(0, allCelebrations.size(), "After deleteAll, repository should be empty");
     }
+
+    @Test
+    void testSaveAll_WhenNewCelebrations_ThenAllAssignedIdsAndStored() {
+        Celebration dinner = new Celebration(16L, "Family Dinner",
+                "Dinner with grandparents", LocalDate.of(2025, 12, 31), "Home");
+        Celebration fireworks = new Celebration(16L, "Fireworks",
+                "Watching fireworks at midnight", LocalDate.of(2026, 1, 1), "City Square");
+
+        List<Long> assignedIds = repository.saveAll(List.of(dinner, fireworks));
+
+        assertEquals(List.of(dinner.getId(), fireworks.getId()), assignedIds,
+                "saveAll should return the assigned ids in the order of the given celebrations");
+        Celebration loadedFireworks = repository.findById(assignedIds.get(1));
+        assertEquals("City Square", loadedFireworks.getPlace(),
+                "saveAll should store the place of each celebration");
+        assertEquals(16L, loadedFireworks.getEventId(),
+                "saveAll should store the link of each celebration to its event");
+        assertEquals(2, repository.findAll().size(), "saveAll should store all given celebrations");
+    }
+
+    @Test
+    void testSaveAll_WhenEmptyCollection_ThenReturnEmptyList() {
+        List<Long> assignedIds = repository.saveAll(List.of());
+
+        assertTrue(assignedIds.isEmpty(), "saveAll with no celebrations should return no ids");
+        assertTrue(repository.findAll().isEmpty(), "saveAll with no celebrations should not store anything");
+    }
+
+    @Test
+    void testForEach_WhenCelebrationsSaved_ThenVisitEachCelebrationInIdOrder() {
+        Celebration openingCeremony = new Celebration(17L, "Opening Ceremony",
+                "Opening of the Olympic games", LocalDate.of(2024, 7, 26), "Seine River");
+        Celebration closingCeremony = new Celebration(17L, "Closing Ceremony",
+                "Closing of the Olympic games", LocalDate.of(2024, 8, 11), "Stade de France");
+        repository.save(openingCeremony);
+        repository.save(closingCeremony);
+
+        List<Celebration> visitedCelebrations = new ArrayList<>();
+        repository.forEach(visitedCelebrations::add);
+
+        assertEquals(List.of(openingCeremony.getId(), closingCeremony.getId()),
+                visitedCelebrations.stream().map(Celebration::getId).toList(),
+                "forEach should visit every celebration exactly once in ascending id order");
+    }
+
+    @Test
+    void testFindPage_WhenPagingThroughCelebrations_ThenEachCelebrationReturnedOnceInIdOrder() {
+        Celebration rehearsalDinner = new Celebration(18L, "Rehearsal Dinner",
+                "Dinner before the wedding", LocalDate.of(2025, 5, 16), "Restaurant");
+        Celebration weddingCeremony = new Celebration(18L, "Wedding Ceremony",
+                "Exchange of vows", LocalDate.of(2025, 5, 17), "Chapel");
+        Celebration honeymoon = new Celebration(18L, "Honeymoon",
+                "Trip after the wedding", LocalDate.of(2025, 5, 20), "Seaside");
+        repository.saveAll(List.of(rehearsalDinner, weddingCeremony, honeymoon));
+
+        List<Celebration> firstPage = repository.findPage(null, 2);
+        List<Celebration> secondPage = repository.findPage(firstPage.get(1).getId(), 2);
+
+        assertEquals(List.of(rehearsalDinner.getId(), weddingCeremony.getId()),
+                firstPage.stream().map(Celebration::getId).toList(),
+                "First page should contain the celebrations with the smallest ids");
+        assertEquals(List.of(honeymoon.getId()), secondPage.stream().map(Celebration::getId).toList(),
+                "Next page should start right after the last id of the previous page");
+    }
 }
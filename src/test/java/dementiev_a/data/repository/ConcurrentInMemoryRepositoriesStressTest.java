@@ -0,0 +1,153 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentInMemoryRepositoriesStressTest {
+    private static final int WRITER_THREADS_COUNT = 8;
+    private static final int EVENTS_PER_THREAD = 500;
+    private static final int CELEBRATIONS_PER_EVENT = 2;
+    private static final int DELETE_EVERY_NTH_EVENT = 3;
+    private static final int GUESTS_PER_THREAD = 250;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+
+    private EventRepository eventRepository;
+    private CelebrationRepository celebrationRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = EventConcurrentInMemoryRepository.getInstance();
+        celebrationRepository = CelebrationConcurrentInMemoryRepository.getInstance();
+        eventRepository.deleteAll();
+        celebrationRepository.deleteAll();
+    }
+
+    @Test
+    void testConcurrentWrites_WhenManyThreadsAddAndDelete_ThenInvariantsHold() throws Exception {
+        Queue<Long> assignedEventIds = new ConcurrentLinkedQueue<>();
+        Queue<Long> assignedCelebrationIds = new ConcurrentLinkedQueue<>();
+        AtomicBoolean writersFinished = new AtomicBoolean();
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_THREADS_COUNT + 1);
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int thread = 0; thread < WRITER_THREADS_COUNT; thread++) {
+            int threadNumber = thread;
+            writers.add(executor.submit(() -> {
+                startGate.await();
+                runWriter(threadNumber, assignedEventIds, assignedCelebrationIds);
+                return null;
+            }));
+        }
+        Future<?> reader = executor.submit(() -> {
+            startGate.await();
+            while (!writersFinished.get()) {
+                eventRepository.findByDate(FIRST_DATE).forEach(event -> assertEquals(FIRST_DATE, event.getDate(),
+                        "Events returned by findByDate while writers run should have the requested date"));
+                celebrationRepository.findUpcoming(FIRST_DATE, 10);
+            }
+            return null;
+        });
+
+        startGate.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(1, TimeUnit.MINUTES);
+        }
+        writersFinished.set(true);
+        reader.get(1, TimeUnit.MINUTES);
+        executor.shutdown();
+
+        assertEquals(assignedEventIds.size(), new HashSet<>(assignedEventIds).size(),
+                "Every event saved concurrently should receive a unique id");
+        assertEquals(assignedCelebrationIds.size(), new HashSet<>(assignedCelebrationIds).size(),
+                "Every celebration saved concurrently should receive a unique id");
+
+        int totalEvents = WRITER_THREADS_COUNT * EVENTS_PER_THREAD;
+        int remainingEvents = totalEvents - WRITER_THREADS_COUNT * (EVENTS_PER_THREAD / DELETE_EVERY_NTH_EVENT);
+        List<Event> allEvents = eventRepository.findAll();
+        List<Celebration> allCelebrations = celebrationRepository.findAll();
+        assertEquals(remainingEvents, allEvents.size(), "No event save or delete should be lost under contention");
+        assertEquals(remainingEvents * CELEBRATIONS_PER_EVENT, allCelebrations.size(),
+                "No celebration save or delete should be lost under contention");
+
+        allCelebrations.forEach(celebration -> assertTrue(
+                eventRepository.findById(celebration.getEventId()).getCelebrationIds().contains(celebration.getId()),
+                "Every celebration's event should exist and reference the celebration"
+        ));
+        long eventsFoundByDate = allEvents.stream()
+                .map(Event::getDate)
+                .distinct()
+                .mapToLong(date -> eventRepository.findByDate(date).size())
+                .sum();
+        assertEquals(allEvents.size(), eventsFoundByDate,
+                "Date index should contain exactly the stored events after concurrent writes");
+    }
+
+    @Test
+    void testAddCelebration_WhenManyThreadsShareOneEvent_ThenNoCelebrationLinkLost() throws Exception {
+        Storage storage = new RepositoryStorage(eventRepository, celebrationRepository);
+        Long weddingId = eventRepository.save(new Event("Wedding", "Ceremony and reception", FIRST_DATE));
+        Queue<Long> addedCelebrationIds = new ConcurrentLinkedQueue<>();
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_THREADS_COUNT);
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int thread = 0; thread < WRITER_THREADS_COUNT; thread++) {
+            int threadNumber = thread;
+            writers.add(executor.submit(() -> {
+                startGate.await();
+                for (int i = 0; i < GUESTS_PER_THREAD; i++) {
+                    addedCelebrationIds.add(storage.addCelebration(new Celebration(weddingId,
+                            "Toast %d-%d".formatted(threadNumber, i), "Guest toast to the couple", FIRST_DATE,
+                            "Banquet Hall")));
+                }
+                return null;
+            }));
+        }
+
+        startGate.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertEquals(WRITER_THREADS_COUNT * GUESTS_PER_THREAD, addedCelebrationIds.size(),
+                "Every concurrent addCelebration call should return the id of the saved celebration");
+        assertEquals(new HashSet<>(addedCelebrationIds), eventRepository.findCelebrationsIdsByEventId(weddingId),
+                "The shared event should reference every celebration added concurrently");
+        assertEquals(addedCelebrationIds.size(), celebrationRepository.findAll().size(),
+                "Every celebration added concurrently should be stored");
+    }
+
+    private void runWriter(int threadNumber, Queue<Long> assignedEventIds, Queue<Long> assignedCelebrationIds) {
+        for (int i = 0; i < EVENTS_PER_THREAD; i++) {
+            Event anniversary = new Event("Anniversary %d-%d".formatted(threadNumber, i),
+                    "Yearly family anniversary", FIRST_DATE.plusDays(i % 30));
+            Long eventId = eventRepository.save(anniversary);
+            assignedEventIds.add(eventId);
+
+            for (int j = 0; j < CELEBRATIONS_PER_EVENT; j++) {
+                Long celebrationId = celebrationRepository.save(new Celebration(eventId, "Family Dinner " + j,
+                        "Dinner with relatives", anniversary.getDate(), "Home"));
+                assignedCelebrationIds.add(celebrationId);
+                Event storedEvent = eventRepository.findById(eventId);
+                storedEvent.addCelebrationId(celebrationId);
+                eventRepository.save(storedEvent);
+            }
+
+            if (i % DELETE_EVERY_NTH_EVENT == DELETE_EVERY_NTH_EVENT - 1) {
+                celebrationRepository.deleteAllByIds(eventRepository.findCelebrationsIdsByEventId(eventId));
+                eventRepository.deleteById(eventId);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package dementiev_a.data.repository;
+
+public class DatabaseSearchRepositoryTest extends SearchRepositoryBaseTest {
+    @Override
+    protected SearchRepository createSearchRepository() {
+        return DatabaseSearchRepository.getInstance();
+    }
+
+    @Override
+    protected EventRepository createEventRepository() {
+        return EventDatabaseRepository.getInstance();
+    }
+
+    @Override
+    protected CelebrationRepository createCelebrationRepository() {
+        return CelebrationDatabaseRepository.getInstance();
+    }
+}
@@ -0,0 +1,80 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Event;
+import dementiev_a.exception.NoEntityException;
+import dementiev_a.utils.LongHashSet;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventColumnarRepositoryTests extends EventRepositoryTestBase {
+    @Override
+    protected EventRepository createRepository() {
+        return EventColumnarRepository.getInstance();
+    }
+
+    @Test
+    void testSave_WhenExplicitIdsOutOfOrder_ThenFindAllOrderedById() {
+        repository.save(new Event(30L, "Harvest Fair", "Autumn market", LocalDate.of(2024, 9, 28), new LongHashSet()));
+        repository.save(new Event(10L, "Ice Festival", "Ice sculptures", LocalDate.of(2024, 1, 20), new LongHashSet()));
+        repository.save(new Event(20L, "Tulip Day", "Flower parade", LocalDate.of(2024, 4, 20), new LongHashSet()));
+
+        assertEquals(List.of(10L, 20L, 30L), repository.findAll().stream().map(Event::getId).toList(),
+                "Events saved with explicit ids should be returned in id order");
+        assertEquals("Tulip Day", repository.findById(20L).getName(),
+                "An event inserted between existing rows should be found by its id");
+    }
+
+    @Test
+    void testDeleteById_WhenMostEventsDeleted_ThenRemainingEventsStillFound() {
+        List<Event> events = new ArrayList<>();
+        LongStream.rangeClosed(1, 3000).forEach(day -> events.add(new Event("Diary Entry " + day,
+                "Daily diary", LocalDate.of(2020, 1, 1).plusDays(day))));
+        List<Long> ids = repository.saveAll(events);
+
+        ids.subList(0, 2500).forEach(repository::deleteById);
+
+        assertEquals(500, repository.findAll().size(), "Only the events that were not deleted should remain");
+        assertEquals("Diary Entry 3000", repository.findById(ids.get(2999)).getName(),
+                "A remaining event should keep its name after deleted rows are compacted away");
+        assertThrows(NoEntityException.class, () -> repository.findById(ids.get(0)),
+                "A deleted event should not be found after compaction");
+        assertEquals(1, repository.findByMonthDay(MonthDay.of(3, 29)).size(),
+                "Month and day scans should skip deleted rows");
+    }
+
+    @Test
+    void testSave_WhenEventRenamedManyTimes_ThenLatestTextReturned() {
+        Event journal = new Event("Journal", "Version 0", LocalDate.of(2024, 12, 31));
+        Long journalId = repository.save(journal);
+        Long calendarId = repository.save(new Event("Calendar", "Wall calendar", LocalDate.of(2024, 12, 30)));
+
+        for (int version = 1; version <= 20_000; version++) {
+            journal.setDescription("Version " + version + " of the yearly journal");
+            repository.save(journal);
+        }
+
+        assertEquals("Version 20000 of the yearly journal", repository.findById(journalId).getDescription(),
+                "The latest description should be returned after old strings are reclaimed");
+        assertEquals("Wall calendar", repository.findById(calendarId).getDescription(),
+                "Strings of other events should survive reclaiming the arena");
+    }
+
+    @Test
+    void testFindByDateRange_WhenDatesBeforeEpoch_ThenIncluded() {
+        repository.save(new Event("Moon Landing", "Apollo 11", LocalDate.of(1969, 7, 20)));
+        repository.save(new Event("First Flight", "Wright brothers", LocalDate.of(1903, 12, 17)));
+        repository.save(new Event("Web Launch", "First website", LocalDate.of(1991, 8, 6)));
+
+        List<Event> foundEvents = repository.findByDateRange(LocalDate.MIN, LocalDate.of(1970, 1, 1));
+
+        assertEquals(List.of("First Flight", "Moon Landing"), foundEvents.stream().map(Event::getName).toList(),
+                "Range scans should handle dates before the epoch and unbounded lower limits");
+    }
+}
@@ -0,0 +1,8 @@
+package dementiev_a.data.repository;
+
+public class EventConcurrentInMemoryRepositoryTests extends EventRepositoryTestBase {
+    @Override
+    protected EventRepository createRepository() {
+        return EventConcurrentInMemoryRepository.getInstance();
+    }
+}
@@ -1,8 +1,218 @@
 package dementiev_a.data.repository;
 
+import dementiev_a.data.manager.DatabaseManager;
+import dementiev_a.data.manager.PostgresManager;
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import dementiev_a.utils.LongHashSet;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class EventDatabaseRepositoryTests extends EventRepositoryTestBase {
+    private static final Set<String> EXECUTING_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "addBatch");
+
+    private final AtomicInteger executedStatements = new AtomicInteger();
+
     @Override
     protected EventRepository createRepository() {
         return EventDatabaseRepository.getInstance();
     }
+
+    @Test
+    void testSave_WhenOneCelebrationAddedToLargeEvent_ThenOneStatementExecuted() {
+        EventRepository countingRepository = new EventDatabaseRepository(new StatementCountingManager());
+        Set<Long> celebrationIds = LongStream.rangeClosed(1, 500)
+                .boxed()
+                .collect(Collectors.toCollection(LongHashSet::new));
+        Long eventId = countingRepository.save(new Event(null, "City Festival",
+                "Week of concerts and fairs", LocalDate.of(2024, 8, 1), celebrationIds));
+        Event festival = countingRepository.findById(eventId);
+
+        festival.addCelebrationId(501L);
+        executedStatements.set(0);
+        countingRepository.save(festival);
+
+        assertEquals(1, executedStatements.get(),
+                "Adding one celebration should insert one link instead of rewriting all of them");
+        assertEquals(501, repository.findCelebrationsIdsByEventId(eventId).size(),
+                "The added celebration link should be stored alongside the existing ones");
+    }
+
+    @Test
+    void testSave_WhenOneFieldEdited_ThenSingleUpdateExecuted() {
+        EventRepository countingRepository = new EventDatabaseRepository(new StatementCountingManager());
+        Long eventId = countingRepository.save(new Event("Team Offsite", "Planning days", LocalDate.of(2024, 4, 15)));
+        Event offsite = countingRepository.findById(eventId);
+        offsite.addCelebrationId(7L);
+        countingRepository.save(offsite);
+
+        offsite.setDescription("Planning days by the lake");
+        executedStatements.set(0);
+        countingRepository.save(offsite);
+
+        assertEquals(1, executedStatements.get(), "Editing one field should execute a single UPDATE");
+        Event loadedOffsite = repository.findById(eventId);
+        assertEquals("Planning days by the lake", loadedOffsite.getDescription(),
+                "The edited description should be stored");
+        assertEquals(Set.of(7L), loadedOffsite.getCelebrationIds(),
+                "Celebration links should stay untouched by a field update");
+    }
+
+    @Test
+    void testSave_WhenLoadedEventUnchanged_ThenNoStatementsExecuted() {
+        EventRepository countingRepository = new EventDatabaseRepository(new StatementCountingManager());
+        Long eventId = countingRepository.save(new Event("Chess Tournament", "Regional finals",
+                LocalDate.of(2024, 3, 9)));
+        Event tournament = countingRepository.findById(eventId);
+
+        executedStatements.set(0);
+        countingRepository.save(tournament);
+
+        assertEquals(0, executedStatements.get(), "Saving an unchanged loaded event should not touch the database");
+    }
+
+    @Test
+    void testSave_WhenCelebrationRemovedAndEventRenamed_ThenOnlyChangesWritten() {
+        EventRepository countingRepository = new EventDatabaseRepository(new StatementCountingManager());
+        Long eventId = countingRepository.save(new Event(null, "Science Fair", "School science fair",
+                LocalDate.of(2024, 5, 17), new LongHashSet(Set.of(11L, 12L, 13L))));
+        Event scienceFair = countingRepository.findById(eventId);
+
+        scienceFair.setName("Spring Science Fair");
+        scienceFair.removeCelebrationId(12L);
+        executedStatements.set(0);
+        countingRepository.save(scienceFair);
+
+        assertEquals(2, executedStatements.get(), "Only the field update and the link removal should be executed");
+        Event loadedScienceFair = repository.findById(eventId);
+        assertEquals("Spring Science Fair", loadedScienceFair.getName(), "The new name should be stored");
+        assertEquals(Set.of(11L, 13L), loadedScienceFair.getCelebrationIds(),
+                "Only the removed celebration link should be deleted");
+    }
+
+    @Test
+    void testFindAll_WhenCelebrationIdsOfEveryEventRead_ThenLinksLoadedInOneQuery() {
+        EventRepository countingRepository = new EventDatabaseRepository(new StatementCountingManager());
+        List<Event> events = LongStream.rangeClosed(1, 30)
+                .mapToObj(day -> new Event(null, "Advent Day " + day, "Advent calendar door",
+                        LocalDate.of(2024, 11, 30).plusDays(day), new LongHashSet(Set.of(day, day + 100))))
+                .toList();
+        countingRepository.saveAll(events);
+
+        executedStatements.set(0);
+        List<Event> loadedEvents = countingRepository.findAll();
+        int linkCount = loadedEvents.stream().mapToInt(event -> event.getCelebrationIds().size()).sum();
+
+        assertEquals(60, linkCount, "Every event should expose both of its celebration links");
+        assertEquals(2, executedStatements.get(),
+                "Events and the celebration links of the whole result should be loaded with two queries");
+    }
+
+    @Test
+    void testFindById_WhenCelebrationIdsNotRead_ThenLinksNotQueried() {
+        EventRepository countingRepository = new EventDatabaseRepository(new StatementCountingManager());
+        Long eventId = countingRepository.save(new Event(null, "Open Day", "University open day",
+                LocalDate.of(2024, 2, 24), new LongHashSet(Set.of(21L, 22L))));
+
+        executedStatements.set(0);
+        Event openDay = countingRepository.findById(eventId);
+
+        assertEquals("Open Day", openDay.getName(), "The loaded event should carry its name");
+        assertEquals(1, executedStatements.get(), "Loading an event should not query its celebration links");
+        assertEquals(Set.of(21L, 22L), openDay.getCelebrationIds(),
+                "Celebration links should be loaded on first access");
+    }
+
+    @Test
+    void testAddCelebration_WhenEventHasManyCelebrations_ThenOneStatementExecuted() {
+        EventDatabaseRepository countingRepository = new EventDatabaseRepository(new StatementCountingManager());
+        CelebrationDatabaseRepository celebrationRepository = CelebrationDatabaseRepository.getInstance();
+        Storage storage = new DatabaseStorage(countingRepository, celebrationRepository);
+        Set<Long> celebrationIds = LongStream.rangeClosed(1, 500)
+                .boxed()
+                .collect(Collectors.toCollection(LongHashSet::new));
+        Long eventId = countingRepository.save(new Event(null, "Film Festival",
+                "Two weeks of screenings", LocalDate.of(2024, 10, 10), celebrationIds));
+
+        executedStatements.set(0);
+        Long celebrationId = storage.addCelebration(new Celebration(eventId, "Closing Gala",
+                "Award ceremony", LocalDate.of(2024, 10, 24), "Grand Theatre"));
+
+        assertEquals(1, executedStatements.get(),
+                "Adding a celebration should insert it and its link with a single statement");
+        assertEquals("Grand Theatre", celebrationRepository.findById(celebrationId).getPlace(),
+                "The added celebration should be stored");
+        assertEquals(501, repository.findCelebrationsIdsByEventId(eventId).size(),
+                "The new link should be stored alongside the existing ones");
+    }
+
+    @Test
+    void testFindCelebrationsIdsByEventIds_WhenManyEvents_ThenOneStatementExecuted() {
+        EventRepository countingRepository = new EventDatabaseRepository(new StatementCountingManager());
+        List<Long> eventIds = LongStream.rangeClosed(1, 50)
+                .mapToObj(day -> repository.save(new Event(null, "Workshop " + day, "Pottery workshop",
+                        LocalDate.of(2025, 1, 1).plusDays(day), new LongHashSet(Set.of(1000 + day)))))
+                .toList();
+
+        executedStatements.set(0);
+        Map<Long, Set<Long>> celebrationIds = countingRepository.findCelebrationsIdsByEventIds(eventIds);
+
+        assertEquals(1, executedStatements.get(),
+                "Celebration ids of many events should be loaded with a single statement");
+        assertEquals(eventIds.size(), celebrationIds.size(), "Every requested event should be present in the result");
+    }
+
+    private class StatementCountingManager implements DatabaseManager {
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = PostgresManager.getInstance().getConnection();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement statement) {
+                            return countingStatement(statement);
+                        }
+                        return result;
+                    }
+            );
+        }
+
+        private PreparedStatement countingStatement(PreparedStatement statement) {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        if (EXECUTING_METHODS.contains(method.getName())) {
+                            executedStatements.incrementAndGet();
+                        }
+                        return invoke(statement, method, args);
+                    }
+            );
+        }
+
+        private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
 }
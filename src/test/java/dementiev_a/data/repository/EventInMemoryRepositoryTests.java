@@ -1,8 +1,76 @@
 package dementiev_a.data.repository;
 
+import dementiev_a.data.model.Event;
+import dementiev_a.data.sequence.EventSequence;
+import dementiev_a.utils.LongHashSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class EventInMemoryRepositoryTests extends EventRepositoryTestBase {
+    @TempDir
+    Path directory;
+
     @Override
     protected EventRepository createRepository() {
         return EventInMemoryRepository.getInstance();
     }
+
+    @Test
+    void testLoadSnapshot_WhenSnapshotWritten_ThenEventsAndSequenceRestored() throws IOException {
+        EventInMemoryRepository inMemoryRepository = (EventInMemoryRepository) repository;
+        Long carnivalId = repository.save(new Event(null, "Carnival", "Street carnival with costumes",
+                LocalDate.of(2024, 2, 13), new LongHashSet(Set.of(904L, 17L, 350L))));
+        Long quietDayId = repository.save(new Event("Quiet Day", null, LocalDate.of(1969, 7, 20)));
+        Path snapshot = directory.resolve("events.snapshot");
+        inMemoryRepository.writeSnapshot(snapshot);
+        long sequenceValue = EventSequence.getInstance().getValue();
+
+        repository.deleteAll();
+        EventSequence.getInstance().setValue(1);
+        inMemoryRepository.loadSnapshot(snapshot);
+
+        Event carnival = repository.findById(carnivalId);
+        assertEquals("Street carnival with costumes", carnival.getDescription(),
+                "Event description should be restored from the snapshot");
+        assertEquals(Set.of(17L, 350L, 904L), carnival.getCelebrationIds(),
+                "Celebration links should be restored from the snapshot");
+        assertNull(repository.findById(quietDayId).getDescription(), "A missing description should stay missing");
+        assertEquals(List.of(quietDayId), repository.findByDate(LocalDate.of(1969, 7, 20)).stream()
+                .map(Event::getId).toList(), "Date index should be rebuilt from the snapshot");
+        assertEquals(sequenceValue, EventSequence.getInstance().getValue(),
+                "The id sequence should continue where it was when the snapshot was written");
+    }
+
+    @Test
+    void testLoadSnapshot_WhenSnapshotTruncated_ThenThrowAndKeepCurrentEvents() throws IOException {
+        EventInMemoryRepository inMemoryRepository = (EventInMemoryRepository) repository;
+        repository.save(new Event("Harvest Moon", "Full moon nearest the equinox", LocalDate.of(2024, 9, 17)));
+        Path snapshot = directory.resolve("events.snapshot");
+        inMemoryRepository.writeSnapshot(snapshot);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(bytes, bytes.length - 3));
+        repository.deleteAll();
+        Long solsticeId = repository.save(new Event("Winter Solstice", "Shortest day of the year",
+                LocalDate.of(2024, 12, 21)));
+        long sequenceValue = EventSequence.getInstance().getValue();
+
+        assertThrows(IOException.class, () -> inMemoryRepository.loadSnapshot(snapshot),
+                "A truncated snapshot should be rejected");
+        assertEquals(List.of(solsticeId), repository.findAll().stream().map(Event::getId).toList(),
+                "A rejected snapshot should leave the events that were loaded before it");
+        assertEquals(List.of(solsticeId), repository.findByDate(LocalDate.of(2024, 12, 21)).stream()
+                .map(Event::getId).toList(), "A rejected snapshot should leave the date index untouched");
+        assertEquals(sequenceValue, EventSequence.getInstance().getValue(),
+                "A rejected snapshot should not move the id sequence");
+    }
 }
@@ -0,0 +1,102 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.log.EventRecordCodec;
+import dementiev_a.data.log.FsyncPolicy;
+import dementiev_a.data.log.RecordLog;
+import dementiev_a.data.model.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventLogRepositoryTests extends EventRepositoryTestBase {
+    private static final int COMPACTION_THRESHOLD = 5;
+
+    @TempDir
+    Path directory;
+
+    @Override
+    protected EventRepository createRepository() {
+        return openRepository();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((EventLogRepository) repository).close();
+    }
+
+    @Test
+    void testReopen_WhenEventsSavedEditedAndDeleted_ThenStateRestoredFromLog() {
+        Long concertId = repository.save(new Event("Concert", "Rock concert", LocalDate.of(2024, 7, 12)));
+        Long lectureId = repository.save(new Event("Lecture", "Astronomy lecture", LocalDate.of(2024, 2, 8)));
+        Event concert = repository.findById(concertId);
+        concert.setDescription("Open-air rock concert");
+        concert.addCelebrationId(31L);
+        repository.save(concert);
+        repository.deleteById(lectureId);
+
+        reopen();
+
+        Event restoredConcert = repository.findById(concertId);
+        assertEquals("Open-air rock concert", restoredConcert.getDescription(),
+                "The last saved description should be restored from the log");
+        assertEquals(Set.of(31L), restoredConcert.getCelebrationIds(),
+                "Celebration links should be restored from the log");
+        assertEquals(List.of(concertId), repository.findAll().stream().map(Event::getId).toList(),
+                "A deleted event should stay deleted after reopening");
+        assertTrue(repository.save(new Event("Encore", "Extra show", LocalDate.of(2024, 7, 13))) > concertId,
+                "Ids handed out after reopening should not collide with stored ones");
+    }
+
+    @Test
+    void testReopen_WhenLogCompacted_ThenStateRestoredFromSnapshotAndTail() {
+        for (int day = 1; day <= COMPACTION_THRESHOLD + 2; day++) {
+            repository.save(new Event("Morning Run " + day, "Daily run in the park", LocalDate.of(2024, 5, day)));
+        }
+
+        assertTrue(Files.exists(directory.resolve("events.snapshot")),
+                "Reaching the compaction threshold should write a snapshot");
+
+        reopen();
+
+        assertEquals(COMPACTION_THRESHOLD + 2, repository.findAll().size(),
+                "Events from the snapshot and from the log tail should be restored");
+        assertEquals(1, repository.findByDate(LocalDate.of(2024, 5, 7)).size(),
+                "Date index should be rebuilt for events from the log tail");
+    }
+
+    @Test
+    void testReopen_WhenLastRecordTorn_ThenEarlierRecordsKeptAndTailTruncated() throws IOException {
+        Long picnicId = repository.save(new Event("Picnic", "Family picnic", LocalDate.of(2024, 6, 2)));
+        ((EventLogRepository) repository).close();
+        Path log = directory.resolve("events.log");
+        long intactSize = Files.size(log);
+        Files.write(log, new byte[]{0, 0, 0, 42, 1, 7}, StandardOpenOption.APPEND);
+
+        repository = openRepository();
+
+        assertEquals("Picnic", repository.findById(picnicId).getName(),
+                "Records before the torn tail should be restored");
+        assertEquals(intactSize, Files.size(log), "The torn tail should be cut off the log");
+    }
+
+    private void reopen() {
+        ((EventLogRepository) repository).close();
+        repository = openRepository();
+    }
+
+    private EventLogRepository openRepository() {
+        return new EventLogRepository(new RecordLog<>(directory, "events", EventRecordCodec.getInstance(),
+                FsyncPolicy.GROUP_COMMIT, Duration.ofMillis(50), COMPACTION_THRESHOLD));
+    }
+}
@@ -2,13 +2,18 @@ package dementiev_a.data.repository;
 
 import dementiev_a.BaseTest;
 import dementiev_a.data.model.Event;
+import dementiev_a.data.model.EventSummary;
 import dementiev_a.exception.NoEntityException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -123,6 +128,157 @@ public abstract class EventRepositoryTestBase extends BaseTest {
                 "findByDate should return empty collection when no events match the date");
     }
 
+    @Test
+    void testFindByDate_WhenEventDateEdited_ThenFoundOnlyByNewDate() {
+        LocalDate plannedDate = LocalDate.of(2024, 6, 14);
+        LocalDate postponedDate = LocalDate.of(2024, 6, 21);
+        Long eventId = repository.save(new Event("Graduation", "University graduation ceremony", plannedDate));
+
+        Event graduation = repository.findById(eventId);
+        graduation.setDate(postponedDate);
+        repository.save(graduation);
+
+        assertTrue(repository.findByDate(plannedDate).isEmpty(),
+                "After the date was edited, the event should no longer be found by its old date");
+        List<Event> foundEvents = repository.findByDate(postponedDate);
+        assertEquals(1, foundEvents.size(), "After the date was edited, the event should be found by its new date");
+        assertEquals(eventId, foundEvents.get(0).getId(), "The event found by the new date should be the edited one");
+    }
+
+    @Test
+    void testFindByDate_WhenEventDeleted_ThenNotReturned() {
+        LocalDate weddingDate = LocalDate.of(2015, 8, 22);
+        Long weddingId = repository.save(new Event("Wedding", "Our wedding day", weddingDate));
+        Long engagementPartyId = repository.save(new Event("Engagement Party", "Party with friends", weddingDate));
+
+        repository.deleteById(weddingId);
+
+        List<Event> foundEvents = repository.findByDate(weddingDate);
+        assertEquals(1, foundEvents.size(), "Deleted event should not be returned by findByDate");
+        assertEquals(engagementPartyId, foundEvents.get(0).getId(),
+                "Remaining event on the same date should still be returned by findByDate");
+    }
+
+    @Test
+    void testFindByDate_WhenEventsEditedAndDeleted_ThenMatchesFindAll() {
+        Long moveId = repository.save(new Event("Moving Day", "Moved into the new flat", LocalDate.of(2019, 4, 1)));
+        Long puppyId = repository.save(new Event("Puppy Adopted", "Adopted our dog Max", LocalDate.of(2019, 4, 1)));
+        repository.save(new Event("First Job", "First day at the first job", LocalDate.of(2012, 9, 3)));
+
+        Event puppyAdopted = repository.findById(puppyId);
+        puppyAdopted.setDate(LocalDate.of(2019, 5, 12));
+        repository.save(puppyAdopted);
+        repository.deleteById(moveId);
+
+        List<Event> allEvents = repository.findAll();
+        allEvents.forEach(event -> assertTrue(
+                repository.findByDate(event.getDate()).stream().anyMatch(found -> found.getId().equals(event.getId())),
+                "Every stored event should be found by its current date"
+        ));
+        long indexedEventsCount = allEvents.stream()
+                .map(Event::getDate)
+                .distinct()
+                .mapToLong(date -> repository.findByDate(date).size())
+                .sum();
+        assertEquals(allEvents.size(), indexedEventsCount,
+                "Events found by date should add up exactly to the events returned by findAll");
+    }
+
+    @Test
+    void testFindByMonthDay_WhenEventsInDifferentYears_ThenReturnAllAnniversaries() {
+        Long weddingId = repository.save(new Event("Wedding", "Our wedding day", LocalDate.of(2010, 7, 17)));
+        Long houseId = repository.save(new Event("House Bought", "Bought a house", LocalDate.of(2018, 7, 17)));
+        repository.save(new Event("Honeymoon Trip", "Flew to Italy", LocalDate.of(2010, 7, 18)));
+
+        List<Event> foundEvents = repository.findByMonthDay(MonthDay.of(7, 17));
+
+        assertEquals(2, foundEvents.size(),
+                "findByMonthDay should return events on the same day and month regardless of the year");
+        assertTrue(foundEvents.stream().anyMatch(e -> e.getId().equals(weddingId)),
+                "Result should contain the wedding anniversary");
+        assertTrue(foundEvents.stream().anyMatch(e -> e.getId().equals(houseId)),
+                "Result should contain the house purchase anniversary");
+    }
+
+    @Test
+    void testFindByMonthDay_WhenLeapDayRequested_ThenReturnOnlyLeapDayEvents() {
+        repository.save(new Event("Leap Day Birthday", "Born on a leap day", LocalDate.of(1996, 2, 29)));
+        repository.save(new Event("Ski Trip", "Trip to the mountains", LocalDate.of(1997, 2, 28)));
+
+        List<Event> foundEvents = repository.findByMonthDay(MonthDay.of(2, 29));
+
+        assertEquals(1, foundEvents.size(), "findByMonthDay for 29 February should return only leap day events");
+        assertEquals("Leap Day Birthday", foundEvents.get(0).getName(),
+                "The leap day birthday should be returned for 29 February");
+    }
+
+    @Test
+    void testFindByMonthDay_WhenEventDateEdited_ThenFoundOnlyByNewMonthDay() {
+        Long eventId = repository.save(new Event("Housewarming", "Party in the new flat", LocalDate.of(2021, 3, 6)));
+
+        Event housewarming = repository.findById(eventId);
+        housewarming.setDate(LocalDate.of(2021, 3, 13));
+        repository.save(housewarming);
+
+        assertTrue(repository.findByMonthDay(MonthDay.of(3, 6)).isEmpty(),
+                "After the date was edited, the event should no longer be found by its old day and month");
+        assertEquals(1, repository.findByMonthDay(MonthDay.of(3, 13)).size(),
+                "After the date was edited, the event should be found by its new day and month");
+    }
+
+    @Test
+    void testFindByDateRange_WhenEventsInsideAndOutside_ThenReturnInsideOrderedByDate() {
+        repository.save(new Event("Summer Vacation", "Two weeks at the sea", LocalDate.of(2024, 7, 1)));
+        repository.save(new Event("Spring Marathon", "First half marathon", LocalDate.of(2024, 4, 14)));
+        repository.save(new Event("Spring Break", "Week off from work", LocalDate.of(2024, 3, 1)));
+        repository.save(new Event("New Year Party", "Party at friends' place", LocalDate.of(2023, 12, 31)));
+
+        List<Event> foundEvents = repository.findByDateRange(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 7, 1));
+
+        assertEquals(List.of("Spring Break", "Spring Marathon", "Summer Vacation"),
+                foundEvents.stream().map(Event::getName).toList(),
+                "findByDateRange should return events within the inclusive range ordered by date");
+    }
+
+    @Test
+    void testFindByDateRange_WhenFromAfterTo_ThenReturnEmptyCollection() {
+        repository.save(new Event("Concert", "Favourite band concert", LocalDate.of(2024, 5, 20)));
+
+        List<Event> foundEvents = repository.findByDateRange(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 5, 1));
+
+        assertTrue(foundEvents.isEmpty(), "findByDateRange should return empty collection for an inverted range");
+    }
+
+    @Test
+    void testFindUpcoming_WhenMoreEventsThanLimit_ThenReturnNearestEvents() {
+        repository.save(new Event("Mother's Birthday", "Mom turns sixty", LocalDate.of(2025, 3, 12)));
+        repository.save(new Event("Parents' Anniversary", "Parents' wedding anniversary", LocalDate.of(2025, 2, 20)));
+        repository.save(new Event("Dentist Appointment", "Annual check-up", LocalDate.of(2025, 2, 3)));
+        repository.save(new Event("Christmas", "Christmas at home", LocalDate.of(2024, 12, 25)));
+
+        List<Event> upcomingEvents = repository.findUpcoming(LocalDate.of(2025, 2, 1), 2);
+
+        assertEquals(List.of("Dentist Appointment", "Parents' Anniversary"),
+                upcomingEvents.stream().map(Event::getName).toList(),
+                "findUpcoming should return the nearest events from the given date up to the limit");
+    }
+
+    @Test
+    void testFindUpcoming_WhenEventHasCelebrations_ThenLimitCountsEventsNotLinks() {
+        Event birthday = new Event("Birthday", "Thirtieth birthday", LocalDate.of(2025, 4, 2));
+        birthday.addCelebrationId(301L);
+        birthday.addCelebrationId(302L);
+        repository.save(birthday);
+        repository.save(new Event("Book Release", "First book published", LocalDate.of(2025, 4, 9)));
+
+        List<Event> upcomingEvents = repository.findUpcoming(LocalDate.of(2025, 4, 1), 2);
+
+        assertEquals(2, upcomingEvents.size(),
+                "findUpcoming limit should count events, not their celebration links");
+        assertEquals(Set.of(301L, 302L), upcomingEvents.get(0).getCelebrationIds(),
+                "Upcoming event should be returned with all its celebration ids");
+    }
+
     @Test
     void testFindCelebrationsIdsByEventId_WhenHasCelebrations_ThenReturnIds() {
         Event anniversary = new Event("Anniversary", "Company anniversary", LocalDate.of(2010, 6, 15));
@@ -157,6 +313,31 @@ public abstract class EventRepositoryTestBase extends BaseTest {
                 "Requesting celebration ids for a non-existing event should throw NoEntityException");
     }
 
+    @Test
+    void testFindCelebrationsIdsByEventIds_WhenSeveralEvents_ThenIdsGroupedByEvent() {
+        Event concert = new Event("Concert", "Open air concert", LocalDate.of(2025, 7, 12));
+        concert.addCelebrationId(301L);
+        concert.addCelebrationId(302L);
+        Long concertId = repository.save(concert);
+        Long lectureId = repository.save(new Event("Lecture", "Guest lecture", LocalDate.of(2025, 9, 3)));
+
+        Map<Long, Set<Long>> celebrationIds = repository.findCelebrationsIdsByEventIds(List.of(concertId, lectureId));
+
+        assertEquals(Set.of(301L, 302L), celebrationIds.get(concertId),
+                "Every celebration id of the concert should be returned under its id");
+        assertEquals(Set.of(), celebrationIds.get(lectureId),
+                "An event without celebrations should map to an empty set");
+    }
+
+    @Test
+    void testFindCelebrationsIdsByEventIds_WhenOneEventNotFound_ThenThrowNoEntityException() {
+        Long eventId = repository.save(new Event("Meetup", "Local meetup", LocalDate.of(2025, 2, 2)));
+
+        assertThrows(NoEntityException.class,
+                () -> repository.findCelebrationsIdsByEventIds(List.of(eventId, 777L)),
+                "Requesting celebration ids for a non-existing event should throw NoEntityException");
+    }
+
     @Test
     void testSave_WhenUpdatingExistingEvent_ThenReplaceStoredInstance() {
         Event originalEvent = new Event("Original Event", "Original description", LocalDate.of(2025, 1, 1));
@@ -191,4 +372,133 @@ public abstract class EventRepositoryTestBase extends BaseTest {
         List<Event> allEvents = repository.findAll();
         assertEquals(0, allEvents.size(), "After deleteAll, repository should be empty");
     }
+
+    @Test
+    void testSaveAll_WhenNewEvents_ThenAllAssignedIdsAndStored() {
+        Event cosmonauticsDay = new Event("Cosmonautics Day", "First human in space", LocalDate.of(1961, 4, 12));
+        Event knowledgeDay = new Event("Knowledge Day", "Start of the school year", LocalDate.of(2025, 9, 1));
+
+        List<Long> assignedIds = repository.saveAll(List.of(cosmonauticsDay, knowledgeDay));
+
+        assertEquals(List.of(cosmonauticsDay.getId(), knowledgeDay.getId()), assignedIds,
+                "saveAll should return the assigned ids in the order of the given events");
+        assertEquals("Cosmonautics Day", repository.findById(assignedIds.get(0)).getName(),
+                "saveAll should store the first event");
+        assertEquals("Knowledge Day", repository.findById(assignedIds.get(1)).getName(),
+                "saveAll should store the second event");
+    }
+
+    @Test
+    void testSaveAll_WhenEventsHaveCelebrations_ThenLinksStored() {
+        Event wedding = new Event("Wedding", "Wedding of the friends", LocalDate.of(2023, 7, 8));
+        wedding.addCelebrationId(501L);
+        Event housewarming = new Event("Housewarming", "Moving to a new flat", LocalDate.of(2024, 3, 2));
+        housewarming.addCelebrationId(502L);
+        housewarming.addCelebrationId(503L);
+
+        repository.saveAll(List.of(wedding, housewarming));
+
+        assertEquals(Set.of(501L), repository.findCelebrationsIdsByEventId(wedding.getId()),
+                "saveAll should store celebration links of the first event");
+        assertEquals(Set.of(502L, 503L), repository.findCelebrationsIdsByEventId(housewarming.getId()),
+                "saveAll should store celebration links of the second event");
+    }
+
+    @Test
+    void testSaveAll_WhenEmptyCollection_ThenReturnEmptyList() {
+        List<Long> assignedIds = repository.saveAll(List.of());
+
+        assertTrue(assignedIds.isEmpty(), "saveAll with no events should return no ids");
+        assertTrue(repository.findAll().isEmpty(), "saveAll with no events should not store anything");
+    }
+
+    @Test
+    void testForEach_WhenEventsWithCelebrationsSaved_ThenVisitEachEventOnceInIdOrder() {
+        Event cityDay = new Event("City Day", "Founding of the city", LocalDate.of(1147, 9, 7));
+        cityDay.addCelebrationId(601L);
+        cityDay.addCelebrationId(602L);
+        Event teacherDay = new Event("Teacher's Day", "Day of school teachers", LocalDate.of(2025, 10, 5));
+        repository.save(cityDay);
+        repository.save(teacherDay);
+
+        List<Event> visitedEvents = new ArrayList<>();
+        repository.forEach(visitedEvents::add);
+
+        assertEquals(List.of(cityDay.getId(), teacherDay.getId()),
+                visitedEvents.stream().map(Event::getId).toList(),
+                "forEach should visit every event exactly once in ascending id order");
+        assertEquals(Set.of(601L, 602L), visitedEvents.get(0).getCelebrationIds(),
+                "forEach should collect all celebration links of a visited event");
+    }
+
+    @Test
+    void testFindPage_WhenPagingThroughEvents_ThenEachEventReturnedOnceInIdOrder() {
+        Event winterSolstice = new Event("Winter Solstice", "Shortest day", LocalDate.of(2025, 12, 21));
+        Event springEquinox = new Event("Spring Equinox", "Day equals night", LocalDate.of(2025, 3, 20));
+        Event summerSolstice = new Event("Summer Solstice", "Longest day", LocalDate.of(2025, 6, 21));
+        repository.saveAll(List.of(winterSolstice, springEquinox, summerSolstice));
+        winterSolstice.addCelebrationId(701L);
+        repository.save(winterSolstice);
+
+        List<Event> firstPage = repository.findPage(null, 2);
+        List<Event> secondPage = repository.findPage(firstPage.get(1).getId(), 2);
+
+        assertEquals(List.of(winterSolstice.getId(), springEquinox.getId()),
+                firstPage.stream().map(Event::getId).toList(),
+                "First page should contain the events with the smallest ids");
+        assertEquals(Set.of(701L), firstPage.get(0).getCelebrationIds(),
+                "Events of a page should carry their celebration links");
+        assertEquals(List.of(summerSolstice.getId()), secondPage.stream().map(Event::getId).toList(),
+                "Next page should start right after the last id of the previous page");
+    }
+
+    @Test
+    void testFindPage_WhenLimitIsZero_ThenReturnEmptyList() {
+        repository.save(new Event("Flag Day", "Day of the national flag", LocalDate.of(2025, 8, 22)));
+
+        assertTrue(repository.findPage(null, 0).isEmpty(), "findPage with zero limit should return no events");
+    }
+
+    @Test
+    void testFindSummaryPage_WhenPagingThroughEvents_ThenSummariesMatchEventsInIdOrder() {
+        Event tulipFestival = new Event("Tulip Festival", "Flower parade", LocalDate.of(2025, 4, 19));
+        Event kiteDay = new Event("Kite Day", "Kites over the beach", LocalDate.of(2025, 5, 3));
+        repository.saveAll(List.of(tulipFestival, kiteDay));
+
+        List<EventSummary> firstPage = repository.findSummaryPage(null, 1);
+        List<EventSummary> secondPage = repository.findSummaryPage(firstPage.get(0).getId(), 1);
+
+        assertEquals(tulipFestival.getId(), firstPage.get(0).getId(),
+                "First summary page should start with the smallest event id");
+        assertEquals("Flower parade", firstPage.get(0).getDescription(),
+                "A summary should carry the event description");
+        assertEquals("Kite Day", secondPage.get(0).getName(),
+                "Next summary page should start right after the last id of the previous page");
+        assertEquals(LocalDate.of(2025, 5, 3), secondPage.get(0).getDate(), "A summary should carry the event date");
+    }
+
+    @Test
+    void testFindSummariesByDate_WhenEventsOnDifferentDates_ThenReturnOnlyRequestedDate() {
+        LocalDate fairDate = LocalDate.of(2025, 10, 11);
+        repository.save(new Event("Harvest Fair", "Local farmers market", fairDate));
+        repository.save(new Event("Lantern Walk", "Evening walk with lanterns", LocalDate.of(2025, 11, 11)));
+
+        List<EventSummary> summaries = repository.findSummariesByDate(fairDate);
+
+        assertEquals(List.of("Harvest Fair"), summaries.stream().map(EventSummary::getName).toList(),
+                "findSummariesByDate should return only events on the requested date");
+    }
+
+    @Test
+    void testFindSummariesByMonthDay_WhenEventsInDifferentYears_ThenReturnAllAnniversaries() {
+        repository.save(new Event("First Flight", "Maiden flight of the club plane", LocalDate.of(2019, 7, 4)));
+        repository.save(new Event("Club Founding", "Aero club was founded", LocalDate.of(2001, 7, 4)));
+        repository.save(new Event("Air Show", "Annual air show", LocalDate.of(2019, 8, 4)));
+
+        List<EventSummary> summaries = repository.findSummariesByMonthDay(MonthDay.of(7, 4));
+
+        assertEquals(Set.of("First Flight", "Club Founding"),
+                summaries.stream().map(EventSummary::getName).collect(Collectors.toSet()),
+                "findSummariesByMonthDay should return events on 4 July of every year");
+    }
 }
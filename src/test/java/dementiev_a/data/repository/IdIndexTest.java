@@ -0,0 +1,57 @@
+package dementiev_a.data.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdIndexTest {
+    private static final int EVENTS_COUNT = 100_000;
+
+    private IdIndex idIndex;
+
+    @BeforeEach
+    void setUp() {
+        idIndex = new IdIndex();
+    }
+
+    @Test
+    void testFindAfter_WhenMoreIdsThanLimit_ThenReturnSmallestIdsAfterGivenOne() {
+        for (long id = EVENTS_COUNT; id >= 1; id--) {
+            idIndex.add(id);
+        }
+
+        assertArrayEquals(new long[]{501L, 502L, 503L}, idIndex.findAfter(500L, 3),
+                "findAfter should return the next ids in ascending order like TreeSet.tailSet");
+    }
+
+    @Test
+    void testFindAfter_WhenNoIdsAfterGivenOne_ThenReturnEmptyArray() {
+        idIndex.add(1L);
+
+        assertEquals(0, idIndex.findAfter(1L, 10).length,
+                "findAfter should return nothing when there are no greater ids");
+    }
+
+    @Test
+    void testFindAfter_WhenGivenIdWasRemoved_ThenContinueFromNextGreaterId() {
+        idIndex.add(10L);
+        idIndex.add(20L);
+        idIndex.add(30L);
+
+        idIndex.remove(20L);
+
+        assertArrayEquals(new long[]{30L}, idIndex.findAfter(20L, 5),
+                "A page should continue after a removed id from the next remaining one");
+    }
+
+    @Test
+    void testAdd_WhenIdAlreadyIndexed_ThenIndexedOnce() {
+        idIndex.add(7L);
+        idIndex.add(3L);
+        idIndex.add(7L);
+
+        assertArrayEquals(new long[]{3L, 7L}, idIndex.findAfter(Long.MIN_VALUE, 10),
+                "Adding an indexed id again should not duplicate it");
+    }
+}
@@ -0,0 +1,99 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.log.EventRecordCodec;
+import dementiev_a.data.log.FsyncPolicy;
+import dementiev_a.data.log.RecordLog;
+import dementiev_a.data.model.Event;
+import dementiev_a.data.model.SearchResult;
+import dementiev_a.exception.LogWriteException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemorySearchRepositoryTest extends SearchRepositoryBaseTest {
+    @Override
+    protected SearchRepository createSearchRepository() {
+        return InMemorySearchRepository.getInstance();
+    }
+
+    @Override
+    protected EventRepository createEventRepository() {
+        return new IndexingEventRepository(EventInMemoryRepository.getInstance(),
+                InMemorySearchRepository.getInstance());
+    }
+
+    @Override
+    protected CelebrationRepository createCelebrationRepository() {
+        return new IndexingCelebrationRepository(CelebrationInMemoryRepository.getInstance(),
+                InMemorySearchRepository.getInstance());
+    }
+
+    @Test
+    void testSearch_WhenQueryInsideWord_ThenFoundByTrigrams() {
+        Long jubileeId = eventRepository.save(new Event("Grandmother's Jubilee", "Ninetieth birthday",
+                LocalDate.of(2024, 5, 5)));
+
+        assertEquals(List.of(jubileeId), searchRepository.search("mother", 10).stream()
+                        .map(SearchResult::getId).toList(),
+                "A part of a word should be matched through the trigram index");
+    }
+
+    @Test
+    void testSearch_WhenCaseAndAccentsDiffer_ThenTextFolded() {
+        Long festivalId = eventRepository.save(new Event("F\u00eate de la Musique", "Concerts in Z\u00fcrich",
+                LocalDate.of(2024, 6, 21)));
+
+        assertEquals(List.of(festivalId), searchRepository.search("FETE zurich", 10).stream()
+                        .map(SearchResult::getId).toList(),
+                "Search should ignore letter case and accents");
+    }
+
+    @Test
+    void testSearch_WhenExactAndPrefixMatches_ThenExactRankedFirst() {
+        Long partygoersId = eventRepository.save(new Event("Partygoers Meetup", "Dancing all night",
+                LocalDate.of(2024, 9, 1)));
+        Long gardenPartyId = eventRepository.save(new Event("Garden Party", "Drinks outside",
+                LocalDate.of(2024, 9, 2)));
+
+        assertEquals(List.of(gardenPartyId, partygoersId), searchRepository.search("party", 10).stream()
+                        .map(SearchResult::getId).toList(),
+                "Exact word matches should be ranked before prefix matches");
+    }
+
+    @Test
+    void testRebuild_WhenEventsSavedPastIndex_ThenFoundAfterRebuild() {
+        EventInMemoryRepository.getInstance().save(new Event("Pottery Workshop", "Clay and wheels",
+                LocalDate.of(2024, 11, 9)));
+        InMemorySearchRepository inMemorySearchRepository = (InMemorySearchRepository) searchRepository;
+
+        assertTrue(searchRepository.search("pottery", 10).isEmpty(),
+                "An event saved around the indexing repository should not be indexed");
+
+        inMemorySearchRepository.rebuild(EventInMemoryRepository.getInstance(),
+                CelebrationInMemoryRepository.getInstance());
+
+        assertEquals(1, searchRepository.search("pottery", 10).size(),
+                "Rebuilding should index events already stored in the repository");
+    }
+
+    @Test
+    void testSave_WhenLogWriteFails_ThenEntityNotIndexed(@TempDir Path directory) {
+        EventLogRepository logRepository = new EventLogRepository(new RecordLog<>(directory, "events",
+                EventRecordCodec.getInstance(), FsyncPolicy.GROUP_COMMIT, Duration.ofMillis(50), 100));
+        logRepository.close();
+        EventRepository failingRepository = new IndexingEventRepository(logRepository,
+                InMemorySearchRepository.getInstance());
+
+        assertThrows(LogWriteException.class, () -> failingRepository.save(new Event("Lantern Festival",
+                        "Floating lanterns", LocalDate.of(2024, 2, 24))),
+                "A save that could not be written to the log should fail");
+        assertTrue(searchRepository.search("lantern", 10).isEmpty(),
+                "An event that was not stored should not be indexed");
+    }
+}
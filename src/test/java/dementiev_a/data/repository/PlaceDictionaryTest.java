@@ -0,0 +1,64 @@
+package dementiev_a.data.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlaceDictionaryTest {
+    private static final int CELEBRATIONS_COUNT = 10_000;
+    private static final String[] PLACES = {"Home", "Riverside Restaurant", "City Park", "Grandparents' House"};
+
+    private PlaceDictionary placeDictionary;
+
+    @BeforeEach
+    void setUp() {
+        placeDictionary = new PlaceDictionary();
+    }
+
+    @Test
+    void testPut_WhenPlaceChanged_ThenCelebrationMovedToNewPlace() {
+        placeDictionary.put(1L, null, "Home");
+        placeDictionary.put(2L, null, "Home");
+
+        placeDictionary.put(1L, "Home", "City Park");
+
+        assertArrayEquals(new long[]{2L}, placeDictionary.findByPlace("Home"),
+                "A moved celebration should no longer be listed under its previous place");
+        assertArrayEquals(new long[]{1L}, placeDictionary.findByPlace("City Park"),
+                "A moved celebration should be listed under its new place");
+    }
+
+    @Test
+    void testRemove_WhenLastCelebrationOfPlace_ThenPlaceIdReused() {
+        placeDictionary.put(1L, null, "Home");
+        int homeId = placeDictionary.idOf("Home");
+
+        placeDictionary.remove(1L, "Home");
+        placeDictionary.put(2L, null, "City Park");
+
+        assertEquals(PlaceDictionary.NO_PLACE, placeDictionary.idOf("Home"),
+                "A place without celebrations should be dropped from the dictionary");
+        assertEquals(homeId, placeDictionary.idOf("City Park"), "The id of a dropped place should be reused");
+    }
+
+    @Test
+    void testHeapSize_WhenManyCelebrationsShareFewPlaces_ThenSmallerThanStringPerCelebration() {
+        String[] separatePlaces = new String[CELEBRATIONS_COUNT];
+        String[] encodedPlaces = new String[CELEBRATIONS_COUNT];
+        for (int id = 0; id < CELEBRATIONS_COUNT; id++) {
+            String place = PLACES[id % PLACES.length];
+            separatePlaces[id] = new String(place.toCharArray());
+            encodedPlaces[id] = placeDictionary.put(id, null, new String(place.toCharArray()));
+        }
+
+        long separatePlacesSize = GraphLayout.parseInstance((Object) separatePlaces).totalSize();
+        long encodedPlacesSize = GraphLayout.parseInstance(encodedPlaces, placeDictionary).totalSize();
+
+        assertTrue(encodedPlacesSize * 2 < separatePlacesSize,
+                "Dictionary-encoded places with their posting lists should take less than half of the heap used by "
+                        + "a string per celebration, but took " + encodedPlacesSize + " bytes against "
+                        + separatePlacesSize + " bytes for " + CELEBRATIONS_COUNT + " celebrations");
+    }
+}
@@ -0,0 +1,119 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.BaseTest;
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import dementiev_a.data.model.SearchResult;
+import dementiev_a.data.model.SearchResultType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public abstract class SearchRepositoryBaseTest extends BaseTest {
+
+    protected SearchRepository searchRepository;
+    protected EventRepository eventRepository;
+    protected CelebrationRepository celebrationRepository;
+
+    protected abstract SearchRepository createSearchRepository();
+
+    protected abstract EventRepository createEventRepository();
+
+    protected abstract CelebrationRepository createCelebrationRepository();
+
+    @BeforeEach
+    void setUp() {
+        searchRepository = createSearchRepository();
+        eventRepository = createEventRepository();
+        celebrationRepository = createCelebrationRepository();
+        celebrationRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void testSearch_WhenQueryHasApostrophe_ThenOnlyMatchingEventFound() {
+        Long grandmaId = eventRepository.save(new Event("Grandma's Birthday", "Cake and family dinner",
+                LocalDate.of(2024, 4, 12)));
+        eventRepository.save(new Event("Grandpa's Birthday", "Fishing trip", LocalDate.of(2024, 8, 30)));
+
+        List<SearchResult> results = searchRepository.search("grandma's birthday", 10);
+
+        assertEquals(List.of(grandmaId), results.stream().map(SearchResult::getId).toList(),
+                "Only the event matching every query word should be found");
+        assertEquals(SearchResultType.EVENT, results.get(0).getType(), "The result should be marked as an event");
+        assertEquals("Cake and family dinner", results.get(0).getDescription(),
+                "The result should carry the event description");
+    }
+
+    @Test
+    void testSearch_WhenQueryIsWordPrefix_ThenEventsAndCelebrationsFound() {
+        Long eventId = eventRepository.save(new Event("Anniversary Party", "Tenth wedding anniversary",
+                LocalDate.of(2024, 6, 1)));
+        Long celebrationId = celebrationRepository.save(new Celebration(eventId, "Dinner",
+                "Dinner for two", LocalDate.of(2024, 6, 1), "Anniversary Hall"));
+        eventRepository.save(new Event("Book Club", "Monthly meeting", LocalDate.of(2024, 6, 3)));
+
+        Set<String> found = searchRepository.search("anniv", 10).stream()
+                .map(result -> result.getType() + ":" + result.getId())
+                .collect(Collectors.toSet());
+
+        assertEquals(Set.of("EVENT:" + eventId, "CELEBRATION:" + celebrationId), found,
+                "A word prefix should match both event and celebration texts");
+    }
+
+    @Test
+    void testSearch_WhenCelebrationPlaceMatches_ThenCelebrationFound() {
+        Long eventId = eventRepository.save(new Event("Summer Holidays", "Time off", LocalDate.of(2024, 7, 1)));
+        Long celebrationId = celebrationRepository.save(new Celebration(eventId, "Barbecue",
+                "Grill with neighbours", LocalDate.of(2024, 7, 6), "Lakeside Cabin"));
+
+        List<SearchResult> results = searchRepository.search("lakeside", 10);
+
+        assertEquals(1, results.size(), "Only the celebration at the searched place should be found");
+        assertEquals(SearchResultType.CELEBRATION, results.get(0).getType(),
+                "The result should be marked as a celebration");
+        assertEquals(celebrationId, results.get(0).getId(), "The celebration at the searched place should be found");
+    }
+
+    @Test
+    void testSearch_WhenEventRenamedAndDeleted_ThenIndexFollowsChanges() {
+        Event meetup = new Event("Chess Club Meetup", "Weekly games", LocalDate.of(2024, 2, 7));
+        Long meetupId = eventRepository.save(meetup);
+
+        Event renamed = eventRepository.findById(meetupId);
+        renamed.setName("Board Games Night");
+        eventRepository.save(renamed);
+
+        assertTrue(searchRepository.search("chess", 10).isEmpty(), "The old name should no longer be found");
+        assertEquals(List.of(meetupId), searchRepository.search("board games", 10).stream()
+                        .map(SearchResult::getId).toList(),
+                "The new name should be found after the event is saved");
+
+        eventRepository.deleteById(meetupId);
+
+        assertTrue(searchRepository.search("board", 10).isEmpty(), "A deleted event should not be found");
+    }
+
+    @Test
+    void testSearch_WhenMoreMatchesThanLimit_ThenLimitApplied() {
+        for (int day = 1; day <= 5; day++) {
+            eventRepository.save(new Event("Team Standup " + day, "Daily sync", LocalDate.of(2024, 3, day)));
+        }
+
+        assertEquals(3, searchRepository.search("standup", 3).size(), "Search should return at most the limit");
+    }
+
+    @Test
+    void testSearch_WhenQueryHasNoWords_ThenReturnEmptyCollection() {
+        eventRepository.save(new Event("Opening Night", "Premiere", LocalDate.of(2024, 10, 4)));
+
+        assertTrue(searchRepository.search("  !! -- ", 10).isEmpty(),
+                "A query without letters or digits should not match anything");
+    }
+}
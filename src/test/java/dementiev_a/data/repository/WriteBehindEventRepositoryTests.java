@@ -0,0 +1,218 @@
+package dementiev_a.data.repository;
+
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import dementiev_a.data.sequence.CelebrationSequence;
+import dementiev_a.data.sequence.EventSequence;
+import dementiev_a.exception.BatchSaveException;
+import dementiev_a.exception.NoEntityException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteBehindEventRepositoryTests extends EventRepositoryTestBase {
+    private WriteBehindBuffer buffer;
+
+    @Override
+    protected EventRepository createRepository() {
+        buffer = new WriteBehindBuffer(
+                new RepositoryStorage(EventInMemoryRepository.getInstance(),
+                        CelebrationInMemoryRepository.getInstance()),
+                Duration.ofHours(1),
+                1000
+        );
+        return new WriteBehindEventRepository(buffer, EventSequence.getInstance());
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.close();
+    }
+
+    @Test
+    void testSave_WhenNotFlushed_ThenVisibleThroughRepositoryOnly() {
+        Long eventId = repository.save(new Event("Book Club", "Monthly book discussion", LocalDate.of(2024, 2, 10)));
+
+        assertEquals("Book Club", repository.findById(eventId).getName(),
+                "A buffered event should be readable through the write-behind repository");
+        assertTrue(EventInMemoryRepository.getInstance().findAll().isEmpty(),
+                "A buffered event should not reach the underlying repository before a flush");
+
+        buffer.flush();
+
+        assertEquals("Book Club", EventInMemoryRepository.getInstance().findById(eventId).getName(),
+                "After a flush the event should be stored in the underlying repository");
+    }
+
+    @Test
+    void testSave_WhenSameEventSavedRepeatedly_ThenSavesCoalesced() {
+        Event concert = new Event("Concert", "Symphony orchestra", LocalDate.of(2024, 11, 3));
+        Long eventId = repository.save(concert);
+        concert.addCelebrationId(101L);
+        repository.save(concert);
+        concert.setDescription("Symphony orchestra with choir");
+        repository.save(concert);
+
+        assertEquals(1, buffer.getPendingCount(), "Repeated saves of the same event should be coalesced");
+
+        buffer.flush();
+
+        Event storedConcert = EventInMemoryRepository.getInstance().findById(eventId);
+        assertEquals("Symphony orchestra with choir", storedConcert.getDescription(),
+                "The flushed event should contain the latest saved description");
+        assertTrue(storedConcert.getCelebrationIds().contains(101L),
+                "The flushed event should contain the celebration linked before the last save");
+    }
+
+    @Test
+    void testClose_WhenSavesPending_ThenDrainedToUnderlyingRepositories() {
+        CelebrationRepository celebrationRepository =
+                new WriteBehindCelebrationRepository(buffer, CelebrationSequence.getInstance());
+        CelebrationInMemoryRepository.getInstance().deleteAll();
+        Long eventId = repository.save(new Event("Marathon", "City marathon", LocalDate.of(2024, 9, 22)));
+        Long celebrationId = celebrationRepository.save(new Celebration(eventId, "Finish Line Party",
+                "Celebrating the finishers", LocalDate.of(2024, 9, 22), "Stadium"));
+
+        buffer.close();
+
+        assertEquals(0, buffer.getPendingCount(), "Closing the buffer should leave no pending saves");
+        assertEquals("Marathon", EventInMemoryRepository.getInstance().findById(eventId).getName(),
+                "Closing the buffer should write the pending event");
+        assertEquals("Stadium", CelebrationInMemoryRepository.getInstance().findById(celebrationId).getPlace(),
+                "Closing the buffer should write the pending celebration");
+    }
+
+    @Test
+    void testAddCelebration_WhenEventPending_ThenCelebrationAndLinkQueued() {
+        WriteBehindStorage storage = createWriteBehindStorage();
+        Long eventId = storage.getEventRepository().save(new Event("Harvest Fair", "Autumn harvest fair",
+                LocalDate.of(2024, 10, 5)));
+
+        Long celebrationId = storage.addCelebration(new Celebration(eventId, "Pumpkin Contest",
+                "Biggest pumpkin wins", LocalDate.of(2024, 10, 5), "Village Green"));
+
+        assertEquals(2, storage.getBuffer().getPendingCount(),
+                "The event and the added celebration should both stay buffered");
+        assertTrue(CelebrationInMemoryRepository.getInstance().findAll().isEmpty(),
+                "Adding a celebration should not write it to the underlying repository before a flush");
+        assertTrue(storage.getEventRepository().findById(eventId).getCelebrationIds().contains(celebrationId),
+                "The buffered event should already reference the added celebration");
+
+        storage.close();
+
+        assertEquals(Set.of(celebrationId), EventInMemoryRepository.getInstance().findCelebrationsIdsByEventId(eventId),
+                "After a flush the stored event should reference the added celebration");
+        assertEquals("Village Green", CelebrationInMemoryRepository.getInstance().findById(celebrationId).getPlace(),
+                "After a flush the added celebration should be stored");
+    }
+
+    @Test
+    void testAddCelebration_WhenEventAlreadyStored_ThenLinkQueuedWithoutFlush() {
+        WriteBehindStorage storage = createWriteBehindStorage();
+        Long eventId = storage.getEventRepository().save(new Event("Chess Tournament", "City chess championship",
+                LocalDate.of(2024, 3, 16)));
+        storage.getBuffer().flush();
+
+        Long celebrationId = storage.addCelebration(new Celebration(eventId, "Award Ceremony",
+                "Medals for the winners", LocalDate.of(2024, 3, 17), "Chess Club"));
+
+        assertEquals(2, storage.getBuffer().getPendingCount(),
+                "The stored event should be queued again together with the added celebration");
+        assertTrue(EventInMemoryRepository.getInstance().findCelebrationsIdsByEventId(eventId).isEmpty(),
+                "The stored event should not be linked before a flush");
+
+        storage.close();
+
+        assertEquals(Set.of(celebrationId), EventInMemoryRepository.getInstance().findCelebrationsIdsByEventId(eventId),
+                "After a flush the stored event should reference the added celebration");
+    }
+
+    @Test
+    void testAddCelebration_WhenEventMissing_ThenThrowAndQueueNothing() {
+        WriteBehindStorage storage = createWriteBehindStorage();
+
+        assertThrows(NoEntityException.class, () -> storage.addCelebration(new Celebration(404L, "Lost Party",
+                        "Party of a missing event", LocalDate.of(2024, 1, 1), "Nowhere")),
+                "Adding a celebration to a missing event should fail");
+        assertEquals(0, storage.getBuffer().getPendingCount(),
+                "A celebration of a missing event should not be buffered");
+        storage.close();
+    }
+
+    @Test
+    void testFlush_WhenDelegateFails_ThenSavesKeptAndRetried() {
+        AtomicBoolean delegateFailing = new AtomicBoolean(true);
+        AtomicReference<Runnable> duringFailedFlush = new AtomicReference<>(() -> {
+        });
+        Storage storage = new RepositoryStorage(EventInMemoryRepository.getInstance(),
+                CelebrationInMemoryRepository.getInstance());
+        Storage failingStorage = (Storage) Proxy.newProxyInstance(
+                Storage.class.getClassLoader(),
+                new Class<?>[]{Storage.class},
+                (proxy, method, args) -> {
+                    if (delegateFailing.get() && method.getName().equals("saveAll")) {
+                        duringFailedFlush.get().run();
+                        throw new BatchSaveException(new SQLException("Connection refused"));
+                    }
+                    try {
+                        return method.invoke(storage, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+        );
+        WriteBehindBuffer failingBuffer = new WriteBehindBuffer(failingStorage, Duration.ofHours(1), 1000);
+        EventRepository writeBehindRepository = new WriteBehindEventRepository(failingBuffer,
+                EventSequence.getInstance());
+        Event scienceFair = new Event("Science Fair", "School science projects", LocalDate.of(2024, 4, 12));
+        Long scienceFairId = writeBehindRepository.save(scienceFair);
+        Long openDayId = writeBehindRepository.save(new Event("Open Day", "Campus tours for applicants",
+                LocalDate.of(2024, 4, 20)));
+        duringFailedFlush.set(() -> {
+            scienceFair.setDescription("Regional science projects");
+            writeBehindRepository.save(scienceFair);
+        });
+
+        assertThrows(BatchSaveException.class, failingBuffer::flush,
+                "A flush whose batch could not be saved should fail instead of dropping the batch");
+        assertEquals(2, failingBuffer.getPendingCount(),
+                "Both events of the failed batch should stay buffered");
+        assertEquals("Open Day", writeBehindRepository.findById(openDayId).getName(),
+                "An event of the failed batch should still be readable through the write-behind repository");
+        assertTrue(EventInMemoryRepository.getInstance().findAll().isEmpty(),
+                "Nothing should reach the underlying repository while it fails");
+
+        delegateFailing.set(false);
+        failingBuffer.flush();
+
+        assertEquals(0, failingBuffer.getPendingCount(), "A successful retry should leave no pending saves");
+        assertEquals("Regional science projects",
+                EventInMemoryRepository.getInstance().findById(scienceFairId).getDescription(),
+                "A save made during the failed flush should win over the retried older version");
+        assertEquals("Open Day", EventInMemoryRepository.getInstance().findById(openDayId).getName(),
+                "The retry should write the events of the failed batch");
+        failingBuffer.close();
+    }
+
+    private WriteBehindStorage createWriteBehindStorage() {
+        CelebrationInMemoryRepository.getInstance().deleteAll();
+        return new WriteBehindStorage(
+                new RepositoryStorage(EventInMemoryRepository.getInstance(),
+                        CelebrationInMemoryRepository.getInstance()),
+                EventSequence.getInstance(),
+                CelebrationSequence.getInstance(),
+                Duration.ofHours(1),
+                1000
+        );
+    }
+}
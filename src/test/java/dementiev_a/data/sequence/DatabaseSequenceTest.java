@@ -0,0 +1,84 @@
+package dementiev_a.data.sequence;
+
+import dementiev_a.BaseTest;
+import dementiev_a.data.manager.PostgresManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DatabaseSequenceTest extends BaseTest {
+    private static final int IDS_PER_THREAD = 1_000;
+    private static final int THREADS_COUNT = 4;
+
+    private int blockSize;
+    private DatabaseSequence firstApplicationSequence;
+    private DatabaseSequence secondApplicationSequence;
+
+    @BeforeEach
+    void setUp() {
+        PostgresManager databaseManager = PostgresManager.getInstance();
+        blockSize = PostgresManager.getIdBlockSize();
+        firstApplicationSequence = new DatabaseSequence(
+                databaseManager, PostgresManager.EVENTS_ID_SEQUENCE, blockSize
+        );
+        secondApplicationSequence = new DatabaseSequence(
+                databaseManager, PostgresManager.EVENTS_ID_SEQUENCE, blockSize
+        );
+    }
+
+    @Test
+    void testNext_WhenTakingIdsWithinOneBlock_ThenIdsAreConsecutive() {
+        long firstId = firstApplicationSequence.next();
+
+        List<Long> nextIds = LongStream.range(1, blockSize)
+                .map(i -> firstApplicationSequence.next())
+                .boxed()
+                .toList();
+
+        assertEquals(LongStream.range(firstId + 1, firstId + blockSize).boxed().toList(), nextIds,
+                "Ids of one reserved block should be handed out locally one after another");
+    }
+
+    @Test
+    void testNext_WhenTwoApplicationsShareDatabaseSequence_ThenIdsNeverOverlap() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_COUNT);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS_COUNT; i++) {
+                DatabaseSequence sequence = i % 2 == 0 ? firstApplicationSequence : secondApplicationSequence;
+                futures.add(executor.submit(() -> LongStream.range(0, IDS_PER_THREAD)
+                        .map(j -> sequence.next())
+                        .boxed()
+                        .toList()));
+            }
+            Set<Long> allIds = new HashSet<>();
+            for (Future<List<Long>> future : futures) {
+                allIds.addAll(future.get());
+            }
+            assertEquals(THREADS_COUNT * IDS_PER_THREAD, allIds.size(),
+                    "Concurrent sequences backed by one database sequence should never return the same id twice");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testNextBlock_WhenCalledTwice_ThenBlocksDoNotIntersect() {
+        long firstBlockStart = firstApplicationSequence.nextBlock();
+        long secondBlockStart = secondApplicationSequence.nextBlock();
+
+        assertTrue(Math.abs(secondBlockStart - firstBlockStart) >= blockSize,
+                "Blocks reserved from the database sequence should not share any id");
+        assertTrue(firstBlockStart > 0 && secondBlockStart > 0, "Reserved ids should be positive");
+    }
+}
@@ -0,0 +1,119 @@
+package dementiev_a.service;
+
+import dementiev_a.BaseTest;
+import dementiev_a.data.model.Celebration;
+import dementiev_a.data.model.Event;
+import dementiev_a.data.repository.CelebrationInMemoryRepository;
+import dementiev_a.data.repository.CelebrationRepository;
+import dementiev_a.data.repository.EventInMemoryRepository;
+import dementiev_a.data.repository.EventRepository;
+import dementiev_a.data.repository.RepositoryStorage;
+import dementiev_a.data.repository.Storage;
+import dementiev_a.exception.NoEntityException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncEventServiceTest extends BaseTest {
+    private static final int MAX_CONCURRENT_OPERATIONS = 2;
+
+    private AsyncExecutor executor;
+    private AsyncEventService asyncEventService;
+    private EventRepository eventRepository;
+    private CelebrationRepository celebrationRepository;
+    private Storage storage;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = EventInMemoryRepository.getInstance();
+        celebrationRepository = CelebrationInMemoryRepository.getInstance();
+        storage = new RepositoryStorage(eventRepository, celebrationRepository);
+        EventService eventService = EventService.getInstance();
+        eventService.setStorage(storage);
+        executor = new AsyncExecutor(Executors.newCachedThreadPool(), MAX_CONCURRENT_OPERATIONS);
+        asyncEventService = AsyncEventService.getInstance();
+        asyncEventService.setEventService(eventService);
+        asyncEventService.setExecutor(executor);
+        eventRepository.deleteAll();
+        celebrationRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+        asyncEventService.setExecutor(AsyncExecutor.getInstance());
+        eventRepository.deleteAll();
+        celebrationRepository.deleteAll();
+    }
+
+    @Test
+    void testGetCelebrationsByEventIds_WhenManyEvents_ThenCelebrationsGroupedByEvent() {
+        List<Long> eventIds = new ArrayList<>();
+        for (int day = 1; day <= 20; day++) {
+            Long eventId = eventRepository.save(new Event("Workshop " + day, "Pottery workshop",
+                    LocalDate.of(2025, 3, day)));
+            storage.addCelebration(new Celebration(eventId, "Exhibition " + day,
+                    "Showing the pottery", LocalDate.of(2025, 4, day), "Gallery"));
+            eventIds.add(eventId);
+        }
+
+        Map<Long, List<Celebration>> celebrationsByEventId =
+                asyncEventService.getCelebrationsByEventIds(eventIds).join();
+
+        assertEquals(eventIds, new ArrayList<>(celebrationsByEventId.keySet()),
+                "Result should contain every requested event in the requested order");
+        celebrationsByEventId.forEach((eventId, celebrations) -> {
+            assertEquals(1, celebrations.size(), "Each workshop should have exactly one exhibition");
+            assertEquals(eventId, celebrations.get(0).getEventId(),
+                    "Celebrations should be grouped under the event they belong to");
+        });
+    }
+
+    @Test
+    void testGetEventById_WhenNotExists_ThenFutureCompletesWithNoEntityException() {
+        CompletableFuture<Event> future = asyncEventService.getEventById(404L);
+
+        CompletionException thrownException = assertThrows(CompletionException.class, future::join,
+                "Loading a missing event should complete the future exceptionally");
+        assertInstanceOf(NoEntityException.class, thrownException.getCause(),
+                "The future should carry the NoEntityException thrown by the service");
+    }
+
+    @Test
+    void testSupplyAll_WhenMoreTasksThanPermits_ThenConcurrencyBounded() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Map<Integer, Integer>> future = executor.supplyAll(List.of(1, 2, 3, 4, 5, 6), key -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return key * key;
+        });
+        TimeUnit.MILLISECONDS.sleep(100);
+        release.countDown();
+
+        assertEquals(Map.of(1, 1, 2, 4, 3, 9, 4, 16, 5, 25, 6, 36), future.join(),
+                "Every task result should be collected under its key");
+        assertEquals(MAX_CONCURRENT_OPERATIONS, maxRunning.get(),
+                "No more operations than the configured limit should run at the same time");
+    }
+}
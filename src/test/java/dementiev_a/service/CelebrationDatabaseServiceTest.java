@@ -1,18 +1,11 @@
 package dementiev_a.service;
 
-import dementiev_a.data.repository.CelebrationDatabaseRepository;
-import dementiev_a.data.repository.CelebrationRepository;
-import dementiev_a.data.repository.EventDatabaseRepository;
-import dementiev_a.data.repository.EventRepository;
+import dementiev_a.data.repository.DatabaseStorage;
+import dementiev_a.data.repository.Storage;
 
 public class CelebrationDatabaseServiceTest extends CelebrationServiceBaseTest {
     @Override
-    protected EventRepository getEventRepository() {
-        return EventDatabaseRepository.getInstance();
-    }
-
-    @Override
-    protected CelebrationRepository getCelebrationRepository() {
-        return CelebrationDatabaseRepository.getInstance();
+    protected Storage getStorage() {
+        return DatabaseStorage.getInstance();
     }
 }
@@ -5,6 +5,7 @@ import dementiev_a.data.model.Celebration;
 import dementiev_a.data.model.Event;
 import dementiev_a.data.repository.CelebrationRepository;
 import dementiev_a.data.repository.EventRepository;
+import dementiev_a.data.repository.Storage;
 import dementiev_a.exception.NoEntityException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,16 +22,15 @@ public abstract class CelebrationServiceBaseTest extends BaseTest {
     private EventRepository eventRepository;
     private CelebrationRepository celebrationRepository;
 
-    protected abstract EventRepository getEventRepository();
-    protected abstract CelebrationRepository getCelebrationRepository();
+    protected abstract Storage getStorage();
 
     @BeforeEach
     void setUp() {
-        eventRepository = getEventRepository();
-        celebrationRepository = getCelebrationRepository();
+        Storage storage = getStorage();
+        eventRepository = storage.getEventRepository();
+        celebrationRepository = storage.getCelebrationRepository();
         celebrationService = CelebrationService.getInstance();
-        celebrationService.setEventRepository(eventRepository);
-        celebrationService.setCelebrationRepository(celebrationRepository);
+        celebrationService.setStorage(storage);
         eventRepository.deleteAll();
         celebrationRepository.deleteAll();
     }
@@ -66,7 +66,7 @@ public abstract class CelebrationServiceBaseTest extends BaseTest {
     }
 
     @Test
-    void testAddCelebration_WhenEventNotFound_ThenThrowAndCelebrationStillSaved() {
+    void testAddCelebration_WhenEventNotFound_ThenThrowAndCelebrationNotSaved() {
         long missingEventId = 9999L;
 
         NoEntityException thrownException = assertThrows(NoEntityException.class,
@@ -77,12 +77,8 @@ public abstract class CelebrationServiceBaseTest extends BaseTest {
         assertTrue(thrownException.getMessage().contains(String.valueOf(missingEventId)),
                 "Exception message should include the id of the missing entity to aid diagnostics");
 
-        List<Celebration> persistedCelebrations = celebrationRepository.findAll();
-        assertEquals(1, persistedCelebrations.size(),
-                "Because the service saves celebration before event lookup, the celebration remains persisted");
-        Celebration savedCelebration = persistedCelebrations.iterator().next();
-        assertEquals(missingEventId, Long.valueOf(savedCelebration.getEventId()),
-                "Persisted celebration should retain the provided (missing) eventId");
+        assertTrue(celebrationRepository.findAll().isEmpty(),
+                "A celebration for a missing event should not be persisted");
     }
 
     @Test
@@ -1,18 +1,18 @@
 package dementiev_a.service;
 
-import dementiev_a.data.repository.CelebrationDatabaseRepository;
-import dementiev_a.data.repository.CelebrationRepository;
-import dementiev_a.data.repository.EventDatabaseRepository;
-import dementiev_a.data.repository.EventRepository;
+import dementiev_a.data.importer.Importer;
+import dementiev_a.data.importer.PostgresCopyImporter;
+import dementiev_a.data.repository.DatabaseStorage;
+import dementiev_a.data.repository.Storage;
 
 public class EventDatabaseServiceTest extends EventServiceBaseTest {
     @Override
-    protected EventRepository getEventRepository() {
-        return EventDatabaseRepository.getInstance();
+    protected Storage getStorage() {
+        return DatabaseStorage.getInstance();
     }
 
     @Override
-    protected CelebrationRepository getCelebrationRepository() {
-        return CelebrationDatabaseRepository.getInstance();
+    protected Importer getImporter() {
+        return PostgresCopyImporter.getInstance();
     }
 }
@@ -1,18 +1,26 @@
 package dementiev_a.service;
 
+import dementiev_a.data.importer.Importer;
+import dementiev_a.data.importer.RepositoryImporter;
 import dementiev_a.data.repository.CelebrationInMemoryRepository;
-import dementiev_a.data.repository.CelebrationRepository;
 import dementiev_a.data.repository.EventInMemoryRepository;
-import dementiev_a.data.repository.EventRepository;
+import dementiev_a.data.repository.RepositoryStorage;
+import dementiev_a.data.repository.Storage;
 
 public class EventInMemoryServiceTest extends EventServiceBaseTest {
     @Override
-    protected EventRepository getEventRepository() {
-        return EventInMemoryRepository.getInstance();
+    protected Storage getStorage() {
+        return new RepositoryStorage(
+                EventInMemoryRepository.getInstance(),
+                CelebrationInMemoryRepository.getInstance()
+        );
     }
 
     @Override
-    protected CelebrationRepository getCelebrationRepository() {
-        return CelebrationInMemoryRepository.getInstance();
+    protected Importer getImporter() {
+        return new RepositoryImporter(
+                EventInMemoryRepository.getInstance(),
+                CelebrationInMemoryRepository.getInstance()
+        );
     }
 }
@@ -1,17 +1,27 @@
 package dementiev_a.service;
 
 import dementiev_a.BaseTest;
+import dementiev_a.data.importer.ImportResult;
+import dementiev_a.data.importer.Importer;
 import dementiev_a.data.model.Celebration;
 import dementiev_a.data.model.Event;
 import dementiev_a.data.repository.CelebrationRepository;
 import dementiev_a.data.repository.EventRepository;
+import dementiev_a.data.repository.Storage;
+import dementiev_a.exception.ImportFormatException;
 import dementiev_a.exception.NoEntityException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.MonthDay;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -21,16 +31,17 @@ public abstract class EventServiceBaseTest extends BaseTest {
     private EventRepository eventRepository;
     private CelebrationRepository celebrationRepository;
 
-    protected abstract EventRepository getEventRepository();
-    protected abstract CelebrationRepository getCelebrationRepository();
+    protected abstract Storage getStorage();
+    protected abstract Importer getImporter();
 
     @BeforeEach
     void setUp() {
-        eventRepository = getEventRepository();
-        celebrationRepository = getCelebrationRepository();
+        Storage storage = getStorage();
+        eventRepository = storage.getEventRepository();
+        celebrationRepository = storage.getCelebrationRepository();
         eventService = EventService.getInstance();
-        eventService.setEventRepository(eventRepository);
-        eventService.setCelebrationRepository(celebrationRepository);
+        eventService.setStorage(storage);
+        eventService.setImporter(getImporter());
         eventRepository.deleteAll();
         celebrationRepository.deleteAll();
     }
@@ -121,6 +132,21 @@ public abstract class EventServiceBaseTest extends BaseTest {
                 "getEventsByDate should return empty list when no events match the date");
     }
 
+    @Test
+    void testGetEventsByMonthDay_WhenEventsInSeveralYears_ThenReturnAllOnThatDay() {
+        eventRepository.save(new Event("First Day at School", "Went to the first grade", LocalDate.of(1998, 9, 1)));
+        eventRepository.save(new Event("Daughter's First Day at School", "Took Anna to school",
+                LocalDate.of(2023, 9, 1)));
+        eventRepository.save(new Event("Vacation Start", "Vacation at the seaside", LocalDate.of(2023, 8, 31)));
+
+        List<Event> foundEvents = eventService.getEventsByMonthDay(MonthDay.of(9, 1));
+
+        assertEquals(2, foundEvents.size(),
+                "getEventsByMonthDay should return events on 1 September of every year");
+        assertTrue(foundEvents.stream().allMatch(e -> MonthDay.from(e.getDate()).equals(MonthDay.of(9, 1))),
+                "All returned events should fall on the requested day and month");
+    }
+
     @Test
     void testGetCelebrationsByEventId_WhenEventHasCelebrations_ThenReturnCelebrations() {
         Event techConference = new Event("Conference", "Tech conference", LocalDate.of(2025, 10, 5));
@@ -201,6 +227,31 @@ public abstract class EventServiceBaseTest extends BaseTest {
                 "After deleteEventById, linked celebrations should be deleted as well");
     }
 
+    @Test
+    void testDeleteEventById_WhenEventHasCelebrations_ThenReturnDeletedCelebrationsCount() {
+        Event musicFestival = new Event("Music Festival", "Three days of live music", LocalDate.of(2025, 7, 4));
+        Long eventId = eventRepository.save(musicFestival);
+        Celebration openingConcert = new Celebration(eventId, "Opening Concert",
+                "Headliner on the main stage", LocalDate.of(2025, 7, 4), "Main Stage");
+        musicFestival.addCelebrationId(celebrationRepository.save(openingConcert));
+        eventRepository.save(musicFestival);
+        Event bookFair = new Event("Book Fair", "Meet the authors", LocalDate.of(2025, 9, 12));
+        Long bookFairId = eventRepository.save(bookFair);
+        Celebration authorSigning = new Celebration(bookFairId, "Author Signing",
+                "Signing of new novels", LocalDate.of(2025, 9, 12), "Pavilion");
+        bookFair.addCelebrationId(celebrationRepository.save(authorSigning));
+        eventRepository.save(bookFair);
+
+        int deletedCelebrationsCount = eventService.deleteEventById(eventId);
+
+        assertEquals(1, deletedCelebrationsCount,
+                "deleteEventById should report how many celebrations were deleted with the event");
+        assertEquals(authorSigning.getId(), celebrationRepository.findById(authorSigning.getId()).getId(),
+                "Celebrations of other events should not be deleted");
+        assertEquals(Set.of(authorSigning.getId()), eventRepository.findCelebrationsIdsByEventId(bookFairId),
+                "Links of other events should not be deleted");
+    }
+
     @Test
     void testDeleteEventById_WhenNotExists_ThenThrowNoEntityException() {
         assertThrows(NoEntityException.class,
@@ -281,4 +332,78 @@ public abstract class EventServiceBaseTest extends BaseTest {
         assertTrue(updatedEvent.getCelebrationIds().contains(celebrationId),
                 "After editing event, celebration links should remain intact");
     }
+
+    @Test
+    void testImportEvents_WhenFileHasEventsWithCelebrations_ThenAllStoredAndLinked(@TempDir Path directory)
+            throws IOException {
+        Path importFile = Files.writeString(directory.resolve("events.csv"), String.join("\n",
+                "event,Moon Landing,\"Apollo 11, first humans on the Moon\",20.07.1969",
+                "celebration,Launch Watch Party,Watching the launch replay,16.07.2024,Planetarium",
+                "celebration,Anniversary Lecture,\"Talk about \"\"Eagle\"\" module\",20.07.2024,Science Museum",
+                "event,Gagarin's Flight,First human in space,12.04.1961"
+        ));
+
+        ImportResult result = eventService.importEvents(importFile);
+
+        assertEquals(2, result.getEventsCount(), "All events from the file should be imported");
+        assertEquals(2, result.getCelebrationsCount(), "All celebrations from the file should be imported");
+        List<Event> importedEvents = eventService.getAllEvents();
+        assertEquals(List.of("Moon Landing", "Gagarin's Flight"), importedEvents.stream().map(Event::getName).toList(),
+                "Imported events should be stored in the order of the file");
+        Event moonLanding = importedEvents.get(0);
+        assertEquals("Apollo 11, first humans on the Moon", moonLanding.getDescription(),
+                "Quoted description with a comma should be imported as a single field");
+        List<Celebration> moonLandingCelebrations = eventService.getCelebrationsByEventId(moonLanding.getId());
+        assertEquals(2, moonLandingCelebrations.size(),
+                "Celebrations should be linked to the closest event above them");
+        assertTrue(moonLandingCelebrations.stream()
+                        .anyMatch(celebration -> celebration.getDescription().equals("Talk about \"Eagle\" module")),
+                "Doubled quotes inside a quoted field should be imported as a single quote");
+        assertTrue(eventService.getCelebrationsByEventId(importedEvents.get(1).getId()).isEmpty(),
+                "Event without celebration lines should have no celebrations");
+    }
+
+    @Test
+    void testImportEvents_WhenCelebrationBeforeAnyEvent_ThenThrowImportFormatException(@TempDir Path directory)
+            throws IOException {
+        Path importFile = Files.writeString(directory.resolve("events.csv"),
+                "celebration,Orphan Party,Party without an event,01.01.2025,Home");
+
+        assertThrows(ImportFormatException.class,
+                () -> eventService.importEvents(importFile),
+                "Importing a celebration that does not follow any event should throw ImportFormatException");
+        assertTrue(eventService.getAllEvents().isEmpty(), "Nothing should be stored after a failed import");
+    }
+
+    @Test
+    void testImportEvents_WhenMalformedLineAfterValidRows_ThenNothingStored(@TempDir Path directory)
+            throws IOException {
+        Path importFile = Files.writeString(directory.resolve("events.csv"), String.join("\n",
+                "event,Harvest Fair,Autumn farmers market,21.09.2024",
+                "celebration,Pumpkin Contest,Biggest pumpkin wins,22.09.2024,Market Square",
+                "event,Broken Line,Missing its date"
+        ));
+
+        assertThrows(ImportFormatException.class,
+                () -> eventService.importEvents(importFile),
+                "A malformed line in the middle of the file should fail the import");
+        assertTrue(eventService.getAllEvents().isEmpty(),
+                "Rows before the malformed line should not be stored by a failed import");
+    }
+
+    @Test
+    void testGetEventsPage_WhenMoreEventsThanPageSize_ThenReturnPagesInIdOrder() {
+        Event firstSnow = new Event("First Snow", "First snow of the winter", LocalDate.of(2025, 11, 18));
+        Event iceSkating = new Event("Ice Skating", "Opening of the skating rink", LocalDate.of(2025, 12, 1));
+        eventService.addEvent(firstSnow);
+        eventService.addEvent(iceSkating);
+
+        List<Event> firstPage = eventService.getEventsPage(null, 1);
+        List<Event> secondPage = eventService.getEventsPage(firstPage.get(0).getId(), 1);
+        List<Event> thirdPage = eventService.getEventsPage(secondPage.get(0).getId(), 1);
+
+        assertEquals(firstSnow.getId(), firstPage.get(0).getId(), "First page should start with the earliest event");
+        assertEquals(iceSkating.getId(), secondPage.get(0).getId(), "Second page should contain the next event");
+        assertTrue(thirdPage.isEmpty(), "Page after the last event should be empty");
+    }
 }
@@ -0,0 +1,84 @@
+package dementiev_a.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongHashSetTest {
+    private static final int CELEBRATIONS_COUNT = 10_000;
+
+    private LongHashSet set;
+
+    @BeforeEach
+    void setUp() {
+        set = new LongHashSet();
+    }
+
+    @Test
+    void testAdd_WhenValueIsNew_ThenContained() {
+        assertTrue(set.add(101L), "Adding a new celebration id should return true");
+        assertFalse(set.add(101L), "Adding the same celebration id twice should return false");
+
+        assertTrue(set.contains(101L), "Set should contain the added celebration id");
+        assertEquals(1, set.size(), "Duplicate ids should not increase the size");
+    }
+
+    @Test
+    void testRemove_WhenBoxedValueProvided_ThenRemoved() {
+        set.add(101L);
+        set.add(202L);
+        Long boxedId = 101L;
+
+        assertTrue(set.remove(boxedId), "Removing a boxed id should use the Set<Long> contract");
+
+        assertFalse(set.contains(101L), "Removed celebration id should no longer be contained");
+        assertTrue(set.contains(202L), "Other celebration ids should stay in the set");
+    }
+
+    @Test
+    void testEquals_WhenSameIdsAsHashSet_ThenEqualBothWays() {
+        set.add(0L);
+        set.add(101L);
+        set.add(202L);
+        Set<Long> hashSet = new HashSet<>(Set.of(0L, 101L, 202L));
+
+        assertEquals(hashSet, set, "LongHashSet should be equal to a HashSet with the same ids");
+        assertEquals(set, hashSet, "HashSet should be equal to a LongHashSet with the same ids");
+        assertEquals(hashSet.hashCode(), set.hashCode(), "Equal sets should have equal hash codes");
+    }
+
+    @Test
+    void testIteratorRemove_WhenRemovingWhileIterating_ThenOnlyMatchingRemoved() {
+        for (long id = 1; id <= CELEBRATIONS_COUNT; id++) {
+            set.add(id);
+        }
+
+        set.removeIf(id -> id % 3 == 0);
+
+        assertEquals(CELEBRATIONS_COUNT - CELEBRATIONS_COUNT / 3, set.size(),
+                "removeIf should remove every id divisible by three");
+        assertTrue(set.stream().noneMatch(id -> id % 3 == 0), "No id divisible by three should remain");
+    }
+
+    @Test
+    void testHeapSize_WhenManyIds_ThenSmallerThanHashSet() {
+        Set<Long> hashSet = new HashSet<>();
+        for (long id = 1; id <= CELEBRATIONS_COUNT; id++) {
+            hashSet.add(id);
+            set.add(id);
+        }
+
+        long hashSetSize = GraphLayout.parseInstance(hashSet).totalSize();
+        long primitiveSetSize = GraphLayout.parseInstance(set).totalSize();
+
+        assertTrue(primitiveSetSize * 2 < hashSetSize,
+                "Primitive set should take less than half of the heap used by HashSet with boxed ids, but took "
+                        + primitiveSetSize + " bytes against " + hashSetSize + " bytes for "
+                        + CELEBRATIONS_COUNT + " ids");
+    }
+}
@@ -0,0 +1,116 @@
+package dementiev_a.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongObjectHashMapTest {
+    private static final int ENTITIES_COUNT = 100_000;
+
+    private LongObjectHashMap<String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = new LongObjectHashMap<>();
+    }
+
+    @Test
+    void testPut_WhenKeyIsNew_ThenValueRetrievable() {
+        String previousValue = map.put(42L, "Graduation");
+
+        assertNull(previousValue, "Putting a new key should return null as the previous value");
+        assertEquals("Graduation", map.get(42L), "Stored value should be returned by get");
+        assertTrue(map.containsKey(42L), "Map should contain the key after put");
+        assertEquals(1, map.size(), "Map should contain exactly one entry after one put");
+    }
+
+    @Test
+    void testPut_WhenKeyExists_ThenValueReplaced() {
+        map.put(7L, "Engagement");
+
+        String previousValue = map.put(7L, "Wedding");
+
+        assertEquals("Engagement", previousValue, "Replacing a value should return the previous one");
+        assertEquals("Wedding", map.get(7L), "Map should store the new value for the existing key");
+        assertEquals(1, map.size(), "Replacing a value should not change the size");
+    }
+
+    @Test
+    void testPut_WhenKeyIsZero_ThenStoredLikeAnyOtherKey() {
+        map.put(0L, "Birthday");
+
+        assertTrue(map.containsKey(0L), "Zero key should be supported although it marks empty slots internally");
+        assertEquals("Birthday", map.get(0L), "Value stored under zero key should be retrievable");
+        assertArrayEquals(new long[]{0L}, map.keys(), "keys should include the zero key");
+    }
+
+    @Test
+    void testRemove_WhenKeysCollide_ThenRemainingKeysStillFound() {
+        for (long id = 1; id <= ENTITIES_COUNT; id++) {
+            map.put(id, "Event " + id);
+        }
+
+        for (long id = 1; id <= ENTITIES_COUNT; id += 2) {
+            assertEquals("Event " + id, map.remove(id), "remove should return the value stored for the key");
+        }
+
+        assertEquals(ENTITIES_COUNT / 2, map.size(), "Half of the entries should remain after removing odd ids");
+        for (long id = 1; id <= ENTITIES_COUNT; id++) {
+            assertEquals(id % 2 == 0, map.containsKey(id), "Only even ids should remain after removing odd ids");
+        }
+    }
+
+    @Test
+    void testRemove_WhenKeyMissing_ThenReturnNull() {
+        map.put(1L, "New Year");
+
+        assertNull(map.remove(2L), "Removing a missing key should return null");
+        assertEquals(1, map.size(), "Removing a missing key should not change the size");
+    }
+
+    @Test
+    void testValuesSortedByKey_WhenInsertedOutOfOrder_ThenReturnedInKeyOrder() {
+        map.put(30L, "Third");
+        map.put(10L, "First");
+        map.put(20L, "Second");
+
+        assertEquals(List.of("First", "Second", "Third"), map.valuesSortedByKey(),
+                "valuesSortedByKey should return values ordered by their keys like the previous TreeMap storage");
+    }
+
+    @Test
+    void testClear_WhenMapHasEntries_ThenMapEmpty() {
+        map.put(0L, "Zero");
+        map.put(5L, "Five");
+
+        map.clear();
+
+        assertTrue(map.isEmpty(), "Map should be empty after clear");
+        assertFalse(map.containsKey(0L), "Zero key should be removed by clear");
+        assertNull(map.get(5L), "Regular keys should be removed by clear");
+    }
+
+    @Test
+    void testHeapSize_WhenManyEntries_ThenSmallerThanTreeMap() {
+        String sharedValue = "Event";
+        Map<Long, String> treeMap = new TreeMap<>();
+        for (long id = 1; id <= ENTITIES_COUNT; id++) {
+            treeMap.put(id, sharedValue);
+            map.put(id, sharedValue);
+        }
+
+        long treeMapSize = GraphLayout.parseInstance(treeMap).totalSize();
+        long primitiveMapSize = GraphLayout.parseInstance(map).totalSize();
+
+        assertTrue(primitiveMapSize < treeMapSize,
+                "Primitive map should take less heap than TreeMap with boxed keys and per-entry nodes, but took "
+                        + primitiveMapSize + " bytes against " + treeMapSize + " bytes for "
+                        + ENTITIES_COUNT + " entries");
+    }
+}
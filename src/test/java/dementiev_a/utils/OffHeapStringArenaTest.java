@@ -0,0 +1,54 @@
+package dementiev_a.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapStringArenaTest {
+    @Test
+    void testGet_WhenNullEmptyAndUnicodeAdded_ThenSameStringsReturned() {
+        OffHeapStringArena arena = new OffHeapStringArena();
+
+        long nullHandle = arena.add(null);
+        long emptyHandle = arena.add("");
+        long unicodeHandle = arena.add("F\u00eate de la musique \u2014 \u97f3\u697d");
+
+        assertNull(arena.get(nullHandle), "A null string should be returned as null");
+        assertEquals("", arena.get(emptyHandle), "An empty string should be returned as empty");
+        assertEquals("F\u00eate de la musique \u2014 \u97f3\u697d", arena.get(unicodeHandle),
+                "Non-ASCII text should survive the UTF-8 round trip");
+    }
+
+    @Test
+    void testAdd_WhenCapacityExceeded_ThenGrowsAndKeepsEarlierStrings() {
+        OffHeapStringArena arena = new OffHeapStringArena(16);
+        List<Long> handles = new ArrayList<>();
+
+        for (int day = 1; day <= 1000; day++) {
+            handles.add(arena.add("Anniversary day " + day));
+        }
+
+        assertTrue(arena.getCapacity() >= arena.getSize(), "The arena should grow to fit every added string");
+        assertEquals("Anniversary day 1", arena.get(handles.get(0)),
+                "Strings added before growing should still be readable");
+        assertEquals("Anniversary day 1000", arena.get(handles.get(999)),
+                "The last added string should be readable");
+    }
+
+    @Test
+    void testRelease_WhenMostBytesReleased_ThenCompactionDue() {
+        OffHeapStringArena arena = new OffHeapStringArena();
+        List<Long> handles = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            handles.add(arena.add("Description of the birthday party " + i));
+        }
+
+        assertFalse(arena.isCompactionDue(), "A fresh arena should not need compaction");
+        handles.subList(0, 9000).forEach(arena::release);
+
+        assertTrue(arena.isCompactionDue(), "Releasing most of the bytes should make compaction due");
+    }
+}
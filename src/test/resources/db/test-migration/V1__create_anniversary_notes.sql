@@ -0,0 +1,6 @@
+CREATE TABLE anniversary_notes (
+    id BIGINT PRIMARY KEY,
+    note VARCHAR(256),
+    date DATE
+);
+INSERT INTO anniversary_notes (id, note, date) VALUES (1, 'Buy flowers for the wedding anniversary', '2025-06-14');
@@ -0,0 +1,2 @@
+-- no-transaction
+CREATE INDEX CONCURRENTLY IF NOT EXISTS anniversary_notes_date_idx ON anniversary_notes (date);